@@ -33,6 +33,8 @@
 import org.spongepowered.api.plugin.PluginContainer;
 import org.spongepowered.api.scheduler.Task;
 
+import javax.annotation.Nullable;
+
 public final class SpongeTimings {
 
     public static final Timing playerListTimer = SpongeTimingsFactory.ofSafe("Player List");
@@ -43,6 +45,7 @@ public final class SpongeTimings {
     public static final Timing timeUpdateTimer = SpongeTimingsFactory.ofSafe("Time Update");
     public static final Timing serverCommandTimer = SpongeTimingsFactory.ofSafe("Server Command");
     public static final Timing worldSaveTimer = SpongeTimingsFactory.ofSafe("World Save");
+    public static final Timing sqlConnectionWaitTimer = SpongeTimingsFactory.ofSafe("SQL Connection Wait");
 
     public static final Timing tickEntityTimer = SpongeTimingsFactory.ofSafe("## tickEntity");
     public static final Timing tickTileEntityTimer = SpongeTimingsFactory.ofSafe("## tickTileEntity");
@@ -50,6 +53,8 @@ public final class SpongeTimings {
     public static final Timing processQueueTimer = SpongeTimingsFactory.ofSafe("processQueue");
 
     public static final Timing playerCommandTimer = SpongeTimingsFactory.ofSafe("playerCommand");
+    public static final Timing commandCompletionTimer = SpongeTimingsFactory.ofSafe("commandCompletion");
+    public static final Timing commandAliasCompletionTimer = SpongeTimingsFactory.ofSafe("Command Alias Completion", commandCompletionTimer);
 
     public static final Timing entityActivationCheckTimer = SpongeTimingsFactory.ofSafe("entityActivationCheck");
     public static final Timing checkIfActiveTimer = SpongeTimingsFactory.ofSafe("checkIfActive");
@@ -125,6 +130,30 @@ public static Timing getTileEntityTiming(TileEntity entity) {
         return SpongeTimingsFactory.ofSafe("Minecraft", "## tickTileEntity - " + entityType, tickTileEntityTimer);
     }
 
+    /**
+     * Get a named timer for executing the command with the specified alias.
+     *
+     * @param plugin The plugin owning the command, if known
+     * @param alias The alias of the command
+     * @return
+     */
+    public static Timing getCommandTiming(@Nullable PluginContainer plugin, String alias) {
+        return SpongeTimingsFactory.ofSafe(plugin != null ? plugin.getName() : "Minecraft", "Command: " + alias, playerCommandTimer);
+    }
+
+    /**
+     * Get a named timer for tab completing the arguments of the command with
+     * the specified alias.
+     *
+     * @param plugin The plugin owning the command, if known
+     * @param alias The alias of the command
+     * @return
+     */
+    public static Timing getCommandCompletionTiming(@Nullable PluginContainer plugin, String alias) {
+        return SpongeTimingsFactory.ofSafe(plugin != null ? plugin.getName() : "Minecraft", "Command Completion: " + alias,
+                commandCompletionTimer);
+    }
+
     public static Timing getModTimings(PluginContainer plugin, String context) {
         return SpongeTimingsFactory.ofSafe(plugin, context, true);
     }
@@ -42,11 +42,13 @@
 import org.spongepowered.api.command.source.ConsoleSource;
 import org.spongepowered.api.command.source.RconSource;
 import org.spongepowered.api.entity.EntityType;
+import org.spongepowered.api.service.sql.SqlService;
 import org.spongepowered.api.text.Text;
 import org.spongepowered.api.text.action.TextActions;
 import org.spongepowered.api.text.format.TextColors;
 import org.spongepowered.common.SpongeImpl;
 import org.spongepowered.common.entity.SpongeEntityType;
+import org.spongepowered.common.service.sql.SqlServiceImpl;
 
 import java.io.ByteArrayOutputStream;
 import java.io.IOException;
@@ -119,6 +121,15 @@ static void reportTimings(CommandSource sender) {
                     return JSONUtil.singleObjectPair(input.getName(), JSONUtil.arrayOf(input.getCollectionCount(), input.getCollectionTime()));
                 })));
 
+        // Connection pool usage, by pool name
+        Sponge.getServiceManager().provide(SqlService.class).filter(service -> service instanceof SqlServiceImpl).ifPresent(service -> {
+            builder.add("sqlpools", JSONUtil.mapArrayToObject(((SqlServiceImpl) service).getPools(), (pool) -> {
+                return JSONUtil.singleObjectPair(pool.getPoolName(), JSONUtil.arrayOf(pool.getActiveConnections(),
+                        pool.getIdleConnections(), pool.getTotalConnections(), pool.getThreadsAwaitingConnection(), pool.getConnectionRequests(),
+                        pool.getAverageWaitMillis(), pool.getMaxWaitMillis()));
+            }));
+        });
+
         Set<BlockType> blockTypeSet = Sets.newHashSet();
         Set<EntityType> entityTypeSet = Sets.newHashSet();
 
@@ -56,6 +56,9 @@ public class WorldTimingsHandler {
     public final Timing tracker2;
     public final Timing doTick;
     public final Timing tickEntities;
+    public final Timing itemMerge;
+    public final Timing lightingQueue;
+    public final Timing explosionBatch;
 
     // Chunk Load
     public final Timing syncChunkLoadTimer;
@@ -112,6 +115,9 @@ public WorldTimingsHandler(World world) {
         this.tracker2 = SpongeTimingsFactory.ofSafe(name + "tracker stage 2");
         this.doTick = SpongeTimingsFactory.ofSafe(name + "doTick");
         this.tickEntities = SpongeTimingsFactory.ofSafe(name + "tickEntities");
+        this.itemMerge = SpongeTimingsFactory.ofSafe(name + "itemMerge");
+        this.lightingQueue = SpongeTimingsFactory.ofSafe(name + "lightingQueue");
+        this.explosionBatch = SpongeTimingsFactory.ofSafe(name + "explosionBatch");
 
         this.causeTrackerBlockTimer = SpongeTimingsFactory.ofSafe(name + "causeTracker - BlockCaptures");
         this.causeTrackerBlockBreakTimer = SpongeTimingsFactory.ofSafe(name + "causeTracker - BlockBreakCaptures");
@@ -35,6 +35,7 @@
 import org.spongepowered.api.service.user.UserStorageService;
 import org.spongepowered.api.service.whitelist.WhitelistService;
 import org.spongepowered.api.util.annotation.NonnullByDefault;
+import org.spongepowered.common.command.AsyncSuggestionCommand;
 import org.spongepowered.common.command.SpongeCommand;
 import org.spongepowered.common.command.SpongeHelpCommand;
 import org.spongepowered.common.service.ban.SpongeBanService;
@@ -64,7 +65,7 @@ public static void initializeServices() {
     }
 
     public static void initializeCommands() {
-        Sponge.getCommandManager().register(SpongeImpl.getPlugin(), SpongeCommand.getCommand(), "sponge", "sp");
+        Sponge.getCommandManager().register(SpongeImpl.getPlugin(), new AsyncSuggestionCommand(SpongeCommand.getCommand()), "sponge", "sp");
         Sponge.getCommandManager().register(SpongeImpl.getPlugin(), SpongeHelpCommand.create(), "help", "?");
         Sponge.getCommandManager().register(SpongeImpl.getPlugin(), SpongeCallbackHolder.getInstance().createCommand(), SpongeCallbackHolder.CALLBACK_COMMAND);
     }
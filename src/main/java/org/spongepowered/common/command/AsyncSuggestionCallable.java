@@ -0,0 +1,48 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.common.command;
+
+import org.spongepowered.api.command.CommandCallable;
+
+/**
+ * A {@link CommandCallable} whose
+ * {@link CommandCallable#getSuggestions(org.spongepowered.api.command.CommandSource, String, org.spongepowered.api.world.Location)}
+ * is safe to call off the main thread.
+ *
+ * <p>Tab completions of players for the arguments of such commands are
+ * computed on the async scheduler, and the results are sent back from the
+ * main thread in a following tick. The permission of the player is checked
+ * on the main thread before the suggestions are computed, and the
+ * {@link org.spongepowered.api.event.command.TabCompleteEvent} is still
+ * posted on the main thread.</p>
+ *
+ * <p>This is internal to the implementation, plugins compile against the
+ * API only and cannot implement it. Only commands registered by the
+ * implementation can opt in, usually by being wrapped in an
+ * {@link AsyncSuggestionCommand}.</p>
+ */
+public interface AsyncSuggestionCallable extends CommandCallable {
+
+}
@@ -0,0 +1,88 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.common.command;
+
+import org.spongepowered.api.command.CommandCallable;
+import org.spongepowered.api.command.CommandException;
+import org.spongepowered.api.command.CommandResult;
+import org.spongepowered.api.command.CommandSource;
+import org.spongepowered.api.text.Text;
+import org.spongepowered.api.world.Location;
+import org.spongepowered.api.world.World;
+
+import java.util.List;
+import java.util.Optional;
+
+import javax.annotation.Nullable;
+
+/**
+ * Marks a command of the implementation as safe to complete off the main
+ * thread, by delegating to the command and implementing
+ * {@link AsyncSuggestionCallable}.
+ *
+ * <p>Only wrap commands whose arguments complete from state which may be
+ * read from any thread, like the loaded plugins, the registered dimension
+ * types and the world properties.</p>
+ */
+public class AsyncSuggestionCommand implements AsyncSuggestionCallable {
+
+    private final CommandCallable callable;
+
+    public AsyncSuggestionCommand(CommandCallable callable) {
+        this.callable = callable;
+    }
+
+    @Override
+    public CommandResult process(CommandSource source, String arguments) throws CommandException {
+        return this.callable.process(source, arguments);
+    }
+
+    @Override
+    public List<String> getSuggestions(CommandSource source, String arguments, @Nullable Location<World> targetPosition)
+            throws CommandException {
+        return this.callable.getSuggestions(source, arguments, targetPosition);
+    }
+
+    @Override
+    public boolean testPermission(CommandSource source) {
+        return this.callable.testPermission(source);
+    }
+
+    @Override
+    public Optional<Text> getShortDescription(CommandSource source) {
+        return this.callable.getShortDescription(source);
+    }
+
+    @Override
+    public Optional<Text> getHelp(CommandSource source) {
+        return this.callable.getHelp(source);
+    }
+
+    @Override
+    public Text getUsage(CommandSource source) {
+        return this.callable.getUsage(source);
+    }
+
+}
@@ -81,12 +81,16 @@
 import org.spongepowered.common.entity.EntityUtil;
 import org.spongepowered.common.interfaces.IMixinChunk;
 import org.spongepowered.common.interfaces.IMixinMinecraftServer;
+import org.spongepowered.common.interfaces.IMixinNetworkManager;
 import org.spongepowered.common.interfaces.entity.IMixinEntity;
 import org.spongepowered.common.interfaces.world.IMixinDimensionType;
 import org.spongepowered.common.interfaces.world.IMixinWorld;
 import org.spongepowered.common.interfaces.world.IMixinWorldServer;
+import org.spongepowered.common.interfaces.world.gen.IMixinChunkProviderServer;
 import org.spongepowered.common.mixin.core.world.MixinWorld;
 import org.spongepowered.common.util.SpongeHooks;
+import org.spongepowered.common.world.LightingQueue;
+import org.spongepowered.common.world.storage.UnloadedChunkCache;
 
 import java.io.File;
 import java.text.DecimalFormat;
@@ -122,6 +126,7 @@ public static CommandSpec getCommand() {
         nonFlagChildren.register(getHeapCommand(), "heap");
         nonFlagChildren.register(getPluginsCommand(), "plugins");
         nonFlagChildren.register(getTimingsCommand(), "timings");
+        nonFlagChildren.register(getNetworkCommand(), "network");
         flagChildren.register(getChunksCommand(), "chunks");
         flagChildren.register(getConfigCommand(), "config");
         flagChildren.register(getReloadCommand(), "reload"); // TODO: Should these two be subcommands of config, and what is now config be set?
@@ -138,6 +143,7 @@ INDENT, title("save"), LONG_INDENT, "Saves a global, dimension, or world config\
                         INDENT, title("version"), LONG_INDENT, "Prints current Sponge version\n",
                         INDENT, title("audit"), LONG_INDENT, "Audit mixin classes for implementation\n",
                         INDENT, title("plugins"), LONG_INDENT, "List currently installed plugins\n",
+                        INDENT, title("network"), LONG_INDENT, "Provides outbound packet data for online players\n",
                         INDENT, title("tps"), LONG_INDENT, "Provides TPS (ticks per second) data for loaded worlds"))
                 .arguments(firstParsing(nonFlagChildren, flags()
                         .flag("-global", "g")
@@ -267,7 +273,33 @@ protected Text getChunksInfo(WorldServer worldserver) {
                                 key("Entities: "), value(worldserver.loadedEntityList.size()), NEWLINE_TEXT,
                                 key("Tile Entities: "), value(worldserver.loadedTileEntityList.size()), NEWLINE_TEXT,
                                 key("Removed Entities:"), value(worldserver.unloadedEntityList.size()), NEWLINE_TEXT,
-                                key("Removed Tile Entities: "), value(worldserver.tileEntitiesToBeRemoved), NEWLINE_TEXT
+                                key("Removed Tile Entities: "), value(worldserver.tileEntitiesToBeRemoved), NEWLINE_TEXT,
+                                getLightingQueueInfo(worldserver),
+                                getUnloadedChunkCacheInfo(worldserver)
+                        );
+                    }
+
+                    protected Text getLightingQueueInfo(WorldServer worldserver) {
+                        if (!SpongeImpl.getGlobalConfig().getConfig().getOptimizations().useDeferredLighting()) {
+                            return Text.EMPTY;
+                        }
+                        final LightingQueue queue = ((IMixinWorldServer) worldserver).getLightingQueue();
+                        return Text.of(key("Queued light checks: "), value(queue.size()), NEWLINE_TEXT,
+                                key("Processed light checks: "), value(queue.getProcessedLastTick() + " last tick, "
+                                        + queue.getTotalProcessed() + " total"), NEWLINE_TEXT
+                        );
+                    }
+
+                    protected Text getUnloadedChunkCacheInfo(WorldServer worldserver) {
+                        final UnloadedChunkCache cache = ((IMixinChunkProviderServer) worldserver.getChunkProvider()).getUnloadedChunkCache();
+                        if (cache == null) {
+                            return Text.EMPTY;
+                        }
+                        return Text.of(key("Unloaded chunks: "), value(cache.getUnloadCount()), NEWLINE_TEXT,
+                                key("Reloaded chunks (within " + cache.getReloadWindow() + "s): "), value(cache.getReloadCount()), NEWLINE_TEXT,
+                                key("Unload cache: "), value(cache.isCachingChunkData()
+                                        ? cache.getCachedChunkCount() + " cached, " + cache.getHitCount() + " hits"
+                                        : "disabled"), NEWLINE_TEXT
                         );
                     }
                 })
@@ -613,6 +645,22 @@ private static CommandSpec getTpsCommand() {
                 .build();
     }
 
+    private static CommandSpec getNetworkCommand() {
+        return CommandSpec.builder()
+                .permission("sponge.command.network")
+                .description(Text.of("Provides the packets and bytes sent to each player in the last tick."))
+                .executor((src, args) -> {
+                    for (Player player : Sponge.getServer().getOnlinePlayers()) {
+                        final IMixinNetworkManager manager = (IMixinNetworkManager) ((EntityPlayerMP) player).connection.netManager;
+                        src.sendMessage(Text.of("Player [", TextColors.DARK_GREEN, player.getName(), TextColors.RESET, "] Packets: ",
+                                TextColors.LIGHT_PURPLE, manager.getPacketsLastTick(), TextColors.RESET, ", Bytes: ", TextColors.RED,
+                                manager.getBytesLastTick()));
+                    }
+                    return CommandResult.success();
+                })
+                .build();
+    }
+
     private static void printWorldTickTime(CommandSource src, World world) {
         final long[] worldTickTimes = ((IMixinMinecraftServer) SpongeImpl.getServer()).
                 getWorldTickTimes().get(((IMixinWorldServer) world).getDimensionId());
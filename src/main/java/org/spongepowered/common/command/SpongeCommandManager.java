@@ -28,9 +28,13 @@
 import static org.spongepowered.api.command.CommandMessageFormatting.error;
 import static org.spongepowered.api.util.SpongeApiTranslationHelper.t;
 
+import co.aikar.timings.SpongeTimings;
+import co.aikar.timings.Timing;
 import com.google.common.collect.HashMultimap;
 import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableMap;
 import com.google.common.collect.ImmutableSet;
+import com.google.common.collect.ImmutableSortedMap;
 import com.google.common.collect.Multimap;
 import org.slf4j.Logger;
 import org.spongepowered.api.Sponge;
@@ -56,6 +60,8 @@
 import org.spongepowered.api.util.TextMessageException;
 import org.spongepowered.api.world.Location;
 import org.spongepowered.api.world.World;
+import org.spongepowered.common.SpongeImpl;
+import org.spongepowered.common.scheduler.SpongeScheduler;
 
 import java.io.PrintWriter;
 import java.io.StringWriter;
@@ -63,10 +69,14 @@
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.HashMap;
 import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.CompletableFuture;
 import java.util.function.Function;
 
 import javax.annotation.Nullable;
@@ -82,6 +92,27 @@ public class SpongeCommandManager implements CommandManager {
     private final Multimap<PluginContainer, CommandMapping> owners = HashMultimap.create();
     private final Object lock = new Object();
 
+    /**
+     * Rebuilt lazily after the registered commands changed, and safe to read
+     * from any thread.
+     */
+    @Nullable private volatile AliasIndex aliasIndex;
+
+    private static final class AliasIndex {
+
+        /**
+         * All aliases of the dispatcher in sorted order, used to look up
+         * aliases by prefix.
+         */
+        final ImmutableSortedMap<String, Collection<CommandMapping>> aliases;
+        final ImmutableMap<CommandMapping, PluginContainer> owners;
+
+        AliasIndex(ImmutableSortedMap<String, Collection<CommandMapping>> aliases, ImmutableMap<CommandMapping, PluginContainer> owners) {
+            this.aliases = aliases;
+            this.owners = owners;
+        }
+    }
+
     /**
      * Construct a simple {@link CommandManager}.
      *
@@ -147,6 +178,7 @@ public Optional<CommandMapping> register(Object plugin, CommandCallable callable
 
             if (mapping.isPresent()) {
                 this.owners.put(container, mapping.get());
+                this.aliasIndex = null;
             }
 
             return mapping;
@@ -160,6 +192,7 @@ public Optional<CommandMapping> removeMapping(CommandMapping mapping) {
 
             if (removed.isPresent()) {
                 forgetMapping(removed.get());
+                this.aliasIndex = null;
             }
 
             return removed;
@@ -176,6 +209,43 @@ private void forgetMapping(CommandMapping mapping) {
         }
     }
 
+    private AliasIndex getAliasIndex() {
+        AliasIndex aliasIndex = this.aliasIndex;
+        if (aliasIndex == null) {
+            synchronized (this.lock) {
+                aliasIndex = this.aliasIndex;
+                if (aliasIndex == null) {
+                    final Map<CommandMapping, PluginContainer> owners = new HashMap<>();
+                    for (Map.Entry<PluginContainer, CommandMapping> entry : this.owners.entries()) {
+                        owners.put(entry.getValue(), entry.getKey());
+                    }
+                    this.aliasIndex = aliasIndex = new AliasIndex(ImmutableSortedMap.copyOfSorted(new TreeMap<>(this.dispatcher.getAll().asMap())),
+                            ImmutableMap.copyOf(owners));
+                }
+            }
+        }
+        return aliasIndex;
+    }
+
+    /**
+     * Gets the aliases starting with the given prefix, ignoring case, and
+     * the mappings registered for them.
+     *
+     * @param prefix The prefix of the aliases
+     * @return The matching aliases, in sorted order
+     */
+    public Map<String, Collection<CommandMapping>> getAliasesStartingWith(String prefix) {
+        final String lowerPrefix = prefix.toLowerCase();
+        return getAliasIndex().aliases.subMap(lowerPrefix, true, lowerPrefix + Character.MAX_VALUE, false);
+    }
+
+    @Nullable
+    private PluginContainer getOwner(String alias) {
+        final AliasIndex aliasIndex = getAliasIndex();
+        final Collection<CommandMapping> mappings = aliasIndex.aliases.get(alias.toLowerCase());
+        return mappings == null || mappings.isEmpty() ? null : aliasIndex.owners.get(mappings.iterator().next());
+    }
+
     @Override
     public Set<PluginContainer> getPluginContainers() {
         synchronized (this.lock) {
@@ -259,6 +329,8 @@ public CommandResult process(CommandSource source, String commandLine) {
             commandLine = commandLine + ' ' + event.getArguments();
         }
 
+        final Timing timing = SpongeTimings.getCommandTiming(getOwner(argSplit[0]), argSplit[0].toLowerCase());
+        timing.startTimingIfSync();
         try {
             try {
                 return this.dispatcher.process(source, commandLine);
@@ -303,26 +375,111 @@ public CommandResult process(CommandSource source, String commandLine) {
             source.sendMessage(error(t("Error occurred while executing command: %s", excBuilder.build())));
             this.log.error(TextSerializers.PLAIN.serialize(t("Error occurred while executing command '%s' for source %s: %s", commandLine, source.toString(), String
                     .valueOf(thr.getMessage()))), thr);
+        } finally {
+            timing.stopTimingIfSync();
         }
         return CommandResult.empty();
     }
 
     @Override
     public List<String> getSuggestions(CommandSource src, String arguments, @Nullable Location<World> targetPosition) {
-        try {
-            final String[] argSplit = arguments.split(" ", 2);
-            List<String> suggestions = new ArrayList<>(this.dispatcher.getSuggestions(src, arguments, targetPosition));
-            final TabCompleteEvent.Command event = SpongeEventFactory.createTabCompleteEventCommand(Cause.source(src).build(),
-                    ImmutableList.copyOf(suggestions), suggestions, argSplit.length > 1 ? argSplit[1] : "", argSplit[0], arguments);
-            Sponge.getGame().getEventManager().post(event);
-            if (event.isCancelled()) {
-                return ImmutableList.of();
-            } else {
-                return ImmutableList.copyOf(event.getTabCompletions());
+        final String[] argSplit = arguments.split(" ", 2);
+        final List<String> suggestions;
+        if (argSplit.length == 1) {
+            suggestions = new ArrayList<>();
+            SpongeTimings.commandAliasCompletionTimer.startTimingIfSync();
+            try {
+                for (Map.Entry<String, Collection<CommandMapping>> entry : getAliasesStartingWith(argSplit[0]).entrySet()) {
+                    for (CommandMapping mapping : entry.getValue()) {
+                        if (mapping.getCallable().testPermission(src)) {
+                            suggestions.add(entry.getKey());
+                            break;
+                        }
+                    }
+                }
+            } finally {
+                SpongeTimings.commandAliasCompletionTimer.stopTimingIfSync();
+            }
+        } else {
+            final Timing timing = SpongeTimings.getCommandCompletionTiming(getOwner(argSplit[0]), argSplit[0].toLowerCase());
+            timing.startTimingIfSync();
+            try {
+                suggestions = new ArrayList<>(this.dispatcher.getSuggestions(src, arguments, targetPosition));
+            } catch (CommandException e) {
+                src.sendMessage(error(t("Error getting suggestions: %s", e.getText())));
+                return Collections.emptyList();
+            } finally {
+                timing.stopTimingIfSync();
             }
-        } catch (CommandException e) {
-            src.sendMessage(error(t("Error getting suggestions: %s", e.getText())));
-            return Collections.emptyList();
+        }
+        return postTabCompleteEvent(src, arguments, suggestions);
+    }
+
+    /**
+     * Computes the suggestions for the arguments of a command on the async
+     * scheduler, if the command is an {@link AsyncSuggestionCallable}. May be
+     * called from any thread.
+     *
+     * <p>The permission of the source for the command is checked on the main
+     * thread first, the suggestions are only computed if it passes. The
+     * returned future completes off the main thread with the raw suggestions
+     * of the command, which must be passed to
+     * {@link #completeAsyncSuggestions} on the main thread.</p>
+     *
+     * @param src The source to complete for
+     * @param arguments The arguments entered, including the command alias
+     * @param targetPosition The position the source is looking at
+     * @return The pending suggestions, or empty if the suggestions must be
+     *     computed on the main thread
+     */
+    public Optional<CompletableFuture<List<String>>> getSuggestionsAsync(CommandSource src, String arguments,
+            @Nullable Location<World> targetPosition) {
+        final String[] argSplit = arguments.split(" ", 2);
+        if (argSplit.length == 1) {
+            return Optional.empty();
+        }
+        final Collection<CommandMapping> mappings = getAliasIndex().aliases.get(argSplit[0].toLowerCase());
+        if (mappings == null || mappings.size() != 1) {
+            // Let the dispatcher disambiguate on the main thread
+            return Optional.empty();
+        }
+        final CommandCallable callable = mappings.iterator().next().getCallable();
+        if (!(callable instanceof AsyncSuggestionCallable)) {
+            return Optional.empty();
+        }
+        final CompletableFuture<Boolean> permitted = CompletableFuture.supplyAsync(() -> callable.testPermission(src),
+                task -> SpongeImpl.getServer().addScheduledTask(task));
+        return Optional.of(permitted.thenCompose(hasPermission -> hasPermission
+                ? SpongeScheduler.getInstance().submitAsyncTask(() -> callable.getSuggestions(src, argSplit[1], targetPosition))
+                : CompletableFuture.completedFuture(Collections.<String>emptyList())));
+    }
+
+    /**
+     * Completes suggestions computed by {@link #getSuggestionsAsync}. Must be
+     * called on the main thread.
+     *
+     * @param src The source to complete for
+     * @param arguments The arguments entered, including the command alias
+     * @param suggestions The suggestions of the command
+     * @return The suggestions to send to the source
+     */
+    public List<String> completeAsyncSuggestions(CommandSource src, String arguments, List<String> suggestions) {
+        final Optional<? extends CommandMapping> mapping = this.dispatcher.get(arguments.split(" ", 2)[0], src);
+        if (!mapping.isPresent() || !mapping.get().getCallable().testPermission(src)) {
+            return ImmutableList.of();
+        }
+        return postTabCompleteEvent(src, arguments, new ArrayList<>(suggestions));
+    }
+
+    private List<String> postTabCompleteEvent(CommandSource src, String arguments, List<String> suggestions) {
+        final String[] argSplit = arguments.split(" ", 2);
+        final TabCompleteEvent.Command event = SpongeEventFactory.createTabCompleteEventCommand(Cause.source(src).build(),
+                ImmutableList.copyOf(suggestions), suggestions, argSplit.length > 1 ? argSplit[1] : "", argSplit[0], arguments);
+        Sponge.getGame().getEventManager().post(event);
+        if (event.isCancelled()) {
+            return ImmutableList.of();
+        } else {
+            return ImmutableList.copyOf(event.getTabCompletions());
         }
     }
 
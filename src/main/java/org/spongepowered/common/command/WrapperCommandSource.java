@@ -29,6 +29,7 @@
 import net.minecraft.command.ICommandSender;
 import org.spongepowered.api.command.CommandMapping;
 import org.spongepowered.api.command.CommandSource;
+import org.spongepowered.api.service.context.Context;
 import org.spongepowered.api.world.Locatable;
 import org.spongepowered.api.service.permission.MemorySubjectData;
 import org.spongepowered.api.service.permission.PermissionService;
@@ -47,6 +48,7 @@
 import org.spongepowered.common.util.VecHelper;
 
 import java.util.Optional;
+import java.util.Set;
 
 public class WrapperCommandSource extends SpongeSubject implements CommandSource {
 
@@ -93,6 +95,12 @@ public MemorySubjectData getSubjectData() {
         return this.data;
     }
 
+    @Override
+    public Tristate getPermissionValue(Set<Context> contexts, String permission) {
+        // Plain memory data does not invalidate resolved permissions, and wrappers are short-lived anyway
+        return resolvePermissionValue(permission);
+    }
+
     @Override
     public String getName() {
         return this.sender.getName();
@@ -46,6 +46,51 @@ public class OptimizationCategory extends ConfigCategory {
     @Setting(value = "drops-pre-merge", comment = PRE_MERGE_COMMENT)
     private boolean preItemDropMerge = true;
 
+    @Setting(value = "broadcast-packet-encoding", comment = "If enabled, chat, title and boss bar packets sent to many players are only \n"
+                                                            + "serialized once instead of once for every player.")
+    private boolean broadcastPacketEncoding = true;
+
+    @Setting(value = "outbound-packet-batching", comment = "If enabled, packets sent to players during a tick are written without flushing \n"
+                                                           + "and flushed once at the end of the tick, or when the batch size is reached. \n"
+                                                           + "Keep-alive and disconnect packets are always flushed immediately.")
+    private boolean outboundPacketBatching = false;
+
+    @Setting(value = "outbound-packet-batch-size", comment = "The number of encoded bytes written to a connection before it is flushed mid tick. \n"
+                                                             + "0 only flushes at the end of the tick.")
+    private int outboundPacketBatchSize = 32768;
+
+    @Setting(value = "inventory-item-index", comment = "If enabled, inventories keep an index of their slots by item type which is used \n"
+                                                       + "by contains and query checks for item types instead of scanning every slot.")
+    private boolean inventoryItemIndex = false;
+
+    @Setting(value = "world-item-merge-pass", comment = "If enabled, item entities are merged by a single pass over each world once per tick \n"
+                                                        + "instead of every item searching for nearby items on its own.")
+    private boolean worldItemMergePass = false;
+
+    @Setting(value = "profile-cache-write-behind", comment = "If enabled, usercache.json is written on a background thread instead of on \n"
+                                                             + "the thread that changed the profile cache, and the cache is limited \n"
+                                                             + "to 'profile-cache-max-size' profiles, dropping the least recently used.")
+    private boolean profileCacheWriteBehind = false;
+
+    @Setting(value = "profile-cache-max-size", comment = "The number of profiles kept in memory when 'profile-cache-write-behind' is enabled.")
+    private int profileCacheMaxSize = 10000;
+
+    @Setting(value = "deferred-lighting", comment = "If enabled, light updates caused by block changes are queued per chunk section \n"
+                                                    + "and processed together at the end of the world tick. The updates near a \n"
+                                                    + "chunk are processed before it is first sent to players or unloaded.")
+    private boolean deferredLighting = false;
+
+    @Setting(value = "deferred-lighting-budget", comment = "The time in milliseconds a world may spend on queued light updates each tick when \n"
+                                                           + "'deferred-lighting' is enabled. Updates left over are processed in the \n"
+                                                           + "following ticks. 0 processes all queued updates every tick.")
+    private int deferredLightingBudget = 0;
+
+    @Setting(value = "explosion-batching", comment = "If enabled, explosions read blocks straight from the chunk sections and the blocks \n"
+                                                     + "they destroy are removed together at the end of the world tick. Overlapping \n"
+                                                     + "explosions fire a single detonate event. Particles of single destroyed blocks \n"
+                                                     + "are not shown.")
+    private boolean explosionBatching = false;
+
     public boolean useIgnoreUloadedChunkLightingPatch() {
         return this.ignoreUnloadedChunkLighting;
     }
@@ -58,4 +103,44 @@ public boolean doDropsPreMergeItemDrops() {
         return this.preItemDropMerge;
     }
 
-}
\ No newline at end of file
+    public boolean useBroadcastPacketEncoding() {
+        return this.broadcastPacketEncoding;
+    }
+
+    public boolean useOutboundPacketBatching() {
+        return this.outboundPacketBatching;
+    }
+
+    public int getOutboundPacketBatchSize() {
+        return this.outboundPacketBatchSize;
+    }
+
+    public boolean useInventoryItemIndex() {
+        return this.inventoryItemIndex;
+    }
+
+    public boolean useWorldItemMergePass() {
+        return this.worldItemMergePass;
+    }
+
+    public boolean useProfileCacheWriteBehind() {
+        return this.profileCacheWriteBehind;
+    }
+
+    public int getProfileCacheMaxSize() {
+        return this.profileCacheMaxSize;
+    }
+
+    public boolean useDeferredLighting() {
+        return this.deferredLighting;
+    }
+
+    public int getDeferredLightingBudget() {
+        return this.deferredLightingBudget;
+    }
+
+    public boolean useExplosionBatching() {
+        return this.explosionBatching;
+    }
+
+}
@@ -36,7 +36,22 @@ public class SqlCategory extends ConfigCategory {
     @Setting(comment = "Aliases for SQL connections, in the format jdbc:protocol://[username[:password]@]host/database")
     private Map<String, String> aliases = new HashMap<>();
 
+    @Setting(value = "pool", comment = "The default settings for connection pools")
+    private SqlPoolCategory pool = new SqlPoolCategory();
+
+    @Setting(value = "plugin-pools", comment = "Pool settings for specific plugins, by plugin id. These replace the default settings \n"
+                                               + "for the plugin's connections.")
+    private Map<String, SqlPoolCategory> pluginPools = new HashMap<>();
+
     public Map<String, String> getAliases() {
         return this.aliases;
     }
+
+    public SqlPoolCategory getPool() {
+        return this.pool;
+    }
+
+    public Map<String, SqlPoolCategory> getPluginPools() {
+        return this.pluginPools;
+    }
 }
\ No newline at end of file
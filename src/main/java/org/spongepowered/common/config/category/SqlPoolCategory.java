@@ -0,0 +1,90 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.common.config.category;
+
+import ninja.leaping.configurate.objectmapping.Setting;
+import ninja.leaping.configurate.objectmapping.serialize.ConfigSerializable;
+
+@ConfigSerializable
+public class SqlPoolCategory extends ConfigCategory {
+
+    @Setting(value = "maximum-pool-size", comment = "The maximum number of connections in a pool. Plugins connecting to the same database \n"
+                                                    + "with the same pool settings share one pool. 0 uses twice the number of processors plus one.")
+    private int maximumPoolSize = 0;
+
+    @Setting(value = "plugin-connection-limit", comment = "The maximum number of connections a single plugin may borrow from a shared pool \n"
+                                                          + "at once. 0 only limits plugins to the pool size.")
+    private int pluginConnectionLimit = 0;
+
+    @Setting(value = "connection-timeout", comment = "The time in milliseconds to wait for a connection before giving up.")
+    private long connectionTimeout = 30000;
+
+    @Setting(value = "idle-pool-timeout", comment = "The time in seconds a pool without borrowed connections is kept open before \n"
+                                                    + "it is closed. It is opened again when it is next used. 0 keeps pools open.")
+    private int idlePoolTimeout = 600;
+
+    @Setting(value = "statement-cache-size", comment = "The number of prepared statements cached per connection, for drivers that \n"
+                                                       + "support it (MySQL and MariaDB). 0 disables the cache.")
+    private int statementCacheSize = 250;
+
+    @Setting(value = "statement-cache-sql-limit", comment = "The maximum length of a statement's SQL for it to be cached.")
+    private int statementCacheSqlLimit = 2048;
+
+    public int getMaximumPoolSize() {
+        return this.maximumPoolSize;
+    }
+
+    public int getPluginConnectionLimit() {
+        return this.pluginConnectionLimit;
+    }
+
+    public void setPluginConnectionLimit(int limit) {
+        this.pluginConnectionLimit = limit;
+    }
+
+    public long getConnectionTimeout() {
+        return this.connectionTimeout;
+    }
+
+    public void setConnectionTimeout(long timeout) {
+        this.connectionTimeout = timeout;
+    }
+
+    public int getIdlePoolTimeout() {
+        return this.idlePoolTimeout;
+    }
+
+    public void setIdlePoolTimeout(int timeout) {
+        this.idlePoolTimeout = timeout;
+    }
+
+    public int getStatementCacheSize() {
+        return this.statementCacheSize;
+    }
+
+    public int getStatementCacheSqlLimit() {
+        return this.statementCacheSqlLimit;
+    }
+}
@@ -85,6 +85,20 @@ public class WorldCategory extends ConfigCategory {
                                                           + "\nDisabled by default.")
     private int chunkGCLoadThreshold = 0;
 
+    @Setting(value = "chunk-unload-cache-size", comment = "The maximum number of recently unloaded chunks to keep in memory. When a chunk"
+                                                          + "\nis loaded again shortly after unloading, it will be read from this cache instead"
+                                                          + "\nof its region file. Each cached chunk usually takes between 10 and 50 KB."
+                                                          + "\nSet to 0 to disable. Disabled by default.")
+    private int chunkUnloadCacheSize = 0;
+
+    @Setting(value = "chunk-unload-cache-expiry", comment = "The number of seconds a recently unloaded chunk is kept in the unload cache. (Default: 30)")
+    private int chunkUnloadCacheExpiry = 30;
+
+    @Setting(value = "chunk-reload-window", comment = "The number of seconds after unloading in which loading a chunk again is counted as a reload."
+                                                      + "\nReload counts are shown in '/sponge chunks' and help with tuning view distance"
+                                                      + "\nand chunk unload settings. (Default: 30)")
+    private int chunkReloadWindow = 30;
+
     @Setting(value = "item-merge-radius", comment = "The defined merge radius for Item entities such that when two items are"
                                                     + "\nwithin the defined radius of each other, they will attempt to merge. Usually,"
                                                     + "\nthe default radius is set to 0.5 in Vanilla, however, for performance reasons"
@@ -189,6 +203,18 @@ public int getChunkLoadThreadhold() {
         return this.chunkGCLoadThreshold;
     }
 
+    public int getChunkUnloadCacheSize() {
+        return this.chunkUnloadCacheSize;
+    }
+
+    public int getChunkUnloadCacheExpiry() {
+        return this.chunkUnloadCacheExpiry;
+    }
+
+    public int getChunkReloadWindow() {
+        return this.chunkReloadWindow;
+    }
+
     public int getMaxChunkUnloads() {
         return this.maxChunkUnloads;
     }
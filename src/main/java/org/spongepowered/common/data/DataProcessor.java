@@ -57,6 +57,31 @@
 
     boolean supports(EntityType entityType);
 
+    /**
+     * Checks if this processor may support {@link DataHolder}s of the given
+     * class. Returning {@code false} means that {@link #supports(DataHolder)}
+     * is {@code false} for every holder of the class, which allows the result
+     * to be memoized per holder class.
+     *
+     * @param holderClass The runtime class of the data holder
+     * @return True if holders of the class may be supported
+     */
+    default boolean supportsHolderClass(Class<?> holderClass) {
+        return true;
+    }
+
+    /**
+     * Gets whether {@link #supports(DataHolder)} depends on the holder
+     * instance instead of only its class. If {@code false}, every holder of a
+     * class accepted by {@link #supportsHolderClass(Class)} is supported and
+     * {@link #supports(DataHolder)} will not be called for it.
+     *
+     * @return True if support is determined per holder instance
+     */
+    default boolean isInstanceDependent() {
+        return true;
+    }
+
     /**
      * Attempts to get the given {@link DataManipulator} of type {@code T} if
      * and only if the manipulator's required data exists from the
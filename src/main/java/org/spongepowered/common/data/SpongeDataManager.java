@@ -53,6 +53,8 @@
 import org.spongepowered.common.config.DataSerializableTypeSerializer;
 import org.spongepowered.common.data.builder.manipulator.SpongeDataManipulatorBuilder;
 import org.spongepowered.common.data.builder.manipulator.SpongeImmutableDataManipulatorBuilder;
+import org.spongepowered.common.data.key.KeyRegistry;
+import org.spongepowered.common.data.key.SpongeKey;
 import org.spongepowered.common.data.processor.common.AbstractSingleDataSingleTargetProcessor;
 import org.spongepowered.common.data.util.ComparatorUtil;
 import org.spongepowered.common.data.util.DataFunction;
@@ -68,6 +70,8 @@
 import java.util.Optional;
 import java.util.concurrent.CopyOnWriteArrayList;
 
+import javax.annotation.Nullable;
+
 public final class SpongeDataManager implements DataManager {
     static {
         TypeSerializers.getDefaultSerializers().registerType(TypeToken.of(DataSerializable.class), new DataSerializableTypeSerializer());
@@ -104,6 +108,8 @@ public final class SpongeDataManager implements DataManager {
     // Processor delegates
 
     private final Map<Key<? extends BaseValue<?>>, ValueProcessorDelegate<?, ?>> valueDelegates = new IdentityHashMap<>();
+    // Indexed by key ordinal, see KeyRegistry#getOrdinal
+    private ValueProcessorDelegate<?, ?>[] valueDelegateTable = new ValueProcessorDelegate<?, ?>[0];
     private final Map<Class<? extends DataManipulator<?, ?>>, DataProcessorDelegate<?, ?>> dataProcessorDelegates =  new IdentityHashMap<>();
     private final Map<Class<? extends ImmutableDataManipulator<?, ?>>, DataProcessorDelegate<?, ?>> immutableDataProcessorDelegates =  new IdentityHashMap<>();
     private final Map<Class<? extends DataManipulator<?, ?>>, Class<? extends DataManipulator<?, ?>>> interfaceToImplDataManipulatorClasses = new IdentityHashMap<>();
@@ -235,6 +241,15 @@ public static void finalizeRegistration() {
             registry.valueDelegates.put(entry.getKey(), delegate);
         });
         registry.valueProcessorMap.clear();
+        KeyRegistry.finalizeKeys(registry.valueDelegates.keySet());
+        final ValueProcessorDelegate<?, ?>[] valueDelegateTable = new ValueProcessorDelegate<?, ?>[KeyRegistry.getKeyCount()];
+        registry.valueDelegates.forEach((key, delegate) -> {
+            final int ordinal = KeyRegistry.getOrdinal(key);
+            if (ordinal >= 0) {
+                valueDelegateTable[ordinal] = delegate;
+            }
+        });
+        registry.valueDelegateTable = valueDelegateTable;
         registry.processorMap.entrySet().forEach(entry -> {
             ImmutableList.Builder<DataProcessor<?, ?>> dataListBuilder = ImmutableList.builder();
             Collections.sort(entry.getValue(), ComparatorUtil.DATA_PROCESSOR_COMPARATOR);
@@ -459,18 +474,30 @@ public <E, V extends BaseValue<E>> void registerValueProcessor(Key<V> key, Value
         processorList.add(valueProcessor);
     }
 
+    @Nullable
+    private ValueProcessorDelegate<?, ?> getValueDelegate(Key<?> key) {
+        if (key instanceof SpongeKey) {
+            final int ordinal = ((SpongeKey<?, ?>) key).getOrdinal();
+            final ValueProcessorDelegate<?, ?>[] valueDelegateTable = this.valueDelegateTable;
+            if (ordinal >= 0 && ordinal < valueDelegateTable.length) {
+                return valueDelegateTable[ordinal];
+            }
+        }
+        return this.valueDelegates.get(key);
+    }
+
     @SuppressWarnings("unchecked")
     public <E, V extends BaseValue<E>> Optional<ValueProcessor<E, V>> getValueProcessor(Key<V> key) {
-        return Optional.ofNullable((ValueProcessor<E, V>) this.valueDelegates.get(key));
+        return Optional.ofNullable((ValueProcessor<E, V>) getValueDelegate(key));
     }
 
     public Optional<ValueProcessor<?, ?>> getWildValueProcessor(Key<?> key) {
-        return Optional.ofNullable(this.valueDelegates.get(key));
+        return Optional.ofNullable(getValueDelegate(key));
     }
 
     @SuppressWarnings("unchecked")
     public <E> Optional<ValueProcessor<E, ? extends BaseValue<E>>> getBaseValueProcessor(Key<? extends BaseValue<E>> key) {
-        return Optional.ofNullable((ValueProcessor<E, ? extends BaseValue<E>>) this.valueDelegates.get(key));
+        return Optional.ofNullable((ValueProcessor<E, ? extends BaseValue<E>>) getValueDelegate(key));
     }
 
 }
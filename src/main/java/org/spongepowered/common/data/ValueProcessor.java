@@ -139,6 +139,31 @@
      */
     boolean supports(ValueContainer<?> container);
 
+    /**
+     * Checks if this processor may support {@link ValueContainer}s of the
+     * given class. Returning {@code false} means that
+     * {@link #supports(ValueContainer)} is {@code false} for every container
+     * of the class, which allows the result to be memoized per class.
+     *
+     * @param holderClass The runtime class of the value container
+     * @return True if containers of the class may be supported
+     */
+    default boolean supportsHolderClass(Class<?> holderClass) {
+        return true;
+    }
+
+    /**
+     * Gets whether {@link #supports(ValueContainer)} depends on the container
+     * instance instead of only its class. If {@code false}, every container
+     * of a class accepted by {@link #supportsHolderClass(Class)} is
+     * supported.
+     *
+     * @return True if support is determined per container instance
+     */
+    default boolean isInstanceDependent() {
+        return true;
+    }
+
     /**
      * Offers the provided {@link BaseValue} containing a value of the
      * appropriate value type of this {@link ValueProcessor} to offer
@@ -25,11 +25,6 @@
 package org.spongepowered.common.data.key;
 
 import static org.spongepowered.api.data.DataQuery.of;
-import static org.spongepowered.api.data.key.KeyFactory.makeListKey;
-import static org.spongepowered.api.data.key.KeyFactory.makeMapKey;
-import static org.spongepowered.api.data.key.KeyFactory.makeOptionalKey;
-import static org.spongepowered.api.data.key.KeyFactory.makeSetKey;
-import static org.spongepowered.api.data.key.KeyFactory.makeSingleKey;
 
 import com.flowpowered.math.vector.Vector3d;
 import com.google.common.collect.MapMaker;
@@ -79,10 +74,15 @@
 import org.spongepowered.api.data.type.StoneType;
 import org.spongepowered.api.data.type.TreeType;
 import org.spongepowered.api.data.type.WallType;
+import org.spongepowered.api.data.value.BaseValue;
 import org.spongepowered.api.data.value.BoundedValue;
 import org.spongepowered.api.data.value.immutable.ImmutableBoundedValue;
+import org.spongepowered.api.data.value.mutable.ListValue;
+import org.spongepowered.api.data.value.mutable.MapValue;
 import org.spongepowered.api.data.value.mutable.MutableBoundedValue;
+import org.spongepowered.api.data.value.mutable.OptionalValue;
 import org.spongepowered.api.data.value.mutable.PatternListValue;
+import org.spongepowered.api.data.value.mutable.SetValue;
 import org.spongepowered.api.data.value.mutable.Value;
 import org.spongepowered.api.effect.potion.PotionEffect;
 import org.spongepowered.api.effect.potion.PotionEffectType;
@@ -103,13 +103,17 @@
 
 import java.awt.Color;
 import java.time.Instant;
+import java.util.Collection;
 import java.util.List;
 import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
 import java.util.UUID;
 
 public class KeyRegistry {
 
     private static final Map<String, Key<?>> keyMap = new MapMaker().concurrencyLevel(4).makeMap();
+    private static volatile int keyCount;
 
     public static void registerKeys() {
         generateKeyMap();
@@ -323,24 +327,85 @@ private static void generateKeyMap() {
         keyMap.put("glowing", makeSingleKey(Boolean.class, Value.class, of("Glowing")));
     }
 
+    /**
+     * Assigns every known {@link SpongeKey} a dense ordinal, starting from
+     * zero. Keys are a closed set once data registration is finalized, so the
+     * ordinal can be used to index flat lookup tables. Keys created through
+     * the API {@link org.spongepowered.api.data.key.KeyFactory} have no
+     * ordinal.
+     *
+     * @param keys Additional keys that may not have been registered here
+     */
+    public static synchronized void finalizeKeys(Collection<? extends Key<?>> keys) {
+        int count = keyCount;
+        for (Key<?> key : keyMap.values()) {
+            count = assignOrdinal(key, count);
+        }
+        for (Key<?> key : keys) {
+            count = assignOrdinal(key, count);
+        }
+        keyCount = count;
+    }
+
+    private static int assignOrdinal(Key<?> key, int ordinal) {
+        if (key instanceof SpongeKey && ((SpongeKey<?, ?>) key).getOrdinal() < 0) {
+            ((SpongeKey<?, ?>) key).setOrdinal(ordinal);
+            return ordinal + 1;
+        }
+        return ordinal;
+    }
+
+    /**
+     * Gets the ordinal assigned to the {@link Key} by
+     * {@link #finalizeKeys(Collection)}.
+     *
+     * @param key The key
+     * @return The ordinal, or -1 if the key has no ordinal
+     */
+    public static int getOrdinal(Key<?> key) {
+        return key instanceof SpongeKey ? ((SpongeKey<?, ?>) key).getOrdinal() : -1;
+    }
+
+    public static int getKeyCount() {
+        return keyCount;
+    }
+
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    private static <E, T extends BaseValue<E>> Key<T> makeSingleKey(Class<E> elementClass, Class<? extends BaseValue> valueClass, DataQuery query) {
+        return new SpongeKey<>(elementClass, (Class<T>) valueClass, query);
+    }
+
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    private static <E> Key<ListValue<E>> makeListKey(Class<E> elementClass, DataQuery query) {
+        return new SpongeKey<>((Class<List<E>>) (Class) List.class, (Class<ListValue<E>>) (Class) ListValue.class, query);
+    }
+
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    private static <E> Key<SetValue<E>> makeSetKey(Class<E> elementClass, DataQuery query) {
+        return new SpongeKey<>((Class<Set<E>>) (Class) Set.class, (Class<SetValue<E>>) (Class) SetValue.class, query);
+    }
+
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    private static <K, V> Key<MapValue<K, V>> makeMapKey(Class<K> keyClass, Class<V> valueClass, DataQuery query) {
+        return new SpongeKey<>((Class<Map<K, V>>) (Class) Map.class, (Class<MapValue<K, V>>) (Class) MapValue.class, query);
+    }
+
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    private static <E> Key<OptionalValue<E>> makeOptionalKey(Class<E> elementClass, DataQuery query) {
+        return new SpongeKey<>((Class<Optional<E>>) (Class) Optional.class, (Class<OptionalValue<E>>) (Class) OptionalValue.class, query);
+    }
+
     @SuppressWarnings("unused") // Used in DataTestUtil.generateKeyMap
     private static Map<String, Key<?>> getKeyMap() {
         generateKeyMap();
         return keyMap;
     }
 
-    private static final class PatternKey implements Key<PatternListValue> {
-        PatternKey() {
-        }
-
-        @Override
-        public Class<PatternListValue> getValueClass() {
-            return PatternListValue.class;
-        }
+    private static final class PatternKey extends SpongeKey<List<PatternLayer>, PatternListValue> {
 
-        @Override
-        public DataQuery getQuery() {
-            return of("BannerPatterns");
+        @SuppressWarnings({"unchecked", "rawtypes"})
+        PatternKey() {
+            super((Class<List<PatternLayer>>) (Class) List.class, PatternListValue.class, of("BannerPatterns"));
         }
     }
 }
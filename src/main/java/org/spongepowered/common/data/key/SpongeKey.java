@@ -35,6 +35,8 @@
 
     private final Class<V> valueClass;
     private final DataQuery query;
+    // Assigned by KeyRegistry#finalizeKeys
+    private int ordinal = -1;
 
     public SpongeKey(Class<E> elementClass, Class<V> valueClass, DataQuery query) {
         this.valueClass = checkNotNull(valueClass);
@@ -42,6 +44,19 @@ public SpongeKey(Class<E> elementClass, Class<V> valueClass, DataQuery query) {
         this.query = query;
     }
 
+    /**
+     * Gets the dense ordinal of this key, used to index flat lookup tables.
+     *
+     * @return The ordinal, or -1 if data registration is not finalized yet
+     */
+    public int getOrdinal() {
+        return this.ordinal;
+    }
+
+    void setOrdinal(int ordinal) {
+        this.ordinal = ordinal;
+    }
+
     @Override
     public Class<V> getValueClass() {
         return this.valueClass;
@@ -51,4 +66,9 @@ public Class<V> getValueClass() {
     public DataQuery getQuery() {
         return this.query;
     }
+
+    @Override
+    public String toString() {
+        return "Key{Value:" + this.valueClass.getSimpleName() + ", Query: " + this.query.toString() + "}";
+    }
 }
@@ -0,0 +1,474 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.common.data.persistence;
+
+import static com.google.common.base.Preconditions.checkNotNull;
+import static org.spongepowered.api.data.DataQuery.of;
+
+import com.google.common.collect.Lists;
+import org.spongepowered.api.data.DataContainer;
+import org.spongepowered.api.data.DataQuery;
+import org.spongepowered.api.data.DataSerializable;
+import org.spongepowered.api.data.DataView;
+import org.spongepowered.api.data.MemoryDataContainer;
+import org.spongepowered.api.data.persistence.DataFormat;
+import org.spongepowered.api.data.persistence.InvalidDataFormatException;
+import org.spongepowered.common.SpongeCatalogType;
+
+import java.io.DataInput;
+import java.io.DataInputStream;
+import java.io.DataOutput;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * A compact binary {@link DataFormat}.
+ *
+ * <p>Every written view starts with a magic number and a format version,
+ * followed by the entries of the view. Keys are interned, the first
+ * occurrence of a key is written in full and every later occurrence only
+ * writes the index of the key. Integers are written as variable length
+ * numbers and primitive arrays are written natively.</p>
+ *
+ * <p>Views are written and read without any intermediate representation
+ * and without reading ahead, so several views may be written to and read
+ * from the same stream one after another.</p>
+ */
+public class BinaryDataFormat extends SpongeCatalogType implements DataFormat {
+
+    private static final int MAGIC = 0x53504442; // SPDB
+    private static final byte VERSION = 1;
+
+    private static final int MAX_DEPTH = 512;
+
+    // Key markers
+    private static final byte KEY_END = 0;
+    private static final byte KEY_NEW = 1;
+    private static final byte KEY_INTERNED = 2;
+
+    // Value types
+    private static final byte TYPE_BOOLEAN = 1;
+    private static final byte TYPE_BYTE = 2;
+    private static final byte TYPE_SHORT = 3;
+    private static final byte TYPE_CHAR = 4;
+    private static final byte TYPE_INT = 5;
+    private static final byte TYPE_LONG = 6;
+    private static final byte TYPE_FLOAT = 7;
+    private static final byte TYPE_DOUBLE = 8;
+    private static final byte TYPE_STRING = 9;
+    private static final byte TYPE_VIEW = 10;
+    private static final byte TYPE_LIST = 11;
+    private static final byte TYPE_BOOLEAN_ARRAY = 12;
+    private static final byte TYPE_BYTE_ARRAY = 13;
+    private static final byte TYPE_SHORT_ARRAY = 14;
+    private static final byte TYPE_CHAR_ARRAY = 15;
+    private static final byte TYPE_INT_ARRAY = 16;
+    private static final byte TYPE_LONG_ARRAY = 17;
+    private static final byte TYPE_FLOAT_ARRAY = 18;
+    private static final byte TYPE_DOUBLE_ARRAY = 19;
+
+    public BinaryDataFormat(String id) {
+        super(id);
+    }
+
+    @Override
+    public DataContainer readFrom(InputStream input) throws InvalidDataFormatException, IOException {
+        final DataInputStream dis = input instanceof DataInputStream ? (DataInputStream) input : new DataInputStream(input);
+        if (dis.readInt() != MAGIC) {
+            throw new InvalidDataFormatException("Not a binary data stream");
+        }
+        final byte version = dis.readByte();
+        if (version != VERSION) {
+            throw new InvalidDataFormatException("Unsupported binary data version: " + version);
+        }
+        final DataContainer container = new MemoryDataContainer();
+        new Reader(dis).readView(container, 0);
+        return container;
+    }
+
+    @Override
+    public void writeTo(OutputStream output, DataView data) throws IOException {
+        checkNotNull(data, "data");
+        final DataOutputStream dos = output instanceof DataOutputStream ? (DataOutputStream) output : new DataOutputStream(output);
+        dos.writeInt(MAGIC);
+        dos.writeByte(VERSION);
+        new Writer(dos).writeView(data);
+        dos.flush();
+    }
+
+    private static void writeVarInt(DataOutput output, int value) throws IOException {
+        while ((value & ~0x7F) != 0) {
+            output.writeByte((value & 0x7F) | 0x80);
+            value >>>= 7;
+        }
+        output.writeByte(value);
+    }
+
+    private static int readVarInt(DataInput input) throws IOException {
+        int value = 0;
+        for (int shift = 0; shift < 35; shift += 7) {
+            final byte b = input.readByte();
+            value |= (b & 0x7F) << shift;
+            if ((b & 0x80) == 0) {
+                return value;
+            }
+        }
+        throw new IOException("VarInt is too big");
+    }
+
+    private static void writeVarLong(DataOutput output, long value) throws IOException {
+        while ((value & ~0x7FL) != 0) {
+            output.writeByte(((int) value & 0x7F) | 0x80);
+            value >>>= 7;
+        }
+        output.writeByte((int) value);
+    }
+
+    private static long readVarLong(DataInput input) throws IOException {
+        long value = 0;
+        for (int shift = 0; shift < 70; shift += 7) {
+            final byte b = input.readByte();
+            value |= (long) (b & 0x7F) << shift;
+            if ((b & 0x80) == 0) {
+                return value;
+            }
+        }
+        throw new IOException("VarLong is too big");
+    }
+
+    private static final class Writer {
+
+        private final DataOutput output;
+        private final Map<String, Integer> keys = new HashMap<>();
+
+        Writer(DataOutput output) {
+            this.output = output;
+        }
+
+        void writeView(DataView view) throws IOException {
+            for (Map.Entry<DataQuery, Object> entry : view.getValues(false).entrySet()) {
+                writeKey(entry.getKey().asString('.'));
+                writeValue(entry.getValue());
+            }
+            this.output.writeByte(KEY_END);
+        }
+
+        void writeMap(Map<?, ?> map) throws IOException {
+            for (Map.Entry<?, ?> entry : map.entrySet()) {
+                final Object key = entry.getKey();
+                writeKey(key instanceof DataQuery ? ((DataQuery) key).asString('.') : key.toString());
+                writeValue(entry.getValue());
+            }
+            this.output.writeByte(KEY_END);
+        }
+
+        private void writeKey(String key) throws IOException {
+            final Integer index = this.keys.get(key);
+            if (index != null) {
+                this.output.writeByte(KEY_INTERNED);
+                writeVarInt(this.output, index);
+            } else {
+                this.keys.put(key, this.keys.size());
+                this.output.writeByte(KEY_NEW);
+                this.output.writeUTF(key);
+            }
+        }
+
+        private void writeValue(Object value) throws IOException {
+            checkNotNull(value);
+            final DataOutput out = this.output;
+            if (value instanceof Boolean) {
+                out.writeByte(TYPE_BOOLEAN);
+                out.writeBoolean((Boolean) value);
+            } else if (value instanceof Byte) {
+                out.writeByte(TYPE_BYTE);
+                out.writeByte((Byte) value);
+            } else if (value instanceof Short) {
+                out.writeByte(TYPE_SHORT);
+                out.writeShort((Short) value);
+            } else if (value instanceof Character) {
+                out.writeByte(TYPE_CHAR);
+                out.writeChar((Character) value);
+            } else if (value instanceof Integer) {
+                out.writeByte(TYPE_INT);
+                final int i = (Integer) value;
+                writeVarInt(out, (i << 1) ^ (i >> 31));
+            } else if (value instanceof Long) {
+                out.writeByte(TYPE_LONG);
+                final long l = (Long) value;
+                writeVarLong(out, (l << 1) ^ (l >> 63));
+            } else if (value instanceof Float) {
+                out.writeByte(TYPE_FLOAT);
+                out.writeFloat((Float) value);
+            } else if (value instanceof Double) {
+                out.writeByte(TYPE_DOUBLE);
+                out.writeDouble((Double) value);
+            } else if (value instanceof String) {
+                out.writeByte(TYPE_STRING);
+                out.writeUTF((String) value);
+            } else if (value instanceof DataView) {
+                out.writeByte(TYPE_VIEW);
+                writeView((DataView) value);
+            } else if (value instanceof DataSerializable) {
+                out.writeByte(TYPE_VIEW);
+                writeView(((DataSerializable) value).toContainer());
+            } else if (value instanceof Map) {
+                out.writeByte(TYPE_VIEW);
+                writeMap((Map<?, ?>) value);
+            } else if (value instanceof List) {
+                final List<?> list = (List<?>) value;
+                out.writeByte(TYPE_LIST);
+                writeVarInt(out, list.size());
+                for (Object element : list) {
+                    writeValue(element);
+                }
+            } else if (value.getClass().isArray()) {
+                writeArray(value);
+            } else {
+                throw new IllegalArgumentException("Unable to write object in binary format: " + value);
+            }
+        }
+
+        private void writeArray(Object value) throws IOException {
+            final DataOutput out = this.output;
+            if (value instanceof boolean[]) {
+                final boolean[] array = (boolean[]) value;
+                out.writeByte(TYPE_BOOLEAN_ARRAY);
+                writeVarInt(out, array.length);
+                for (boolean b : array) {
+                    out.writeBoolean(b);
+                }
+            } else if (value instanceof byte[]) {
+                final byte[] array = (byte[]) value;
+                out.writeByte(TYPE_BYTE_ARRAY);
+                writeVarInt(out, array.length);
+                out.write(array);
+            } else if (value instanceof short[]) {
+                final short[] array = (short[]) value;
+                out.writeByte(TYPE_SHORT_ARRAY);
+                writeVarInt(out, array.length);
+                for (short s : array) {
+                    out.writeShort(s);
+                }
+            } else if (value instanceof char[]) {
+                final char[] array = (char[]) value;
+                out.writeByte(TYPE_CHAR_ARRAY);
+                writeVarInt(out, array.length);
+                for (char c : array) {
+                    out.writeChar(c);
+                }
+            } else if (value instanceof int[]) {
+                final int[] array = (int[]) value;
+                out.writeByte(TYPE_INT_ARRAY);
+                writeVarInt(out, array.length);
+                for (int i : array) {
+                    out.writeInt(i);
+                }
+            } else if (value instanceof long[]) {
+                final long[] array = (long[]) value;
+                out.writeByte(TYPE_LONG_ARRAY);
+                writeVarInt(out, array.length);
+                for (long l : array) {
+                    out.writeLong(l);
+                }
+            } else if (value instanceof float[]) {
+                final float[] array = (float[]) value;
+                out.writeByte(TYPE_FLOAT_ARRAY);
+                writeVarInt(out, array.length);
+                for (float f : array) {
+                    out.writeFloat(f);
+                }
+            } else if (value instanceof double[]) {
+                final double[] array = (double[]) value;
+                out.writeByte(TYPE_DOUBLE_ARRAY);
+                writeVarInt(out, array.length);
+                for (double d : array) {
+                    out.writeDouble(d);
+                }
+            } else {
+                // Arrays of objects, including boxed primitives, are written as lists
+                final Object[] array = (Object[]) value;
+                out.writeByte(TYPE_LIST);
+                writeVarInt(out, array.length);
+                for (Object element : array) {
+                    writeValue(element);
+                }
+            }
+        }
+
+    }
+
+    private static final class Reader {
+
+        private final DataInput input;
+        private final List<String> keys = new ArrayList<>();
+
+        Reader(DataInput input) {
+            this.input = input;
+        }
+
+        void readView(DataView view, int depth) throws IOException {
+            if (depth > MAX_DEPTH) {
+                throw new InvalidDataFormatException("Tried to read binary data with too high complexity, depth > " + MAX_DEPTH);
+            }
+            byte marker;
+            while ((marker = this.input.readByte()) != KEY_END) {
+                final String key;
+                if (marker == KEY_NEW) {
+                    key = this.input.readUTF();
+                    this.keys.add(key);
+                } else if (marker == KEY_INTERNED) {
+                    final int index = readVarInt(this.input);
+                    if (index < 0 || index >= this.keys.size()) {
+                        throw new InvalidDataFormatException("Unknown interned key index: " + index);
+                    }
+                    key = this.keys.get(index);
+                } else {
+                    throw new InvalidDataFormatException("Unknown key marker: " + marker);
+                }
+                final byte type = this.input.readByte();
+                if (type == TYPE_VIEW) {
+                    // Read nested views in place instead of copying a separate container
+                    readView(view.createView(of(key)), depth + 1);
+                } else {
+                    view.set(of(key), readValue(type, depth + 1));
+                }
+            }
+        }
+
+        private Object readValue(byte type, int depth) throws IOException {
+            final DataInput in = this.input;
+            switch (type) {
+                case TYPE_BOOLEAN:
+                    return in.readBoolean();
+                case TYPE_BYTE:
+                    return in.readByte();
+                case TYPE_SHORT:
+                    return in.readShort();
+                case TYPE_CHAR:
+                    return in.readChar();
+                case TYPE_INT: {
+                    final int i = readVarInt(in);
+                    return (i >>> 1) ^ -(i & 1);
+                }
+                case TYPE_LONG: {
+                    final long l = readVarLong(in);
+                    return (l >>> 1) ^ -(l & 1);
+                }
+                case TYPE_FLOAT:
+                    return in.readFloat();
+                case TYPE_DOUBLE:
+                    return in.readDouble();
+                case TYPE_STRING:
+                    return in.readUTF();
+                case TYPE_VIEW: {
+                    final DataContainer container = new MemoryDataContainer();
+                    readView(container, depth);
+                    return container;
+                }
+                case TYPE_LIST: {
+                    final int size = readLength();
+                    final List<Object> list = Lists.newArrayListWithCapacity(Math.min(size, 1024));
+                    for (int i = 0; i < size; i++) {
+                        list.add(readValue(in.readByte(), depth + 1));
+                    }
+                    return list;
+                }
+                case TYPE_BOOLEAN_ARRAY: {
+                    final boolean[] array = new boolean[readLength()];
+                    for (int i = 0; i < array.length; i++) {
+                        array[i] = in.readBoolean();
+                    }
+                    return array;
+                }
+                case TYPE_BYTE_ARRAY: {
+                    final byte[] array = new byte[readLength()];
+                    in.readFully(array);
+                    return array;
+                }
+                case TYPE_SHORT_ARRAY: {
+                    final short[] array = new short[readLength()];
+                    for (int i = 0; i < array.length; i++) {
+                        array[i] = in.readShort();
+                    }
+                    return array;
+                }
+                case TYPE_CHAR_ARRAY: {
+                    final char[] array = new char[readLength()];
+                    for (int i = 0; i < array.length; i++) {
+                        array[i] = in.readChar();
+                    }
+                    return array;
+                }
+                case TYPE_INT_ARRAY: {
+                    final int[] array = new int[readLength()];
+                    for (int i = 0; i < array.length; i++) {
+                        array[i] = in.readInt();
+                    }
+                    return array;
+                }
+                case TYPE_LONG_ARRAY: {
+                    final long[] array = new long[readLength()];
+                    for (int i = 0; i < array.length; i++) {
+                        array[i] = in.readLong();
+                    }
+                    return array;
+                }
+                case TYPE_FLOAT_ARRAY: {
+                    final float[] array = new float[readLength()];
+                    for (int i = 0; i < array.length; i++) {
+                        array[i] = in.readFloat();
+                    }
+                    return array;
+                }
+                case TYPE_DOUBLE_ARRAY: {
+                    final double[] array = new double[readLength()];
+                    for (int i = 0; i < array.length; i++) {
+                        array[i] = in.readDouble();
+                    }
+                    return array;
+                }
+                default:
+                    throw new InvalidDataFormatException("Unknown value type: " + type);
+            }
+        }
+
+        private int readLength() throws IOException {
+            final int length = readVarInt(this.input);
+            if (length < 0) {
+                throw new InvalidDataFormatException("Negative length: " + length);
+            }
+            return length;
+        }
+
+    }
+
+}
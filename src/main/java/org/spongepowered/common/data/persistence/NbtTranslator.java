@@ -51,6 +51,9 @@
 import org.spongepowered.api.data.translator.DataTranslator;
 import org.spongepowered.common.data.util.NbtDataUtil;
 
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
@@ -166,16 +169,19 @@ private static NBTBase getBaseFromObject(Object value) {
         throw new IllegalArgumentException("Unable to translate object to NBTBase: " + value);
     }
 
-    @SuppressWarnings("unchecked")
     private static DataContainer getViewFromCompound(NBTTagCompound compound) {
         checkNotNull(compound);
         DataContainer container = new MemoryDataContainer();
+        compoundToView(compound, container);
+        return container;
+    }
+
+    private static void compoundToView(NBTTagCompound compound, DataView view) {
         for (String key : compound.getKeySet()) {
             NBTBase base = compound.getTag(key);
             byte type = base.getId();
-            setInternal(base, type, container, key); // gotta love recursion
+            setInternal(base, type, view, key); // gotta love recursion
         }
-        return container;
     }
 
     @SuppressWarnings({"unchecked", "rawtypes"})
@@ -225,17 +231,11 @@ private static void setInternal(NBTBase base, byte type, DataView view, String k
                 view.set(of(key), objectList);
                 break;
             case NbtDataUtil.TAG_COMPOUND:
-                DataView internalView = view.createView(of(key));
-                NBTTagCompound compound = (NBTTagCompound) base;
-                for (String internalKey : compound.getKeySet()) {
-                    NBTBase internalBase = compound.getTag(internalKey);
-                    byte internalType = internalBase.getId();
-                    // Basically.... more recursion.
-                    // Reasoning: This avoids creating a new DataContainer which would
-                    // then be copied in to the owning DataView anyways. We can internally
-                    // set the actual data directly to the child view instead.
-                    setInternal(internalBase, internalType, internalView, internalKey);
-                }
+                // Basically.... more recursion.
+                // Reasoning: This avoids creating a new DataContainer which would
+                // then be copied in to the owning DataView anyways. We can internally
+                // set the actual data directly to the child view instead.
+                compoundToView((NBTTagCompound) base, view.createView(of(key)));
                 break;
             case NbtDataUtil.TAG_INT_ARRAY:
                 view.set(of(key), ((NBTTagIntArray) base).getIntArray());
@@ -282,6 +282,259 @@ private static Object fromTagBase(NBTBase base, byte type) {
         }
     }
 
+    // Streaming translation, reads and writes the binary NBT format directly
+    // from and to DataViews without building an NBTTagCompound tree in between.
+
+    private static final int MAX_DEPTH = 512;
+
+    private static void readCompound(DataInput input, DataView view, int depth) throws IOException {
+        if (depth > MAX_DEPTH) {
+            throw new IOException("Tried to read NBT tag with too high complexity, depth > " + MAX_DEPTH);
+        }
+        byte type;
+        while ((type = input.readByte()) != NbtDataUtil.TAG_END) {
+            final String key = input.readUTF();
+            if (type == NbtDataUtil.TAG_BYTE && key.contains(BOOLEAN_IDENTIFER)) {
+                view.set(of(key.replace(BOOLEAN_IDENTIFER, "")), input.readByte() == 1);
+            } else if (type == NbtDataUtil.TAG_COMPOUND) {
+                readCompound(input, view.createView(of(key)), depth + 1);
+            } else {
+                view.set(of(key), readValue(input, type, depth + 1));
+            }
+        }
+    }
+
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    private static Object readValue(DataInput input, byte type, int depth) throws IOException {
+        switch (type) {
+            case NbtDataUtil.TAG_BYTE:
+                return input.readByte();
+            case NbtDataUtil.TAG_SHORT:
+                return input.readShort();
+            case NbtDataUtil.TAG_INT:
+                return input.readInt();
+            case NbtDataUtil.TAG_LONG:
+                return input.readLong();
+            case NbtDataUtil.TAG_FLOAT:
+                return input.readFloat();
+            case NbtDataUtil.TAG_DOUBLE:
+                return input.readDouble();
+            case NbtDataUtil.TAG_BYTE_ARRAY:
+                final byte[] bytes = new byte[input.readInt()];
+                input.readFully(bytes);
+                return bytes;
+            case NbtDataUtil.TAG_STRING:
+                return input.readUTF();
+            case NbtDataUtil.TAG_LIST:
+                final byte listType = input.readByte();
+                final int count = input.readInt();
+                if (listType == NbtDataUtil.TAG_END && count > 0) {
+                    throw new IOException("Missing type on list tag");
+                }
+                final List objectList = Lists.newArrayListWithCapacity(count);
+                for (int i = 0; i < count; i++) {
+                    objectList.add(readValue(input, listType, depth + 1));
+                }
+                return objectList;
+            case NbtDataUtil.TAG_COMPOUND:
+                final DataContainer container = new MemoryDataContainer();
+                readCompound(input, container, depth);
+                return container;
+            case NbtDataUtil.TAG_INT_ARRAY:
+                final int[] ints = new int[input.readInt()];
+                for (int i = 0; i < ints.length; i++) {
+                    ints[i] = input.readInt();
+                }
+                return ints;
+            default:
+                throw new IOException("Unknown NBT type " + type);
+        }
+    }
+
+    private static void writeView(DataOutput output, DataView view) throws IOException {
+        for (Map.Entry<DataQuery, Object> entry : view.getValues(false).entrySet()) {
+            final Object value = entry.getValue();
+            final String key = entry.getKey().asString('.');
+            writeNamedValue(output, value instanceof Boolean ? key + BOOLEAN_IDENTIFER : key, value);
+        }
+        output.writeByte(NbtDataUtil.TAG_END);
+    }
+
+    @SuppressWarnings("unchecked")
+    private static void writeMap(DataOutput output, Map<Object, Object> map) throws IOException {
+        for (Map.Entry<Object, Object> entry : map.entrySet()) {
+            final Object value = entry.getValue();
+            if (entry.getKey() instanceof DataQuery) {
+                final String key = ((DataQuery) entry.getKey()).asString('.');
+                writeNamedValue(output, value instanceof Boolean ? key + BOOLEAN_IDENTIFER : key, value);
+            } else {
+                writeNamedValue(output, entry.getKey().toString(), value);
+            }
+        }
+        output.writeByte(NbtDataUtil.TAG_END);
+    }
+
+    private static void writeNamedValue(DataOutput output, String key, Object value) throws IOException {
+        final byte type = getTypeFromObject(value);
+        output.writeByte(type);
+        output.writeUTF(key);
+        writeValue(output, type, value);
+    }
+
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    private static void writeValue(DataOutput output, byte type, Object value) throws IOException {
+        switch (type) {
+            case NbtDataUtil.TAG_BYTE:
+                output.writeByte(value instanceof Boolean ? ((Boolean) value ? 1 : 0) : (Byte) value);
+                break;
+            case NbtDataUtil.TAG_SHORT:
+                output.writeShort((Short) value);
+                break;
+            case NbtDataUtil.TAG_INT:
+                output.writeInt((Integer) value);
+                break;
+            case NbtDataUtil.TAG_LONG:
+                output.writeLong((Long) value);
+                break;
+            case NbtDataUtil.TAG_FLOAT:
+                output.writeFloat((Float) value);
+                break;
+            case NbtDataUtil.TAG_DOUBLE:
+                output.writeDouble((Double) value);
+                break;
+            case NbtDataUtil.TAG_BYTE_ARRAY:
+                if (value instanceof byte[]) {
+                    output.writeInt(((byte[]) value).length);
+                    output.write((byte[]) value);
+                } else {
+                    output.writeInt(((Byte[]) value).length);
+                    for (Byte data : (Byte[]) value) {
+                        output.writeByte(data);
+                    }
+                }
+                break;
+            case NbtDataUtil.TAG_STRING:
+                output.writeUTF((String) value);
+                break;
+            case NbtDataUtil.TAG_LIST:
+                final List<Object> list = (List) value;
+                // Mirrors NBTTagList#appendTag, elements of a different type than the first are dropped
+                final byte listType = list.isEmpty() ? NbtDataUtil.TAG_END : getTypeFromObject(list.get(0));
+                int count = 0;
+                for (Object object : list) {
+                    if (getTypeFromObject(object) == listType) {
+                        count++;
+                    }
+                }
+                output.writeByte(listType);
+                output.writeInt(count);
+                for (Object object : list) {
+                    if (getTypeFromObject(object) == listType) {
+                        writeValue(output, listType, object);
+                    }
+                }
+                break;
+            case NbtDataUtil.TAG_COMPOUND:
+                if (value instanceof Map) {
+                    writeMap(output, (Map) value);
+                } else if (value instanceof DataSerializable) {
+                    writeView(output, ((DataSerializable) value).toContainer());
+                } else {
+                    writeView(output, (DataView) value);
+                }
+                break;
+            case NbtDataUtil.TAG_INT_ARRAY:
+                if (value instanceof int[]) {
+                    output.writeInt(((int[]) value).length);
+                    for (int data : (int[]) value) {
+                        output.writeInt(data);
+                    }
+                } else {
+                    output.writeInt(((Integer[]) value).length);
+                    for (Integer data : (Integer[]) value) {
+                        output.writeInt(data);
+                    }
+                }
+                break;
+            default:
+                throw new IllegalArgumentException("Unknown NBT type " + type);
+        }
+    }
+
+    private static byte getTypeFromObject(Object value) {
+        checkNotNull(value);
+        if (value instanceof Boolean || value instanceof Byte) {
+            return NbtDataUtil.TAG_BYTE;
+        } else if (value instanceof Short) {
+            return NbtDataUtil.TAG_SHORT;
+        } else if (value instanceof Integer) {
+            return NbtDataUtil.TAG_INT;
+        } else if (value instanceof Long) {
+            return NbtDataUtil.TAG_LONG;
+        } else if (value instanceof Float) {
+            return NbtDataUtil.TAG_FLOAT;
+        } else if (value instanceof Double) {
+            return NbtDataUtil.TAG_DOUBLE;
+        } else if (value instanceof String) {
+            return NbtDataUtil.TAG_STRING;
+        } else if (value instanceof byte[] || value instanceof Byte[]) {
+            return NbtDataUtil.TAG_BYTE_ARRAY;
+        } else if (value instanceof int[] || value instanceof Integer[]) {
+            return NbtDataUtil.TAG_INT_ARRAY;
+        } else if (value instanceof List) {
+            return NbtDataUtil.TAG_LIST;
+        } else if (value instanceof Map || value instanceof DataSerializable || value instanceof DataView) {
+            return NbtDataUtil.TAG_COMPOUND;
+        }
+        throw new IllegalArgumentException("Unable to translate object to NBTBase: " + value);
+    }
+
+    /**
+     * Reads a named root compound in the binary NBT format directly in to a
+     * new {@link DataContainer}, without creating an {@link NBTTagCompound}.
+     *
+     * @param input The input to read from
+     * @return The read container
+     * @throws IOException If the data could not be read or is not a compound
+     */
+    public DataContainer read(DataInput input) throws IOException {
+        if (input.readByte() != NbtDataUtil.TAG_COMPOUND) {
+            throw new IOException("Root tag must be a named compound tag");
+        }
+        input.readUTF();
+        final DataContainer container = new MemoryDataContainer();
+        readCompound(checkNotNull(input), container, 0);
+        return container;
+    }
+
+    /**
+     * Writes the given view as a named root compound in the binary NBT
+     * format, without creating an {@link NBTTagCompound}. The output can be
+     * read by {@link net.minecraft.nbt.CompressedStreamTools#read}.
+     *
+     * @param output The output to write to
+     * @param view The view to write
+     * @throws IOException If the data could not be written
+     */
+    public void write(DataOutput output, DataView view) throws IOException {
+        checkNotNull(output);
+        checkNotNull(view);
+        output.writeByte(NbtDataUtil.TAG_COMPOUND);
+        output.writeUTF("");
+        writeView(output, view);
+    }
+
+    /**
+     * Translates the given compound directly in to the given view, which
+     * avoids copying an intermediary container in to the view afterwards.
+     *
+     * @param compound The compound to translate
+     * @param view The view to set the translated data to
+     */
+    public void translateCompoundToData(NBTTagCompound compound, DataView view) {
+        NbtTranslator.compoundToView(checkNotNull(compound), checkNotNull(view));
+    }
+
     @Override
     public NBTTagCompound translateData(DataView container) {
         return NbtTranslator.containerToCompound(container);
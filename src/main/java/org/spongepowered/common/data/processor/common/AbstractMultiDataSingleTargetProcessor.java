@@ -35,6 +35,7 @@
 import org.spongepowered.api.data.value.BaseValue;
 import org.spongepowered.api.data.value.immutable.ImmutableValue;
 import org.spongepowered.common.SpongeImpl;
+import org.spongepowered.common.data.util.DataUtil;
 
 import java.util.IdentityHashMap;
 import java.util.Map;
@@ -44,9 +45,21 @@
 public abstract class AbstractMultiDataSingleTargetProcessor<Holder, T extends DataManipulator<T, I>, I extends ImmutableDataManipulator<I, T>> extends AbstractMultiDataProcessor<T, I> {
 
     protected final Class<Holder> holderClass;
+    private final boolean instanceDependent;
 
     public AbstractMultiDataSingleTargetProcessor(Class<Holder> holderClass) {
         this.holderClass = checkNotNull(holderClass);
+        this.instanceDependent = DataUtil.overridesHolderSupport(getClass(), AbstractMultiDataSingleTargetProcessor.class);
+    }
+
+    @Override
+    public boolean supportsHolderClass(Class<?> holderClass) {
+        return this.holderClass.isAssignableFrom(holderClass);
+    }
+
+    @Override
+    public boolean isInstanceDependent() {
+        return this.instanceDependent;
     }
 
     @SuppressWarnings("unchecked")
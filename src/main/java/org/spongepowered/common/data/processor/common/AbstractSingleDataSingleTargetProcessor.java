@@ -47,10 +47,22 @@
         extends AbstractSingleDataProcessor<T, V, M, I> implements ValueProcessor<T, V> {
 
     protected final Class<Holder> holderClass;
+    private final boolean instanceDependent;
 
     protected AbstractSingleDataSingleTargetProcessor(Key<V> key, Class<Holder> holderClass) {
         super(key);
         this.holderClass = checkNotNull(holderClass);
+        this.instanceDependent = DataUtil.overridesHolderSupport(getClass(), AbstractSingleDataSingleTargetProcessor.class);
+    }
+
+    @Override
+    public boolean supportsHolderClass(Class<?> holderClass) {
+        return this.holderClass.isAssignableFrom(holderClass);
+    }
+
+    @Override
+    public boolean isInstanceDependent() {
+        return this.instanceDependent;
     }
 
     protected boolean supports(Holder dataHolder) {
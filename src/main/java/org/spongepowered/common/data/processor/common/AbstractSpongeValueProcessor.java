@@ -34,17 +34,20 @@
 import org.spongepowered.api.data.value.mutable.Value;
 import org.spongepowered.common.SpongeImpl;
 import org.spongepowered.common.data.ValueProcessor;
+import org.spongepowered.common.data.util.DataUtil;
 
 import java.util.Optional;
 
 public abstract class AbstractSpongeValueProcessor<C, E, V extends BaseValue<E>> implements ValueProcessor<E, V> {
 
     private final Class<C> containerClass;
+    private final boolean instanceDependent;
     protected final Key<V> key;
 
     protected AbstractSpongeValueProcessor(Class<C> containerClass, Key<V> key) {
         this.key = checkNotNull(key, "The key is null!");
         this.containerClass = containerClass;
+        this.instanceDependent = DataUtil.overridesHolderSupport(getClass(), AbstractSpongeValueProcessor.class);
     }
 
     /**
@@ -72,6 +75,16 @@ public boolean supports(ValueContainer<?> container) {
         return this.containerClass.isInstance(container) && supports((C) container);
     }
 
+    @Override
+    public boolean supportsHolderClass(Class<?> holderClass) {
+        return this.containerClass.isAssignableFrom(holderClass);
+    }
+
+    @Override
+    public boolean isInstanceDependent() {
+        return this.instanceDependent;
+    }
+
 
     @Override
     public final Key<? extends BaseValue<E>> getKey() {
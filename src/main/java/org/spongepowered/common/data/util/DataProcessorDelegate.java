@@ -41,11 +41,16 @@
 import org.spongepowered.common.data.DataProcessor;
 import org.spongepowered.common.util.ServerUtils;
 
+import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
 
 public final class DataProcessorDelegate<M extends DataManipulator<M, I>, I extends ImmutableDataManipulator<I, M>> implements DataProcessor<M, I> {
 
     private final ImmutableList<Tuple<DataProcessor<M, I>, Timing>> processors;
+    // The processors that may support a holder, memoized by the holder class. These are
+    // discarded along with the delegate when SpongeDataManager#finalizeRegistration runs.
+    private final Map<Class<?>, HolderProcessors<M, I>> holderProcessors = new ConcurrentHashMap<>();
 
     public DataProcessorDelegate(ImmutableList<DataProcessor<M, I>> processors) {
         ImmutableList.Builder<Tuple<DataProcessor<M, I>, Timing>> builder = ImmutableList.builder();
@@ -55,6 +60,29 @@ public DataProcessorDelegate(ImmutableList<DataProcessor<M, I>> processors) {
         this.processors = builder.build();
     }
 
+    private HolderProcessors<M, I> getProcessors(DataHolder dataHolder) {
+        final Class<?> holderClass = dataHolder.getClass();
+        HolderProcessors<M, I> processors = this.holderProcessors.get(holderClass);
+        if (processors == null) {
+            final ImmutableList.Builder<Tuple<DataProcessor<M, I>, Timing>> builder = ImmutableList.builder();
+            boolean supported = false;
+            for (Tuple<DataProcessor<M, I>, Timing> tuple : this.processors) {
+                if (tuple.getFirst().supportsHolderClass(holderClass)) {
+                    builder.add(tuple);
+                    supported |= !tuple.getFirst().isInstanceDependent();
+                }
+            }
+            processors = new HolderProcessors<>(builder.build(), supported);
+            this.holderProcessors.put(holderClass, processors);
+        }
+        return processors;
+    }
+
+    private static boolean supports(DataProcessor<?, ?> processor, DataHolder dataHolder) {
+        // Processors that are not instance dependent already matched the holder class
+        return !processor.isInstanceDependent() || processor.supports(dataHolder);
+    }
+
     @Override
     public int getPriority() {
         return Integer.MAX_VALUE;
@@ -62,9 +90,13 @@ public int getPriority() {
 
     @Override
     public boolean supports(DataHolder dataHolder) {
+        final HolderProcessors<M, I> processors = getProcessors(dataHolder);
+        if (processors.supported) {
+            return true;
+        }
         final boolean callingFromMinecraftThread = ServerUtils.isCallingFromMainThread();
 
-        for (Tuple<DataProcessor<M, I>, Timing> tuple : this.processors) {
+        for (Tuple<DataProcessor<M, I>, Timing> tuple : processors.processors) {
             if (callingFromMinecraftThread) {
                 tuple.getSecond().startTiming();
             }
@@ -90,11 +122,11 @@ public boolean supports(EntityType entityType) {
     public Optional<M> from(DataHolder dataHolder) {
         final boolean callingFromMinecraftThread = ServerUtils.isCallingFromMainThread();
 
-        for (Tuple<DataProcessor<M, I>, Timing> tuple : this.processors) {
+        for (Tuple<DataProcessor<M, I>, Timing> tuple : getProcessors(dataHolder).processors) {
             if (callingFromMinecraftThread) {
                 tuple.getSecond().startTiming();
             }
-            if (tuple.getFirst().supports(dataHolder)) {
+            if (supports(tuple.getFirst(), dataHolder)) {
                 final Optional<M> optional = tuple.getFirst().from(dataHolder);
                 if (callingFromMinecraftThread) {
                     tuple.getSecond().stopTiming();
@@ -115,11 +147,11 @@ public Optional<M> from(DataHolder dataHolder) {
     public Optional<M> fill(DataHolder dataHolder, M manipulator, MergeFunction overlap) {
         final boolean callingFromMinecraftThread = ServerUtils.isCallingFromMainThread();
 
-        for (Tuple<DataProcessor<M, I>, Timing> tuple : this.processors) {
+        for (Tuple<DataProcessor<M, I>, Timing> tuple : getProcessors(dataHolder).processors) {
             if (callingFromMinecraftThread) {
                 tuple.getSecond().startTiming();
             }
-            if (tuple.getFirst().supports(dataHolder)) {
+            if (supports(tuple.getFirst(), dataHolder)) {
                 final Optional<M> optional = tuple.getFirst().fill(dataHolder, manipulator, overlap);
                 if (callingFromMinecraftThread) {
                     tuple.getSecond().stopTiming();
@@ -159,11 +191,11 @@ public Optional<M> fill(DataContainer container, M m) {
     public DataTransactionResult set(DataHolder dataHolder, M manipulator, MergeFunction function) {
         final boolean callingFromMinecraftThread = ServerUtils.isCallingFromMainThread();
 
-        for (Tuple<DataProcessor<M, I>, Timing> tuple : this.processors) {
+        for (Tuple<DataProcessor<M, I>, Timing> tuple : getProcessors(dataHolder).processors) {
             if (callingFromMinecraftThread) {
                 tuple.getSecond().startTiming();
             }
-            if (tuple.getFirst().supports(dataHolder)) {
+            if (supports(tuple.getFirst(), dataHolder)) {
                 final DataTransactionResult result = tuple.getFirst().set(dataHolder, manipulator, function);
                 if (!result.getType().equals(DataTransactionResult.Type.FAILURE)) {
                     if (callingFromMinecraftThread) {
@@ -203,11 +235,11 @@ public Optional<I> with(Key<? extends BaseValue<?>> key, Object value, I immutab
     public DataTransactionResult remove(DataHolder dataHolder) {
         final boolean callingFromMinecraftThread = ServerUtils.isCallingFromMainThread();
 
-        for (Tuple<DataProcessor<M, I>, Timing> tuple : this.processors) {
+        for (Tuple<DataProcessor<M, I>, Timing> tuple : getProcessors(dataHolder).processors) {
             if (callingFromMinecraftThread) {
                 tuple.getSecond().startTiming();
             }
-            if (tuple.getFirst().supports(dataHolder)) {
+            if (supports(tuple.getFirst(), dataHolder)) {
                 final DataTransactionResult result = tuple.getFirst().remove(dataHolder);
                 if (callingFromMinecraftThread) {
                     tuple.getSecond().stopTiming();
@@ -228,11 +260,11 @@ public DataTransactionResult remove(DataHolder dataHolder) {
     public Optional<M> createFrom(DataHolder dataHolder) {
         final boolean callingFromMinecraftThread = ServerUtils.isCallingFromMainThread();
 
-        for (Tuple<DataProcessor<M, I>, Timing> tuple : this.processors) {
+        for (Tuple<DataProcessor<M, I>, Timing> tuple : getProcessors(dataHolder).processors) {
             if (callingFromMinecraftThread) {
                 tuple.getSecond().startTiming();
             }
-            if (tuple.getFirst().supports(dataHolder)) {
+            if (supports(tuple.getFirst(), dataHolder)) {
                 final Optional<M> optional = tuple.getFirst().createFrom(dataHolder);
                 if (callingFromMinecraftThread) {
                     tuple.getSecond().stopTiming();
@@ -248,4 +280,16 @@ public Optional<M> createFrom(DataHolder dataHolder) {
         return Optional.empty();
     }
 
+    private static final class HolderProcessors<M extends DataManipulator<M, I>, I extends ImmutableDataManipulator<I, M>> {
+
+        final ImmutableList<Tuple<DataProcessor<M, I>, Timing>> processors;
+        // Whether any processor supports every holder of the class
+        final boolean supported;
+
+        HolderProcessors(ImmutableList<Tuple<DataProcessor<M, I>, Timing>> processors, boolean supported) {
+            this.processors = processors;
+            this.supported = supported;
+        }
+    }
+
 }
@@ -32,6 +32,7 @@
 import net.minecraft.util.datafix.DataFixer;
 import net.minecraft.util.datafix.FixTypes;
 import org.spongepowered.api.data.DataContainer;
+import org.spongepowered.api.data.DataHolder;
 import org.spongepowered.api.data.DataQuery;
 import org.spongepowered.api.data.DataView;
 import org.spongepowered.api.data.MemoryDataContainer;
@@ -42,6 +43,7 @@
 import org.spongepowered.api.data.manipulator.ImmutableDataManipulator;
 import org.spongepowered.api.data.persistence.InvalidDataException;
 import org.spongepowered.api.data.value.BaseValue;
+import org.spongepowered.api.data.value.ValueContainer;
 import org.spongepowered.api.world.Location;
 import org.spongepowered.api.world.World;
 import org.spongepowered.common.SpongeImpl;
@@ -50,6 +52,7 @@
 import org.spongepowered.common.data.fixer.entity.player.PlayerRespawnData;
 import org.spongepowered.common.data.fixer.world.SpongeLevelFixer;
 
+import java.lang.reflect.Method;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
@@ -211,4 +214,29 @@ public static Vector3d getPosition3d(DataView view, DataQuery query) {
         return new Vector3d(x, y, z);
     }
 
+    /**
+     * Checks whether the given processor class overrides any of the holder
+     * {@code supports} checks declared by the given base processor class,
+     * in which case support depends on the holder instance rather than only
+     * on the holder class.
+     *
+     * @param processorClass The processor class
+     * @param baseClass The base class declaring the default checks
+     * @return True if a supports check is overridden
+     */
+    public static boolean overridesHolderSupport(Class<?> processorClass, Class<?> baseClass) {
+        for (Class<?> clazz = processorClass; clazz != null && clazz != baseClass; clazz = clazz.getSuperclass()) {
+            for (Method method : clazz.getDeclaredMethods()) {
+                // Object covers the erased generic holder type and its bridge methods
+                if (method.getName().equals("supports") && method.getParameterCount() == 1 && isHolderParameter(method.getParameterTypes()[0])) {
+                    return true;
+                }
+            }
+        }
+        return false;
+    }
+
+    private static boolean isHolderParameter(Class<?> parameterType) {
+        return parameterType == DataHolder.class || parameterType == ValueContainer.class || parameterType == Object.class;
+    }
 }
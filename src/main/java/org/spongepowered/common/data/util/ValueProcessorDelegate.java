@@ -33,12 +33,21 @@
 import org.spongepowered.api.data.value.mutable.Value;
 import org.spongepowered.common.data.ValueProcessor;
 
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
 
 /**
  * This is really just a lazy class to handle processing on multiple
  * {@link ValueProcessor} registrations.
  *
+ * <p>The processors that may support a container are resolved once per
+ * container class and kept in a flat array, processors that are not
+ * instance dependent are then no longer asked whether they support a
+ * container of that class.</p>
+ *
  * @param <E>
  * @param <V>
  */
@@ -46,12 +55,37 @@
 
     private final Key<V> key;
     private final ImmutableList<ValueProcessor<E, V>> processors;
+    private final Map<Class<?>, HolderProcessors<E, V>> holderProcessors = new ConcurrentHashMap<>();
 
     public ValueProcessorDelegate(Key<V> key, ImmutableList<ValueProcessor<E, V>> processors) {
         this.key = key;
         this.processors = processors;
     }
 
+    @SuppressWarnings("unchecked")
+    private HolderProcessors<E, V> getProcessors(ValueContainer<?> container) {
+        final Class<?> holderClass = container.getClass();
+        HolderProcessors<E, V> processors = this.holderProcessors.get(holderClass);
+        if (processors == null) {
+            final List<ValueProcessor<E, V>> candidates = new ArrayList<>(this.processors.size());
+            boolean supported = false;
+            for (ValueProcessor<E, V> processor : this.processors) {
+                if (processor.supportsHolderClass(holderClass)) {
+                    candidates.add(processor);
+                    supported |= !processor.isInstanceDependent();
+                }
+            }
+            processors = new HolderProcessors<>(candidates.toArray(new ValueProcessor[candidates.size()]), supported);
+            this.holderProcessors.put(holderClass, processors);
+        }
+        return processors;
+    }
+
+    private static boolean supports(ValueProcessor<?, ?> processor, ValueContainer<?> container) {
+        // Processors that are not instance dependent already matched the container class
+        return !processor.isInstanceDependent() || processor.supports(container);
+    }
+
     @Override
     public Key<? extends BaseValue<E>> getKey() {
         return this.key;
@@ -64,8 +98,8 @@ public int getPriority() {
 
     @Override
     public Optional<E> getValueFromContainer(ValueContainer<?> container) {
-        for (ValueProcessor<E, V> processor : this.processors) {
-            if (processor.supports(container)) {
+        for (ValueProcessor<E, V> processor : getProcessors(container).processors) {
+            if (supports(processor, container)) {
                 final Optional<E> optional = processor.getValueFromContainer(container);
                 if (optional.isPresent()) {
                     return optional;
@@ -77,8 +111,8 @@ public Optional<E> getValueFromContainer(ValueContainer<?> container) {
 
     @Override
     public Optional<V> getApiValueFromContainer(ValueContainer<?> container) {
-        for (ValueProcessor<E, V> processor : this.processors) {
-            if (processor.supports(container)) {
+        for (ValueProcessor<E, V> processor : getProcessors(container).processors) {
+            if (supports(processor, container)) {
                 final Optional<V> optional = processor.getApiValueFromContainer(container);
                 if (optional.isPresent()) {
                     return optional;
@@ -90,7 +124,11 @@ public Optional<V> getApiValueFromContainer(ValueContainer<?> container) {
 
     @Override
     public boolean supports(ValueContainer<?> container) {
-        for (ValueProcessor<E, V> processor : this.processors) {
+        final HolderProcessors<E, V> processors = getProcessors(container);
+        if (processors.supported) {
+            return true;
+        }
+        for (ValueProcessor<E, V> processor : processors.processors) {
             if (processor.supports(container)) {
                 return true;
             }
@@ -101,16 +139,17 @@ public boolean supports(ValueContainer<?> container) {
     @SuppressWarnings("unchecked")
     @Override
     public DataTransactionResult offerToStore(ValueContainer<?> container, E value) {
-        for (ValueProcessor<E, V> processor : this.processors) {
-            if (processor.supports(container)) {
+        final ValueProcessor<E, V>[] processors = getProcessors(container).processors;
+        for (ValueProcessor<E, V> processor : processors) {
+            if (supports(processor, container)) {
                 final DataTransactionResult result = processor.offerToStore(container, value);
                 if (!result.getType().equals(DataTransactionResult.Type.FAILURE)) {
                     return result;
                 }
             }
         }
-        for (ValueProcessor<E, V> processor : this.processors) {
-            if (processor.supports(container)) {
+        for (ValueProcessor<E, V> processor : processors) {
+            if (supports(processor, container)) {
                 final Optional<V> optional = processor.getApiValueFromContainer(container);
                 if (optional.isPresent()) {
                     V mutable = optional.get();
@@ -124,8 +163,8 @@ public DataTransactionResult offerToStore(ValueContainer<?> container, E value)
 
     @Override
     public DataTransactionResult removeFrom(ValueContainer<?> container) {
-        for (ValueProcessor<E, V> processor : this.processors) {
-            if (processor.supports(container)) {
+        for (ValueProcessor<E, V> processor : getProcessors(container).processors) {
+            if (supports(processor, container)) {
                 final DataTransactionResult result = processor.removeFrom(container);
                 if (!result.getType().equals(DataTransactionResult.Type.FAILURE)) {
                     return result;
@@ -134,4 +173,16 @@ public DataTransactionResult removeFrom(ValueContainer<?> container) {
         }
         return DataTransactionResult.failNoData();
     }
+
+    private static final class HolderProcessors<E, V extends BaseValue<E>> {
+
+        final ValueProcessor<E, V>[] processors;
+        // Whether any processor supports every container of the class
+        final boolean supported;
+
+        HolderProcessors(ValueProcessor<E, V>[] processors, boolean supported) {
+            this.processors = processors;
+            this.supported = supported;
+        }
+    }
 }
@@ -198,7 +198,7 @@ public DataContainer toContainer() {
             container.set(DataQueries.ENTITY_ID, this.entityUuid.toString());
         }
         if (this.compound != null) {
-            container.set(DataQueries.UNSAFE_NBT, NbtTranslator.getInstance().translateFrom(this.compound));
+            NbtTranslator.getInstance().translateCompoundToData(this.compound, container.createView(DataQueries.UNSAFE_NBT));
         }
 
         return container;
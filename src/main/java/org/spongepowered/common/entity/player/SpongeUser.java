@@ -50,6 +50,7 @@
 import org.spongepowered.common.SpongeImpl;
 import org.spongepowered.common.data.util.DataQueries;
 import org.spongepowered.common.data.util.NbtDataUtil;
+import org.spongepowered.common.service.user.UserIndex;
 import org.spongepowered.common.world.WorldManager;
 
 import java.io.File;
@@ -82,16 +83,41 @@ public class SpongeUser implements ArmorEquipable, Tamer, DataSerializable, Carr
     private final GameProfile profile;
 
     private final Map<UUID, RespawnLocation> spawnLocations = Maps.newHashMap();
+    @Nullable private File pendingDataFile;
 
     public SpongeUser(GameProfile profile) {
         this.profile = profile;
     }
 
+    /**
+     * Sets the player data file this user is read from the first time its
+     * data is accessed, rather than when the user is looked up.
+     *
+     * @param dataFile The player data file
+     */
+    public void setPendingDataFile(File dataFile) {
+        this.pendingDataFile = dataFile;
+    }
+
+    private void loadPendingData() {
+        final File dataFile = this.pendingDataFile;
+        if (dataFile == null) {
+            return;
+        }
+        this.pendingDataFile = null;
+        try (FileInputStream stream = new FileInputStream(dataFile)) {
+            this.readFromNbt(CompressedStreamTools.readCompressed(stream));
+        } catch (IOException e) {
+            SpongeImpl.getLogger().warn("Corrupt user file {}", dataFile, e);
+        }
+    }
+
     private void reset() {
         this.spawnLocations.clear();
     }
 
     public void readFromNbt(NBTTagCompound compound) {
+        this.pendingDataFile = null;
         this.reset();
 
         // See EntityPlayer#readEntityFromNBT
@@ -124,6 +150,7 @@ public void readFromNbt(NBTTagCompound compound) {
     }
 
     public void writeToNbt(NBTTagCompound compound) {
+        this.loadPendingData();
 
         final NBTTagCompound forgeCompound = compound.getCompoundTag(NbtDataUtil.FORGE_DATA);
         final NBTTagCompound spongeCompound = forgeCompound.getCompoundTag(NbtDataUtil.SPONGE_DATA);
@@ -166,6 +193,7 @@ public int getContentVersion() {
 
     @Override
     public DataContainer toContainer() {
+        this.loadPendingData();
         // TODO More data
         return new MemoryDataContainer()
                 .set(Queries.CONTENT_VERSION, getContentVersion())
@@ -255,6 +283,7 @@ public Map<UUID, RespawnLocation> getBedlocations() {
         if (player.isPresent()) {
             return ((ISpongeUser) player.get()).getBedlocations();
         }
+        this.loadPendingData();
         return this.spawnLocations;
     }
 
@@ -264,6 +293,7 @@ public boolean setBedLocations(Map<UUID, RespawnLocation> value) {
         if (player.isPresent()) {
             return ((ISpongeUser) player.get()).setBedLocations(value);
         }
+        this.loadPendingData();
         this.spawnLocations.clear();
         this.spawnLocations.putAll(value);
         this.markDirty();
@@ -276,6 +306,7 @@ public ImmutableMap<UUID, RespawnLocation> removeAllBeds() {
         if (player.isPresent()) {
             return ((ISpongeUser) player.get()).removeAllBeds();
         }
+        this.loadPendingData();
         ImmutableMap<UUID, RespawnLocation> locations = ImmutableMap.copyOf(this.spawnLocations);
         this.spawnLocations.clear();
         this.markDirty();
@@ -304,6 +335,7 @@ public void save() {
         try {
             CompressedStreamTools.writeCompressed(tag, new FileOutputStream(dataFile));
             dirtyUsers.remove(this);
+            UserIndex.markStored(this.profile);
         } catch (IOException e) {
             SpongeImpl.getLogger().warn("Failed to save user file [{}]!", dataFile, e);
         }
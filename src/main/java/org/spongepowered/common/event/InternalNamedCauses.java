@@ -88,6 +88,8 @@ public static final class General {
         public static final String BLOCK_BREAK_FORTUNE = "BreakingBlockFortune";
         public static final String BLOCK_BREAK_POSITION = "BreakingBlockPosition";
         public static final String PLUGIN_CAUSE = "PluginCause";
+        public static final String EXPLOSION = "Explosion";
+        public static final String EXPLODER = "Exploder";
 
         private General() {
         }
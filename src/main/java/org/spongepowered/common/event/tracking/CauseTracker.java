@@ -39,9 +39,11 @@
 import net.minecraft.world.WorldServer;
 import net.minecraft.world.chunk.Chunk;
 import org.apache.logging.log4j.Level;
+import org.spongepowered.api.block.BlockSnapshot;
 import org.spongepowered.api.entity.Entity;
 import org.spongepowered.api.event.SpongeEventFactory;
 import org.spongepowered.api.event.cause.Cause;
+import org.spongepowered.api.event.cause.NamedCause;
 import org.spongepowered.api.event.entity.SpawnEntityEvent;
 import org.spongepowered.api.world.World;
 import org.spongepowered.asm.util.PrettyPrinter;
@@ -94,6 +96,8 @@ public final class CauseTracker {
     private final CauseStack stack = new CauseStack(DEFAULT_QUEUE_SIZE);
 
     @Nullable private PhaseData currentProcessingState = null;
+    @Nullable private PhaseContext sourceContext = null;
+    @Nullable private Object currentSource = null;
 
     private final boolean isVerbose = SpongeImpl.getGlobalConfig().getConfig().getCauseTracker().isVerbose();
 
@@ -243,6 +247,26 @@ public PhaseData getCurrentProcessingPhase() {
         return this.currentProcessingState == null ? CauseStack.EMPTY_DATA : this.currentProcessingState;
     }
 
+    /**
+     * Gets the {@link NamedCause#SOURCE} of the current phase, preferring a
+     * {@link BlockSnapshot} source. Completed contexts can no longer change,
+     * so the lookup is only repeated once a different context is on top of
+     * the stack.
+     *
+     * @return The source of the current phase, if any
+     */
+    @Nullable
+    public Object getCurrentPhaseSource() {
+        final PhaseContext context = this.stack.peekContext();
+        if (context != this.sourceContext) {
+            this.sourceContext = context;
+            this.currentSource = context.firstNamed(NamedCause.SOURCE, BlockSnapshot.class)
+                    .map(Object.class::cast)
+                    .orElseGet(() -> context.firstNamed(NamedCause.SOURCE, Object.class).orElse(null));
+        }
+        return this.currentSource;
+    }
+
     // --------------------- DELEGATED WORLD METHODS -------------------------
 
     /**
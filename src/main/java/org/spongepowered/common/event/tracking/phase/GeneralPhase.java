@@ -32,6 +32,7 @@
 import net.minecraft.command.ICommandSender;
 import net.minecraft.entity.item.EntityItem;
 import net.minecraft.util.math.BlockPos;
+import net.minecraft.world.Explosion;
 import net.minecraft.world.WorldServer;
 import org.spongepowered.api.block.BlockSnapshot;
 import org.spongepowered.api.data.Transaction;
@@ -64,6 +65,7 @@
 import org.spongepowered.common.event.tracking.phase.util.PhaseUtil;
 import org.spongepowered.common.interfaces.IMixinChunk;
 import org.spongepowered.common.interfaces.world.IMixinLocation;
+import org.spongepowered.common.interfaces.world.IMixinWorldServer;
 import org.spongepowered.common.registry.type.event.InternalSpawnTypes;
 import org.spongepowered.common.util.SpongeHooks;
 import org.spongepowered.common.util.VecHelper;
@@ -71,6 +73,7 @@
 import org.spongepowered.common.world.SpongeProxyBlockAccess;
 
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.List;
@@ -95,6 +98,22 @@ public boolean tracksEntitySpecificDrops() {
                 return true;
             }
 
+        },
+        /**
+         * Removes the blocks of the explosions batched during a world tick,
+         * with the first explosion as the source and its exploder named.
+         */
+        EXPLOSION {
+            @Override
+            public boolean canSwitchTo(IPhaseState state) {
+                return state instanceof BlockPhase.State;
+            }
+
+            @Override
+            public boolean tracksBlockSpecificDrops() {
+                return true;
+            }
+
         },
         COMPLETE {
             @Override
@@ -222,6 +241,9 @@ public void unwind(CauseTracker causeTracker, IPhaseState state, PhaseContext ph
                             }
                         }
                     });
+        } else if (state == State.EXPLOSION) {
+            phaseContext.getCapturedBlockSupplier()
+                    .ifPresentAndNotEmpty(blocks -> GeneralFunctions.processBlockCaptures(blocks, causeTracker, state, phaseContext));
         } else if (state == Post.UNWINDING) {
             final IPhaseState unwindingState = phaseContext.firstNamed(InternalNamedCauses.Tracker.UNWINDING_STATE, IPhaseState.class)
                     .orElseThrow(PhaseUtil.throwWithContext("Expected to be unwinding a phase, but no phase found!", phaseContext));
@@ -408,6 +430,43 @@ private static void performPostBlockAdditions(CauseTracker causeTracker, PhaseCo
         }
     }
 
+    @Override
+    public void associateAdditionalCauses(IPhaseState state, PhaseContext context, Cause.Builder builder, CauseTracker causeTracker) {
+        if (state == State.EXPLOSION) {
+            context.firstNamed(InternalNamedCauses.General.EXPLODER, Entity.class)
+                    .ifPresent(exploder -> builder.named(NamedCause.of(InternalNamedCauses.General.EXPLODER, exploder)));
+        }
+    }
+
+    @Override
+    public void appendBlockDropCauses(Cause.Builder builder, IPhaseState state, PhaseContext context) {
+        if (state == State.EXPLOSION) {
+            context.firstNamed(NamedCause.SOURCE, Explosion.class)
+                    .ifPresent(explosion -> builder.named(NamedCause.of(InternalNamedCauses.General.EXPLOSION, explosion)));
+            context.firstNamed(InternalNamedCauses.General.EXPLODER, Entity.class)
+                    .ifPresent(exploder -> builder.named(NamedCause.of(InternalNamedCauses.General.EXPLODER, exploder)));
+        }
+    }
+
+    @Override
+    public boolean spawnEntityOrCapture(IPhaseState phaseState, PhaseContext context, Entity entity, int chunkX, int chunkZ) {
+        if (phaseState == State.EXPLOSION) {
+            // Entities spawned by the destroyed blocks, like primed TNT
+            final Cause.Builder builder = Cause.source(SpawnCause.builder()
+                    .type(InternalSpawnTypes.BLOCK_SPAWNING)
+                    .build());
+            this.appendBlockDropCauses(builder, phaseState, context);
+            final SpawnEntityEvent event = SpongeEventFactory.createSpawnEntityEvent(builder.build(), Arrays.asList(entity), entity.getWorld());
+            SpongeImpl.postEvent(event);
+            if (!event.isCancelled()) {
+                ((IMixinWorldServer) entity.getWorld()).forceSpawnEntity(entity);
+                return true;
+            }
+            return false;
+        }
+        return super.spawnEntityOrCapture(phaseState, context, entity, chunkX, chunkZ);
+    }
+
     @Override
     public boolean ignoresBlockUpdateTick(PhaseData phaseData) {
         return phaseData.getState() == Post.UNWINDING;
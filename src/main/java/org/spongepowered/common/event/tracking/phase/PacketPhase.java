@@ -169,6 +169,25 @@ default boolean ignoresItemPreMerges() {
         default boolean doesCaptureEntityDrops() {
             return false;
         }
+
+        /**
+         * Whether a snapshot of the cursor item is taken before the packet
+         * is processed. Only states unwinding with a cursor transaction
+         * need it, it is taken for every state unless declared otherwise.
+         */
+        default boolean tracksCursor() {
+            return true;
+        }
+
+        /**
+         * Whether changes made while processing the packet are captured. A
+         * state that does not capture is processed with a context holding
+         * no capture suppliers, and without block capturing or post
+         * processing.
+         */
+        default boolean doesCaptureChanges() {
+            return true;
+        }
     }
 
     public enum Inventory implements IPacketState, IPhaseState {
@@ -451,8 +470,8 @@ public void populateContext(EntityPlayerMP playerMP, Packet<?> packet, PhaseCont
         },
         MOVEMENT() {
             @Override
-            public void populateContext(EntityPlayerMP playerMP, Packet<?> packet, PhaseContext context) {
-                context.addBlockCaptures().addEntityCaptures();
+            public boolean tracksCursor() {
+                return false;
             }
 
         },
@@ -491,6 +510,16 @@ public boolean tracksEntitySpecificDrops() {
             public boolean ignoresItemPreMerges() {
                 return true;
             }
+
+            @Override
+            public boolean tracksCursor() {
+                return false;
+            }
+
+            @Override
+            public boolean doesCaptureChanges() {
+                return false;
+            }
         },
         INTERACT_ENTITY {
             @Override
@@ -906,11 +935,11 @@ public void unwind(CauseTracker causeTracker, IPhaseState phaseState, PhaseConte
             .build();
     @Override
     public boolean requiresBlockCapturing(IPhaseState currentState) {
-        return currentState instanceof General;
+        return currentState instanceof General && ((IPacketState) currentState).doesCaptureChanges();
     }
 
     @Override
     public boolean requiresPost(IPhaseState state) {
-        return state != General.INVALID;
+        return state != General.INVALID && ((IPacketState) state).doesCaptureChanges();
     }
 }
\ No newline at end of file
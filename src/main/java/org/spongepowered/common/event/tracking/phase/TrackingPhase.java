@@ -223,6 +223,18 @@ public void associateAdditionalCauses(IPhaseState state, PhaseContext context, C
 
     }
 
+    /**
+     * Appends the causes of the current state to the cause of items dropped
+     * by a block changed during the state.
+     *
+     * @param builder The cause builder of the item drops
+     * @param state The state the block was changed in
+     * @param context The context of the state
+     */
+    public void appendBlockDropCauses(Cause.Builder builder, IPhaseState state, PhaseContext context) {
+
+    }
+
     public void capturePlayerUsingStackToBreakBlock(@Nullable ItemStack itemStack, EntityPlayerMP playerMP, IPhaseState state, PhaseContext context,
             CauseTracker causeTracker) {
 
@@ -321,6 +321,7 @@ public static void spawnItemEntitiesForBlockDrops(Collection<EntityItem> entityI
                 .type(InternalSpawnTypes.DROPPED_ITEM)
                 .build());
         phaseContext.firstNamed(NamedCause.NOTIFIER, User.class).map(NamedCause::notifier).ifPresent(builder::named);
+        phaseState.getPhase().appendBlockDropCauses(builder, phaseState, phaseContext);
         final Cause spawnCauses = builder.build();
         final DropItemEvent.Destruct
                 destruct =
@@ -373,6 +374,7 @@ public static void spawnItemDataForBlockDrops(Collection<ItemDropData> itemStack
                 .type(InternalSpawnTypes.DROPPED_ITEM)
                 .build());
         phaseContext.firstNamed(NamedCause.NOTIFIER, User.class).map(NamedCause::notifier).ifPresent(builder::named);
+        state.getPhase().appendBlockDropCauses(builder, state, phaseContext);
         final Cause spawnCauses = builder.build();
         final DropItemEvent.Destruct
                 destruct =
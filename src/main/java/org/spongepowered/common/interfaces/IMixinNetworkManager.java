@@ -25,6 +25,7 @@
 package org.spongepowered.common.interfaces;
 
 import com.mojang.authlib.properties.Property;
+import net.minecraft.network.Packet;
 import org.spongepowered.api.MinecraftVersion;
 
 import java.net.InetSocketAddress;
@@ -52,4 +53,25 @@ public interface IMixinNetworkManager {
     Property[] getSpoofedProfile();
 
     void setSpoofedProfile(Property[] profile);
+
+    /**
+     * Sends a packet which may be held back until the end of the tick when
+     * outbound packet batching is enabled. Urgent packets, packets sent from
+     * another thread than the main thread, or packets sent while batching is
+     * disabled, are sent and flushed immediately.
+     *
+     * @param packet The packet to send
+     */
+    void sendPacketBatched(Packet<?> packet);
+
+    /**
+     * Flushes the packets batched since the last flush and updates the per
+     * tick metrics of this connection. Called on the main thread at the end
+     * of every tick.
+     */
+    void flushBatchedPackets();
+
+    int getPacketsLastTick();
+
+    long getBytesLastTick();
 }
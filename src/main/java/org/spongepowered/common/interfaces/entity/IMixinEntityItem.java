@@ -0,0 +1,59 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.common.interfaces.entity;
+
+import net.minecraft.entity.item.EntityItem;
+
+public interface IMixinEntityItem {
+
+    /**
+     * Attempts to merge this item with the other item, using the same checks
+     * vanilla applies to nearby items.
+     *
+     * @param other The other item
+     * @return True if the items were merged
+     */
+    boolean combineWith(EntityItem other);
+
+    /**
+     * Gets whether this item wanted to search for nearby items since the
+     * last merge pass and clears the flag. Items only want to search when
+     * they ticked and vanilla would have searched, which is when they moved
+     * to another block or every 25 ticks.
+     *
+     * @return True if this item wants to search for nearby items
+     */
+    boolean pollMergeSearch();
+
+    /**
+     * Gets a hash of the item, damage and NBT of the stack of this item.
+     * The hash is computed on every call, as the stack and its tag compound
+     * may be changed in place.
+     *
+     * @return The merge key
+     */
+    int getMergeKey();
+
+}
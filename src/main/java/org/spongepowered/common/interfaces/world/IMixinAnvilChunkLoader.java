@@ -25,9 +25,12 @@
 package org.spongepowered.common.interfaces.world;
 
 import net.minecraft.world.World;
+import org.spongepowered.common.world.storage.UnloadedChunkCache;
 
 import java.nio.file.Path;
 
+import javax.annotation.Nullable;
+
 public interface IMixinAnvilChunkLoader {
 
     // Forge method
@@ -35,4 +38,9 @@ public interface IMixinAnvilChunkLoader {
 
     Path getWorldDir();
 
+    @Nullable
+    UnloadedChunkCache getUnloadedChunkCache();
+
+    void setUnloadedChunkCache(@Nullable UnloadedChunkCache cache);
+
 }
@@ -36,6 +36,10 @@
 import org.spongepowered.common.config.type.WorldConfig;
 import org.spongepowered.common.entity.EntityUtil;
 import org.spongepowered.common.event.tracking.CauseTracker;
+import org.spongepowered.common.world.EntityTypeIndex;
+import org.spongepowered.common.world.ExplosionBatch;
+import org.spongepowered.common.world.LightingQueue;
+import org.spongepowered.common.world.PortalIndex;
 import org.spongepowered.common.world.gen.SpongeChunkGenerator;
 import org.spongepowered.common.world.gen.SpongeWorldGenerator;
 
@@ -69,6 +73,14 @@ default boolean forceSpawnEntity(Entity entity) {
 
     void onSpongeEntityRemoved(Entity entity);
 
+    EntityTypeIndex getEntityTypeIndex();
+
+    PortalIndex getPortalIndex();
+
+    LightingQueue getLightingQueue();
+
+    ExplosionBatch getExplosionBatch();
+
     void addEntityRotationUpdate(Entity entity, Vector3d rotation);
 
     SpongeBlockSnapshot createSpongeBlockSnapshot(IBlockState state, IBlockState extended, BlockPos pos, int updateFlag);
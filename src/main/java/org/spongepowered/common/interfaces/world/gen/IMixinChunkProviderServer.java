@@ -25,6 +25,7 @@
 package org.spongepowered.common.interfaces.world.gen;
 
 import net.minecraft.world.chunk.Chunk;
+import org.spongepowered.common.world.storage.UnloadedChunkCache;
 
 import javax.annotation.Nullable;
 
@@ -42,4 +43,15 @@ public interface IMixinChunkProviderServer {
     Chunk getChunkIfLoaded(int x, int z);
 
     void setMaxChunkUnloads(int maxUnloads);
+
+    /**
+     * Gets the cache of recently unloaded chunks used by the chunk loader,
+     * if the chunk loader supports one.
+     *
+     * @return The unloaded chunk cache, or null if unsupported
+     */
+    @Nullable
+    UnloadedChunkCache getUnloadedChunkCache();
+
+    void setUnloadedChunkCache(UnloadedChunkCache cache);
 }
@@ -172,7 +172,7 @@ public DataContainer toContainer() {
             container.set(DataQueries.DATA_MANIPULATORS, DataUtil.getSerializedImmutableManipulatorList(this.manipulators));
         }
         if (this.compound != null) {
-            container.set(DataQueries.UNSAFE_NBT, NbtTranslator.getInstance().translateFrom(this.compound));
+            NbtTranslator.getInstance().translateCompoundToData(this.compound, container.createView(DataQueries.UNSAFE_NBT));
         }
         return container;
     }
@@ -45,9 +45,12 @@
 import org.spongepowered.common.item.inventory.lens.SlotProvider;
 import org.spongepowered.common.item.inventory.lens.impl.DefaultEmptyLens;
 import org.spongepowered.common.item.inventory.lens.impl.DefaultIndexedLens;
+import org.spongepowered.common.item.inventory.lens.impl.MinecraftFabric;
 import org.spongepowered.common.item.inventory.lens.impl.collections.SlotCollection;
+import org.spongepowered.common.item.inventory.lens.impl.fabric.ItemTypeIndex;
 import org.spongepowered.common.item.inventory.lens.slots.SlotLens;
 import org.spongepowered.common.item.inventory.observer.InventoryEventArgs;
+import org.spongepowered.common.item.inventory.query.QueryPlan;
 import org.spongepowered.common.item.inventory.util.ItemStackUtil;
 import org.spongepowered.common.text.translation.SpongeTranslation;
 
@@ -298,7 +301,23 @@ public static boolean contains(InventoryAdapter<IInventory, net.minecraft.item.I
         }
 
         public static boolean contains(Fabric<IInventory> inv, Lens<IInventory, net.minecraft.item.ItemStack> lens, ItemType type) {
-            // TODO contains
+            if (lens == null) {
+                return false;
+            }
+            if (inv instanceof MinecraftFabric) {
+                ItemTypeIndex index = ((MinecraftFabric) inv).getItemTypeIndex();
+                if (index != null) {
+                    return index.contains(type, QueryPlan.of(lens).getSlots(lens));
+                }
+            }
+            
+            for (int ord = 0; ord < lens.slotCount(); ord++) {
+                net.minecraft.item.ItemStack stack = lens.getStack(inv, ord);
+                if (ItemTypeIndex.getItem(stack) == type) {
+                    return true;
+                }
+            }
+            
             return false;
         }
     }
@@ -45,6 +45,7 @@
 import org.spongepowered.common.item.inventory.lens.impl.struct.LensHandle;
 import org.spongepowered.common.item.inventory.lens.slots.SlotLens;
 import org.spongepowered.common.item.inventory.observer.InventoryEventArgs;
+import org.spongepowered.common.item.inventory.query.QueryPlan;
 import org.spongepowered.common.item.inventory.observer.InventoryEventArgs.Type;
 import org.spongepowered.common.util.observer.Observer;
 
@@ -76,6 +77,8 @@
     
     private int maxOrdinal = 0;
     
+    private QueryPlan<TInventory, TStack> queryPlan;
+    
     public AbstractLens(int base, int size, InventoryAdapter<TInventory, TStack> adapter, SlotProvider<TInventory, TStack> slots) {
         this(base, size, checkNotNull(adapter, "adapter"), adapter.getClass(), slots);
     }
@@ -139,6 +142,7 @@ protected void addChild(Lens<TInventory, TStack> lens, InventoryProperty<?, ?>..
         checkNotNull(lens, "Attempted to register a null lens");
         this.children.add(lens, properties);
         this.availableSlots.addAll(lens.getSlots());
+        this.queryPlan = null;
         
         if (lens instanceof ObservableLens) {
             ((ObservableLens<TInventory, TStack>) lens).addObserver(this);
@@ -304,9 +308,24 @@ public void notify(Object source, InventoryEventArgs e) {
         }
         if (e.type == Type.LENS_ADDED && source instanceof Lens && this.children.contains(source)) {
             this.availableSlots.addAll(((Lens<?, ?>)source).getSlots());
+            this.queryPlan = null;
         }
     }        
 
+    /**
+     * Get the query plan for the lens tree rooted at this lens, the plan is
+     * rebuilt when children are added to this lens.
+     * 
+     * @return query plan for this lens
+     */
+    public QueryPlan<TInventory, TStack> getQueryPlan() {
+        QueryPlan<TInventory, TStack> queryPlan = this.queryPlan;
+        if (queryPlan == null || !queryPlan.isValid()) {
+            this.queryPlan = queryPlan = new QueryPlan<TInventory, TStack>(this);
+        }
+        return queryPlan;
+    }
+
     @Override
     public void invalidate(Fabric<TInventory> inv) {
         this.raise(new InventoryEventArgs(Type.LENS_INVALIDATED, this));
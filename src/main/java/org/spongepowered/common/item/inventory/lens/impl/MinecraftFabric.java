@@ -29,14 +29,21 @@
 import net.minecraft.inventory.Container;
 import net.minecraft.inventory.IInventory;
 import net.minecraft.inventory.Slot;
+import org.spongepowered.common.SpongeImpl;
 import org.spongepowered.common.item.inventory.lens.Fabric;
 import org.spongepowered.common.item.inventory.lens.UnsupportedFabricException;
 import org.spongepowered.common.item.inventory.lens.impl.fabric.ContainerFabric;
 import org.spongepowered.common.item.inventory.lens.impl.fabric.DefaultInventoryFabric;
 import org.spongepowered.common.item.inventory.lens.impl.fabric.DelegatingFabric;
+import org.spongepowered.common.item.inventory.lens.impl.fabric.ItemTypeIndex;
 
 public abstract class MinecraftFabric implements Fabric<IInventory> {
 
+    // Read once, changing the setting requires a restart
+    private static Boolean itemTypeIndexEnabled;
+
+    private ItemTypeIndex itemTypeIndex;
+
     @SuppressWarnings("unchecked")
     public static <TFabric> Fabric<IInventory> of(TFabric target) {
         checkNotNull(target, "Fabric target");
@@ -55,5 +62,29 @@ public static <TFabric> Fabric<IInventory> of(TFabric target) {
         }
         throw new UnsupportedFabricException("Container of type %s could not be used as an inventory fabric", target.getClass());
     }
+
+    /**
+     * Get the index of slots by item type for this fabric, or null if the
+     * index is disabled.
+     */
+    public ItemTypeIndex getItemTypeIndex() {
+        if (this.itemTypeIndex == null && isItemTypeIndexEnabled()) {
+            this.itemTypeIndex = new ItemTypeIndex(this);
+        }
+        return this.itemTypeIndex;
+    }
+
+    private static boolean isItemTypeIndexEnabled() {
+        if (itemTypeIndexEnabled == null) {
+            itemTypeIndexEnabled = SpongeImpl.getGlobalConfig().getConfig().getOptimizations().useInventoryItemIndex();
+        }
+        return itemTypeIndexEnabled;
+    }
+
+    protected void onSlotChanged(int index) {
+        if (this.itemTypeIndex != null) {
+            this.itemTypeIndex.onSlotChanged(index);
+        }
+    }
     
 }
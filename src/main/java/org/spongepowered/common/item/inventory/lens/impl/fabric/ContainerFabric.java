@@ -79,6 +79,7 @@ public ItemStack getStack(int index) {
     @Override
     public void setStack(int index, ItemStack stack) {
         this.container.getSlot(index).putStack(stack);
+        this.onSlotChanged(index);
     }
 
     @Override
@@ -59,6 +59,7 @@ public ItemStack getStack(int index) {
     @Override
     public void setStack(int index, ItemStack stack) {
         this.inventory.setInventorySlotContents(index, stack);
+        this.onSlotChanged(index);
     }
 
     @Override
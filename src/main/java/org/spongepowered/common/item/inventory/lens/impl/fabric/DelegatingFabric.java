@@ -56,6 +56,12 @@ public IInventory get(int index) {
         throw new UnsupportedOperationException("Unable to access slot at " + index + " for delegating fabric of " + this.slot.getClass());
     }
 
+    @Override
+    public ItemTypeIndex getItemTypeIndex() {
+        // A single slot, nothing to index
+        return null;
+    }
+
     @Override
     public ItemStack getStack(int index) {
         return this.slot.getStack();
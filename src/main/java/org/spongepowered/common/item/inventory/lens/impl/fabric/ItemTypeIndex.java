@@ -0,0 +1,152 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.common.item.inventory.lens.impl.fabric;
+
+import net.minecraft.inventory.IInventory;
+import net.minecraft.item.Item;
+import net.minecraft.item.ItemStack;
+import org.spongepowered.api.item.ItemType;
+import org.spongepowered.common.item.inventory.lens.Fabric;
+
+import java.util.BitSet;
+import java.util.IdentityHashMap;
+import java.util.Map;
+
+/**
+ * Index of the slots in a {@link Fabric} by the type of item they hold.
+ *
+ * <p>Changes made through the fabric are applied to the index as they
+ * happen. Changes made directly to the underlying inventories are not
+ * observed, vanilla writes to the slot arrays and changes stack sizes in
+ * place. Every read therefore revalidates the slots it reads, which only
+ * compares each stack and its item against the indexed ones, and updates
+ * the slots which changed.</p>
+ */
+public class ItemTypeIndex {
+
+    private final Fabric<IInventory> fabric;
+
+    private final Map<Item, BitSet> slots = new IdentityHashMap<>();
+
+    private ItemStack[] stacks = new ItemStack[0];
+
+    private Item[] items = new Item[0];
+
+    public ItemTypeIndex(Fabric<IInventory> fabric) {
+        this.fabric = fabric;
+    }
+
+    /**
+     * Update the index for a slot which was changed through the fabric.
+     *
+     * @param index slot index
+     */
+    public void onSlotChanged(int index) {
+        if (index >= 0 && index < this.stacks.length) {
+            this.update(index, this.fabric.getStack(index));
+        }
+    }
+
+    /**
+     * Gets whether any of the specified slots holds an item of the specified
+     * type.
+     *
+     * @param type item type
+     * @param within slot indices to check
+     * @return true if a slot holds the item type
+     */
+    public boolean contains(ItemType type, BitSet within) {
+        this.revalidate(within);
+        final BitSet slots = this.slots.get((Item) type);
+        return slots != null && slots.intersects(within);
+    }
+
+    /**
+     * Gets the slots within the specified slot indices which hold an item of
+     * any of the specified types.
+     *
+     * @param types item types
+     * @param within slot indices to check
+     * @return matching slot indices
+     */
+    public BitSet getSlots(Iterable<ItemType> types, BitSet within) {
+        this.revalidate(within);
+        final BitSet matches = new BitSet();
+        for (ItemType type : types) {
+            final BitSet slots = this.slots.get((Item) type);
+            if (slots != null) {
+                matches.or(slots);
+            }
+        }
+        matches.and(within);
+        return matches;
+    }
+
+    private void revalidate(BitSet within) {
+        final int size = this.fabric.getSize();
+        if (size != this.stacks.length) {
+            this.stacks = new ItemStack[size];
+            this.items = new Item[size];
+            this.slots.clear();
+        }
+        for (int index = within.nextSetBit(0); index >= 0 && index < size; index = within.nextSetBit(index + 1)) {
+            final ItemStack stack = this.fabric.getStack(index);
+            if (stack != this.stacks[index] || ItemTypeIndex.getItem(stack) != this.items[index]) {
+                this.update(index, stack);
+            }
+        }
+    }
+
+    private void update(int index, ItemStack stack) {
+        final Item item = ItemTypeIndex.getItem(stack);
+        final Item previous = this.items[index];
+        if (previous != item) {
+            if (previous != null) {
+                final BitSet slots = this.slots.get(previous);
+                slots.clear(index);
+                if (slots.isEmpty()) {
+                    this.slots.remove(previous);
+                }
+            }
+            if (item != null) {
+                this.slots.computeIfAbsent(item, key -> new BitSet()).set(index);
+            }
+            this.items[index] = item;
+        }
+        this.stacks[index] = stack;
+    }
+
+    /**
+     * Gets the item type of a stack as the index sees it, empty stacks have
+     * no item type.
+     *
+     * @param stack The stack
+     * @return The item, or null if the stack is empty
+     */
+    public static Item getItem(ItemStack stack) {
+        return stack == null || stack.stackSize < 1 ? null : stack.getItem();
+    }
+
+}
@@ -27,8 +27,6 @@
 import static com.google.common.base.Preconditions.*;
 
 import com.google.common.collect.Maps;
-import it.unimi.dsi.fastutil.ints.IntOpenHashSet;
-import it.unimi.dsi.fastutil.ints.IntSet;
 import org.spongepowered.api.item.ItemType;
 import org.spongepowered.api.item.inventory.Inventory;
 import org.spongepowered.api.item.inventory.InventoryProperty;
@@ -39,7 +37,10 @@
 import org.spongepowered.common.item.inventory.lens.Fabric;
 import org.spongepowered.common.item.inventory.lens.Lens;
 import org.spongepowered.common.item.inventory.lens.MutableLensSet;
+import org.spongepowered.common.item.inventory.lens.impl.MinecraftFabric;
 import org.spongepowered.common.item.inventory.lens.impl.collections.MutableLensSetImpl;
+import org.spongepowered.common.item.inventory.lens.impl.fabric.ItemTypeIndex;
+import org.spongepowered.common.item.inventory.lens.slots.SlotLens;
 import org.spongepowered.common.item.inventory.query.result.MinecraftResultAdapterProvider;
 import org.spongepowered.common.item.inventory.query.result.QueryResult;
 import org.spongepowered.common.item.inventory.query.strategy.ClassStrategy;
@@ -51,6 +52,7 @@
 import org.spongepowered.common.item.inventory.query.strategy.expression.ExpressionStrategy;
 
 import java.lang.reflect.Constructor;
+import java.util.BitSet;
 import java.util.Collection;
 import java.util.Map;
 
@@ -92,8 +94,8 @@ public String getKey() {
         
     }
     
-    private static final Map<String, Class<? extends QueryStrategy<?, ?, ?>>> strategies
-            = Maps.<String, Class<? extends QueryStrategy<?, ?, ?>>>newHashMap();
+    private static final Map<String, Constructor<? extends QueryStrategy<?, ?, ?>>> strategies
+            = Maps.<String, Constructor<? extends QueryStrategy<?, ?, ?>>>newHashMap();
     
     private static ResultAdapterProvider<?, ?> defaultResultProvider;
     
@@ -127,12 +129,32 @@ public Inventory execute(ResultAdapterProvider<TInventory, TStack> resultProvide
             return this.adapter;
         }
         
-        return this.toResult(resultProvider, this.depthFirstSearch(this.lens));
+        QueryPlan<TInventory, TStack> plan = QueryPlan.of(this.lens);
+        
+        Object cacheKey = this.strategy.getCacheKey();
+        if (cacheKey != null) {
+            Inventory result = plan.getResult(this.strategy, cacheKey, this.inventory, resultProvider);
+            if (result == null) {
+                result = this.toResult(resultProvider, this.depthFirstSearch(plan, null, this.lens));
+                plan.putResult(this.strategy, cacheKey, this.inventory, resultProvider, result);
+            }
+            return result;
+        }
+        
+        BitSet matchedSlots = null;
+        if (this.strategy.matchesSlotContents()) {
+            matchedSlots = this.matchSlots(plan);
+            if (matchedSlots.isEmpty()) {
+                return new EmptyInventoryImpl(this.adapter);
+            }
+        }
+        
+        return this.toResult(resultProvider, this.depthFirstSearch(plan, matchedSlots, this.lens));
     }
 
     @SuppressWarnings("unchecked")
     private Inventory toResult(ResultAdapterProvider<TInventory, TStack> resultProvider, MutableLensSet<TInventory, TStack> matches) {
-        if (matches.size() == 0) {
+        if (matches == null || matches.size() == 0) {
             return new EmptyInventoryImpl(this.adapter);
         }
         if (matches.size() == 1) {
@@ -147,31 +169,69 @@ private Inventory toResult(ResultAdapterProvider<TInventory, TStack> resultProvi
         return ((ResultAdapterProvider<TInventory, TStack>)Query.defaultResultProvider).getResultAdapter(this.inventory, matches);
     }
 
-    private MutableLensSet<TInventory, TStack> depthFirstSearch(Lens<TInventory, TStack> lens) {
-        MutableLensSet<TInventory, TStack> matches = new MutableLensSetImpl<TInventory, TStack>(true);
+    /**
+     * Tests every slot in the plan against the strategy once, for strategies
+     * which only match slot contents.
+     */
+    private BitSet matchSlots(QueryPlan<TInventory, TStack> plan) {
+        if (this.strategy instanceof ItemTypeStrategy && this.inventory instanceof MinecraftFabric) {
+            ItemTypeIndex index = ((MinecraftFabric) this.inventory).getItemTypeIndex();
+            if (index != null) {
+                return index.getSlots(((ItemTypeStrategy<?>) this.strategy).getTypes(), plan.getSlots(this.lens));
+            }
+        }
+        
+        BitSet matchedSlots = new BitSet();
+        for (SlotLens<TInventory, TStack> slot : plan.getSlotLenses()) {
+            if (this.strategy.matches(slot, null, this.inventory)) {
+                matchedSlots.or(plan.getSlots(slot));
+            }
+        }
+        return matchedSlots;
+    }
+
+    /**
+     * Search the lens tree for matching lenses. When matching slots have
+     * already been determined, subtrees which contain none of them are
+     * skipped. Returns null if there are no matches.
+     */
+    private MutableLensSet<TInventory, TStack> depthFirstSearch(QueryPlan<TInventory, TStack> plan, BitSet matchedSlots, Lens<TInventory, TStack> lens) {
+        MutableLensSet<TInventory, TStack> matches = null;
         
         for (Lens<TInventory, TStack> child : lens.getChildren()) {
             if (child == null) {
                 continue;
             }
+            if (matchedSlots != null && !plan.getSlots(child).intersects(matchedSlots)) {
+                continue;
+            }
             if (child.getChildren().size() > 0) {
-                matches.addAll(this.depthFirstSearch(child));
+                MutableLensSet<TInventory, TStack> childMatches = this.depthFirstSearch(plan, matchedSlots, child);
+                if (childMatches != null) {
+                    if (matches == null) {
+                        matches = new MutableLensSetImpl<TInventory, TStack>(true);
+                    }
+                    matches.addAll(childMatches);
+                }
             } 
-            if (this.strategy.matches(child, lens, this.inventory)) {
+            if (matchedSlots != null ? child instanceof SlotLens : this.strategy.matches(child, lens, this.inventory)) {
+                if (matches == null) {
+                    matches = new MutableLensSetImpl<TInventory, TStack>(true);
+                }
                 matches.add(child);
             }
         }
         
         // Only a single match or no matches
-        if (matches.size() < 2) {
+        if (matches == null || matches.size() < 2) {
             return matches;
         }
 
-        return this.reduce(lens, matches);
+        return this.reduce(plan, lens, matches);
     }
 
-    private MutableLensSet<TInventory, TStack> reduce(Lens<TInventory, TStack> lens, MutableLensSet<TInventory, TStack> matches) {
-        if (lens.getSlots().equals(this.getSlots(matches))) {
+    private MutableLensSet<TInventory, TStack> reduce(QueryPlan<TInventory, TStack> plan, Lens<TInventory, TStack> lens, MutableLensSet<TInventory, TStack> matches) {
+        if (plan.getSlots(lens).equals(this.getSlots(plan, matches))) {
             matches.clear();
             matches.add(lens);
             return matches;
@@ -197,10 +257,10 @@ private MutableLensSet<TInventory, TStack> reduce(Lens<TInventory, TStack> lens,
 //        return true;
 //    }
 
-    private IntSet getSlots(Collection<Lens<TInventory, TStack>> lenses) {
-        IntSet slots = new IntOpenHashSet();
+    private BitSet getSlots(QueryPlan<TInventory, TStack> plan, Collection<Lens<TInventory, TStack>> lenses) {
+        BitSet slots = new BitSet();
         for (Lens<TInventory, TStack> lens : lenses) {
-            slots.addAll(lens.getSlots());
+            slots.or(plan.getSlots(lens));
         }
         return slots;
     }
@@ -246,22 +306,22 @@ public static <TInventory, TStack, TArgs> QueryStrategy<TInventory, TStack, TArg
     
     public static <TInventory, TStack, TArgs> QueryStrategy<TInventory, TStack, TArgs> getStrategy(String key) {
         @SuppressWarnings("unchecked")
-        Class<? extends QueryStrategy<TInventory, TStack, TArgs>> strategyClass = (Class<? extends QueryStrategy<TInventory, TStack, TArgs>>) checkNotNull(Query.strategies.get(key), "The specified query strategy [%s], was not registered", key);
+        Constructor<? extends QueryStrategy<TInventory, TStack, TArgs>> ctor = (Constructor<? extends QueryStrategy<TInventory, TStack, TArgs>>) checkNotNull(Query.strategies.get(key), "The specified query strategy [%s], was not registered", key);
         try {
-            return strategyClass.newInstance();
+            return ctor.newInstance();
         } catch (Exception ex) {
-            throw new InvalidQueryStrategyException("The query strategy class %s does not provide a noargs ctor", strategyClass); 
+            throw new InvalidQueryStrategyException("The query strategy class %s does not provide a noargs ctor", ctor.getDeclaringClass()); 
         }
     }
     
     public static void registerStrategy(String key, Class<? extends QueryStrategy<?, ?, ?>> strategyClass) {
+        Constructor<? extends QueryStrategy<?, ?, ?>> ctor;
         try {
-            @SuppressWarnings({ "unchecked", "unused" })
-            Constructor<QueryStrategy<?, ?, ?>> ctor = (Constructor<QueryStrategy<?, ?, ?>>) checkNotNull(strategyClass, "strategyClass").getConstructor();
+            ctor = checkNotNull(strategyClass, "strategyClass").getConstructor();
         } catch (Exception ex) {
             throw new InvalidQueryStrategyException("The query strategy class %s does not provide a noargs ctor", strategyClass); 
         }
-        Query.strategies.put(key, strategyClass);
+        Query.strategies.put(key, ctor);
     }
     
     public static void setDefaultResultProvider(ResultAdapterProvider<?, ?> defaultResultProvider) {
@@ -0,0 +1,197 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.common.item.inventory.query;
+
+import it.unimi.dsi.fastutil.ints.IntIterator;
+import org.spongepowered.api.item.inventory.Inventory;
+import org.spongepowered.common.item.inventory.lens.Fabric;
+import org.spongepowered.common.item.inventory.lens.Lens;
+import org.spongepowered.common.item.inventory.lens.impl.AbstractLens;
+import org.spongepowered.common.item.inventory.lens.slots.SlotLens;
+import org.spongepowered.common.item.inventory.query.Query.ResultAdapterProvider;
+
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Precomputed structure of a lens tree used to execute {@link Query queries}
+ * against it. Holds the slot indices of every lens in the tree as a
+ * {@link BitSet}, one slot lens for every slot index and the results of
+ * queries whose matches depend only on the structure of the tree.
+ *
+ * <p>A plan is held by the root lens it was created for, see
+ * {@link AbstractLens#getQueryPlan()}.</p>
+ *
+ * @param <TInventory>
+ * @param <TStack>
+ */
+public final class QueryPlan<TInventory, TStack> {
+
+    /**
+     * Maximum number of structural query results retained per plan
+     */
+    private static final int MAX_CACHED_RESULTS = 64;
+
+    private final Lens<TInventory, TStack> root;
+
+    private final int slotCount;
+
+    private final Map<Lens<TInventory, TStack>, BitSet> slots = new IdentityHashMap<>();
+
+    private final List<SlotLens<TInventory, TStack>> slotLenses = new ArrayList<>();
+
+    private final Map<ResultKey, CachedResult> results = new ConcurrentHashMap<>();
+
+    public QueryPlan(Lens<TInventory, TStack> root) {
+        this.root = root;
+        this.slotCount = root.getSlots().size();
+        this.index(root, new BitSet());
+    }
+
+    @SuppressWarnings("unchecked")
+    public static <TInventory, TStack> QueryPlan<TInventory, TStack> of(Lens<TInventory, TStack> root) {
+        if (root instanceof AbstractLens) {
+            return ((AbstractLens<TInventory, TStack>) root).getQueryPlan();
+        }
+        return new QueryPlan<TInventory, TStack>(root);
+    }
+
+    private void index(Lens<TInventory, TStack> lens, BitSet seenSlots) {
+        if (this.slots.containsKey(lens)) {
+            return;
+        }
+        final BitSet slots = QueryPlan.toBitSet(lens);
+        this.slots.put(lens, slots);
+        if (lens instanceof SlotLens && !slots.isEmpty() && !seenSlots.get(slots.nextSetBit(0))) {
+            seenSlots.set(slots.nextSetBit(0));
+            this.slotLenses.add((SlotLens<TInventory, TStack>) lens);
+        }
+        for (Lens<TInventory, TStack> child : lens.getChildren()) {
+            if (child != null) {
+                this.index(child, seenSlots);
+            }
+        }
+    }
+
+    private static BitSet toBitSet(Lens<?, ?> lens) {
+        final BitSet slots = new BitSet();
+        for (IntIterator iter = lens.getSlots().iterator(); iter.hasNext();) {
+            slots.set(iter.nextInt());
+        }
+        return slots;
+    }
+
+    /**
+     * Gets whether this plan still describes the lens tree it was created
+     * for. Lenses only ever gain slots, so a change in the slot count of the
+     * root lens means the tree was modified.
+     *
+     * @return true if the plan may be used
+     */
+    public boolean isValid() {
+        return this.root.getSlots().size() == this.slotCount;
+    }
+
+    /**
+     * Gets the slot indices of a lens in the tree. The returned set must not
+     * be modified.
+     *
+     * @param lens lens to get the slots for
+     * @return slot indices
+     */
+    public BitSet getSlots(Lens<TInventory, TStack> lens) {
+        final BitSet slots = this.slots.get(lens);
+        return slots != null ? slots : QueryPlan.toBitSet(lens);
+    }
+
+    /**
+     * Gets a single slot lens for every distinct slot index in the tree.
+     */
+    public List<SlotLens<TInventory, TStack>> getSlotLenses() {
+        return this.slotLenses;
+    }
+
+    Inventory getResult(QueryStrategy<TInventory, TStack, ?> strategy, Object args, Fabric<TInventory> inventory,
+            ResultAdapterProvider<TInventory, TStack> resultProvider) {
+        final CachedResult result = this.results.get(new ResultKey(strategy.getClass(), args, resultProvider));
+        if (result == null || result.inventory != inventory) {
+            return null;
+        }
+        return result.result;
+    }
+
+    void putResult(QueryStrategy<TInventory, TStack, ?> strategy, Object args, Fabric<TInventory> inventory,
+            ResultAdapterProvider<TInventory, TStack> resultProvider, Inventory result) {
+        if (this.results.size() >= QueryPlan.MAX_CACHED_RESULTS) {
+            this.results.clear();
+        }
+        this.results.put(new ResultKey(strategy.getClass(), args, resultProvider), new CachedResult(inventory, result));
+    }
+
+    private static final class ResultKey {
+
+        private final Class<?> strategyClass;
+        private final Object args;
+        private final ResultAdapterProvider<?, ?> resultProvider;
+
+        ResultKey(Class<?> strategyClass, Object args, ResultAdapterProvider<?, ?> resultProvider) {
+            this.strategyClass = strategyClass;
+            this.args = args;
+            this.resultProvider = resultProvider;
+        }
+
+        @Override
+        public boolean equals(Object obj) {
+            if (!(obj instanceof ResultKey)) {
+                return false;
+            }
+            final ResultKey other = (ResultKey) obj;
+            return this.strategyClass == other.strategyClass && this.resultProvider == other.resultProvider
+                    && this.args.equals(other.args);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(this.strategyClass, this.args, System.identityHashCode(this.resultProvider));
+        }
+    }
+
+    private final class CachedResult {
+
+        final Fabric<TInventory> inventory;
+        final Inventory result;
+
+        CachedResult(Fabric<TInventory> inventory, Inventory result) {
+            this.inventory = inventory;
+            this.result = result;
+        }
+    }
+
+}
@@ -26,10 +26,34 @@
 
 import org.spongepowered.common.item.inventory.lens.Fabric;
 import org.spongepowered.common.item.inventory.lens.Lens;
+import org.spongepowered.common.item.inventory.lens.slots.SlotLens;
 
 public abstract class QueryStrategy<TInventory, TStack, TArgs> {
 
     public abstract QueryStrategy<TInventory, TStack, TArgs> with(TArgs[] args);
 
     public abstract boolean matches(Lens<TInventory, TStack> lens, Lens<TInventory, TStack> parent, Fabric<TInventory> inventory);
+
+    /**
+     * Returns the arguments of this strategy if its matches depend only on
+     * the structure of the lens tree and not on the contents of the
+     * inventory. The result of a query using this strategy is then cached
+     * against the root lens. Returns null if the result cannot be cached.
+     * 
+     * @return cache key for the arguments of this strategy, or null
+     */
+    public Object getCacheKey() {
+        return null;
+    }
+
+    /**
+     * Returns true if this strategy only matches {@link SlotLens slot lenses}
+     * and only based on the stack in the slot, in which case every slot is
+     * only tested once per query.
+     * 
+     * @return true if this strategy only matches slot contents
+     */
+    public boolean matchesSlotContents() {
+        return false;
+    }
 }
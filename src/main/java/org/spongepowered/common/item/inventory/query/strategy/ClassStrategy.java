@@ -41,6 +41,11 @@ public QueryStrategy<TInventory, TStack, Class<?>> with(Class<?>[] args) {
         return this;
     }
     
+    @Override
+    public Object getCacheKey() {
+        return this.classes;
+    }
+    
     @Override
     public boolean matches(Lens<TInventory, TStack> lens, Lens<TInventory, TStack> parent, Fabric<TInventory> inventory) {
         if (this.classes.isEmpty()) {
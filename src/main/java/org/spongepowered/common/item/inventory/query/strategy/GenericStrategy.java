@@ -41,6 +41,11 @@ public QueryStrategy<TInventory, TStack, Object> with(Object[] args) {
         return this;
     }
     
+    @Override
+    public Object getCacheKey() {
+        return this.args;
+    }
+    
     @Override
     public boolean matches(Lens<TInventory, TStack> lens, Lens<TInventory, TStack> parent, Fabric<TInventory> inventory) {
         if (this.args.isEmpty()) {
@@ -44,6 +44,11 @@ public QueryStrategy<TInventory, ItemStack, ItemStack> with(ItemStack[] types) {
         return this;
     }
     
+    @Override
+    public boolean matchesSlotContents() {
+        return !this.stacks.isEmpty();
+    }
+    
     @Override
     public boolean matches(Lens<TInventory, ItemStack> lens, Lens<TInventory, ItemStack> parent, Fabric<TInventory> inventory) {
         if (this.stacks.isEmpty()) {
@@ -44,6 +44,15 @@ public QueryStrategy<TInventory, ItemStack, ItemType> with(ItemType[] types) {
         return this;
     }
     
+    public Set<ItemType> getTypes() {
+        return this.types;
+    }
+
+    @Override
+    public boolean matchesSlotContents() {
+        return !this.types.isEmpty();
+    }
+    
     @Override
     public boolean matches(Lens<TInventory, ItemStack> lens, Lens<TInventory, ItemStack> parent, Fabric<TInventory> inventory) {
         if (this.types.isEmpty()) {
@@ -52,7 +61,8 @@ public boolean matches(Lens<TInventory, ItemStack> lens, Lens<TInventory, ItemSt
         
         if (lens instanceof SlotLens) {
             ItemStack stack = ((SlotLens<TInventory, ItemStack>)lens).getStack(inventory);
-            if (stack == null) {
+            // Empty stacks are not indexed by ItemTypeIndex either
+            if (stack == null || stack.getQuantity() < 1) {
                 return false;
             }
             for (ItemType type : this.types) {
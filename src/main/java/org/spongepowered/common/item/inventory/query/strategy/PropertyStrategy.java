@@ -44,6 +44,11 @@
         return this;
     }
     
+    @Override
+    public Object getCacheKey() {
+        return this.properties;
+    }
+    
     @Override
     public boolean matches(Lens<TInventory, TStack> lens, Lens<TInventory, TStack> parent, Fabric<TInventory> inventory) {
         if (this.properties.isEmpty()) {
@@ -24,6 +24,7 @@
  */
 package org.spongepowered.common.mixin.core.ban;
 
+import com.google.common.net.InetAddresses;
 import net.minecraft.server.management.UserList;
 import net.minecraft.server.management.UserListBans;
 import net.minecraft.server.management.UserListEntry;
@@ -59,7 +60,7 @@ public boolean hasEntry(String object) {
         }
 
         try {
-            return Sponge.getServiceManager().provideUnchecked(BanService.class).isBanned(InetAddress.getByName(object));
+            return Sponge.getServiceManager().provideUnchecked(BanService.class).isBanned(parseAddress(object));
         } catch (UnknownHostException e) {
             throw new IllegalArgumentException("Error parsing Ban IP address!", e);
         }
@@ -72,7 +73,7 @@ public UserListIPBansEntry getEntry(String object) {
         }
 
         try {
-            return (UserListIPBansEntry) Sponge.getServiceManager().provideUnchecked(BanService.class).getBanFor(InetAddress.getByName(object)).orElse(null);
+            return (UserListIPBansEntry) Sponge.getServiceManager().provideUnchecked(BanService.class).getBanFor(parseAddress(object)).orElse(null);
         } catch (UnknownHostException e) {
             throw new IllegalArgumentException("Error parsing Ban IP address!", e);
         }
@@ -85,12 +86,17 @@ public void removeEntry(String object) {
         }
 
         try {
-            Sponge.getServiceManager().provideUnchecked(BanService.class).pardon(InetAddress.getByName(object));
+            Sponge.getServiceManager().provideUnchecked(BanService.class).pardon(parseAddress(object));
         } catch (UnknownHostException e) {
             throw new IllegalArgumentException("Error parsing Ban IP address!", e);
         }
     }
 
+    // Ban list keys are address literals, which Guava parses without going through the resolver
+    private static InetAddress parseAddress(String address) throws UnknownHostException {
+        return InetAddresses.isInetAddress(address) ? InetAddresses.forString(address) : InetAddress.getByName(address);
+    }
+
     @Override
     public String[] getKeys() {
         List<String> ips = new ArrayList<>();
@@ -32,17 +32,20 @@
 import org.spongepowered.asm.mixin.injection.Inject;
 import org.spongepowered.asm.mixin.injection.Redirect;
 import org.spongepowered.asm.mixin.injection.callback.CallbackInfo;
+import org.spongepowered.common.interfaces.server.management.IMixinUserList;
 
 import java.io.File;
 import java.util.List;
 
 @Mixin(UserList.class)
-public abstract class MixinUserList {
+public abstract class MixinUserList implements IMixinUserList {
 
     @Shadow private static Logger LOGGER;
     @Shadow public File saveFile;
     @Shadow public abstract String getObjectKey(Object obj);
 
+    private int loadCount;
+
     @Redirect(method = "removeExpired", at = @At(value = "INVOKE", target = "Ljava/util/List;add(Ljava/lang/Object;)Z", remap = false))
     public boolean onAdd(List<Object> list, Object object) {
         return list.add(this.getObjectKey(object)); // Mojang didn't implement this correctly, so we'll fix it
@@ -57,4 +60,14 @@ private void onReadSavedFile(CallbackInfo ci) {
         }
     }
 
+    @Inject(method = "readSavedFile", at = @At("RETURN"))
+    private void onReadSavedFileReturn(CallbackInfo ci) {
+        this.loadCount++;
+    }
+
+    @Override
+    public int getLoadCount() {
+        return this.loadCount;
+    }
+
 }
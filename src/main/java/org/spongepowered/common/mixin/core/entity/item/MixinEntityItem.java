@@ -48,6 +48,7 @@
 import org.spongepowered.asm.mixin.injection.Constant;
 import org.spongepowered.asm.mixin.injection.Inject;
 import org.spongepowered.asm.mixin.injection.ModifyConstant;
+import org.spongepowered.asm.mixin.injection.Redirect;
 import org.spongepowered.asm.mixin.injection.callback.CallbackInfo;
 import org.spongepowered.asm.mixin.injection.callback.CallbackInfoReturnable;
 import org.spongepowered.asm.util.PrettyPrinter;
@@ -55,6 +56,7 @@
 import org.spongepowered.common.data.manipulator.mutable.SpongeRepresentedItemData;
 import org.spongepowered.common.data.value.mutable.SpongeValue;
 import org.spongepowered.common.event.SpongeCommonEventFactory;
+import org.spongepowered.common.interfaces.entity.IMixinEntityItem;
 import org.spongepowered.common.interfaces.world.IMixinWorld;
 import org.spongepowered.common.interfaces.world.IMixinWorldServer;
 import org.spongepowered.common.item.inventory.util.ItemStackUtil;
@@ -63,7 +65,7 @@
 import java.util.List;
 
 @Mixin(EntityItem.class)
-public abstract class MixinEntityItem extends MixinEntity implements Item {
+public abstract class MixinEntityItem extends MixinEntity implements Item, IMixinEntityItem {
 
     private static final short MAGIC_INFINITE_PICKUP_DELAY = 32767;
     private static final short MAGIC_INFINITE_DESPAWN_TIME = -32768;
@@ -73,6 +75,10 @@ public abstract class MixinEntityItem extends MixinEntity implements Item {
     @Shadow private int age;
 
     @Shadow public abstract ItemStack getEntityItem();
+    @Shadow private void searchForOtherItemsNearby() {}
+    @Shadow private boolean combineItems(EntityItem other) {
+        return false;
+    }
 
     public int lifespan;
     public float dropChance = 1.0f;
@@ -83,6 +89,9 @@ public abstract class MixinEntityItem extends MixinEntity implements Item {
      */
     private double cachedRadius = -1;
 
+    // The world merge pass, see IMixinEntityItem
+    private boolean mergeSearchPending;
+
     //
     // In the case where a Forge mod sets the delay to MAGIC_INFINITE_PICKUP_DELAY, but a plugin has
     // never called setPickupDelay or setInfinitePickupDelay, delayBeforeCanPickup would be decremented,
@@ -117,6 +126,37 @@ public void onEntityItemUpdate(CallbackInfo ci) {
         this.destructCause = Cause.of(NamedCause.of("ExpiredItem", this));
     }
 
+    @Redirect(method = "onUpdate()V", at = @At(value = "INVOKE", target = "Lnet/minecraft/entity/item/EntityItem;searchForOtherItemsNearby()V"))
+    private void onSearchForOtherItemsNearby(EntityItem self) {
+        // The world merges all of its items at once when the merge pass is enabled
+        if (this.worldObj.isRemote || !SpongeImpl.getGlobalConfig().getConfig().getOptimizations().useWorldItemMergePass()) {
+            this.searchForOtherItemsNearby();
+        } else {
+            this.mergeSearchPending = true;
+        }
+    }
+
+    @Override
+    public boolean combineWith(EntityItem other) {
+        return this.combineItems(other);
+    }
+
+    @Override
+    public boolean pollMergeSearch() {
+        final boolean pending = this.mergeSearchPending;
+        this.mergeSearchPending = false;
+        return pending;
+    }
+
+    @Override
+    public int getMergeKey() {
+        final ItemStack stack = this.getEntityItem();
+        final NBTTagCompound tag = stack.getTagCompound();
+        int key = System.identityHashCode(stack.getItem());
+        key = 31 * key + stack.getMetadata();
+        return 31 * key + (tag == null ? 0 : tag.hashCode());
+    }
+
     @ModifyConstant(method = "searchForOtherItemsNearby", constant = @Constant(doubleValue = 0.5D))
     private double getSearchRadius(double originalRadius) {
         if (this.worldObj.isRemote) {
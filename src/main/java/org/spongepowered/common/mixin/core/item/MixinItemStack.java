@@ -212,8 +212,7 @@ public DataContainer toContainer() {
             }
             NbtDataUtil.filterSpongeCustomData(compound); // We must filter the custom data so it isn't stored twice
             if (!compound.hasNoTags()) {
-                final DataContainer unsafeNbt = NbtTranslator.getInstance().translateFrom(compound);
-                container.set(DataQueries.UNSAFE_NBT, unsafeNbt);
+                NbtTranslator.getInstance().translateCompoundToData(compound, container.createView(DataQueries.UNSAFE_NBT));
             }
         }
         final Collection<DataManipulator<?, ?>> manipulators = getContainers();
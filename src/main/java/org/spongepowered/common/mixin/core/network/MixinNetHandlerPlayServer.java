@@ -27,6 +27,7 @@
 import static org.spongepowered.common.util.SpongeCommonTranslationHelper.t;
 
 import com.flowpowered.math.vector.Vector3d;
+import com.google.common.collect.ImmutableList;
 import net.minecraft.block.state.IBlockState;
 import net.minecraft.entity.Entity;
 import net.minecraft.entity.item.EntityItem;
@@ -49,6 +50,7 @@
 import net.minecraft.network.play.client.CPacketCustomPayload;
 import net.minecraft.network.play.client.CPacketPlayer;
 import net.minecraft.network.play.client.CPacketPlayerDigging;
+import net.minecraft.network.play.client.CPacketTabComplete;
 import net.minecraft.network.play.client.CPacketUpdateSign;
 import net.minecraft.network.play.client.CPacketUseEntity;
 import net.minecraft.network.play.client.CPacketVehicleMove;
@@ -56,6 +58,7 @@
 import net.minecraft.network.play.server.SPacketPlayerListItem;
 import net.minecraft.network.play.server.SPacketPlayerPosLook;
 import net.minecraft.network.play.server.SPacketSetSlot;
+import net.minecraft.network.play.server.SPacketTabComplete;
 import net.minecraft.server.MinecraftServer;
 import net.minecraft.server.management.PlayerInteractionManager;
 import net.minecraft.server.management.PlayerList;
@@ -75,6 +78,7 @@
 import net.minecraft.world.WorldServer;
 import org.apache.logging.log4j.Logger;
 import org.spongepowered.api.block.tileentity.Sign;
+import org.spongepowered.api.command.CommandSource;
 import org.spongepowered.api.data.manipulator.mutable.tileentity.SignData;
 import org.spongepowered.api.data.value.mutable.ListValue;
 import org.spongepowered.api.entity.Transform;
@@ -106,6 +110,7 @@
 import org.spongepowered.asm.mixin.injection.callback.CallbackInfo;
 import org.spongepowered.asm.mixin.injection.callback.LocalCapture;
 import org.spongepowered.common.SpongeImpl;
+import org.spongepowered.common.command.SpongeCommandManager;
 import org.spongepowered.common.entity.EntityUtil;
 import org.spongepowered.common.entity.player.tab.SpongeTabList;
 import org.spongepowered.common.event.InternalNamedCauses;
@@ -127,9 +132,11 @@
 
 import java.net.InetSocketAddress;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
+import java.util.concurrent.CompletableFuture;
 
 import javax.annotation.Nullable;
 
@@ -251,7 +258,7 @@ public void onSendPacket(NetworkManager manager, Packet<?> packet) {
         if (!this.allowClientLocationUpdate && packet instanceof SPacketPlayerPosLook) {
             return;
         }
-        manager.sendPacket(this.rewritePacket(packet));
+        ((IMixinNetworkManager) manager).sendPacketBatched(this.rewritePacket(packet));
     }
 
     /**
@@ -642,6 +649,39 @@ public EnumActionResult onProcessRightClickBlock(PlayerInteractionManager intera
         return actionResult;
     }
 
+    /**
+     * Computes the tab completions of commands which support it off the main
+     * thread, before the packet would be queued for the main thread.
+     */
+    @Inject(method = "processTabComplete", at = @At("HEAD"), cancellable = true)
+    private void onProcessTabComplete(CPacketTabComplete packetIn, CallbackInfo ci) {
+        if (SpongeImpl.getServer().isCallingFromMinecraftThread() || !packetIn.getMessage().startsWith("/")
+                || !(SpongeImpl.getGame().getCommandManager() instanceof SpongeCommandManager)) {
+            return;
+        }
+        final SpongeCommandManager commandManager = (SpongeCommandManager) SpongeImpl.getGame().getCommandManager();
+        final CommandSource source = (CommandSource) this.playerEntity;
+        final String arguments = packetIn.getMessage().substring(1);
+        final BlockPos targetBlock = packetIn.getTargetBlock();
+        final Location<World> targetLocation = targetBlock == null ? null
+                : new Location<>((World) this.playerEntity.worldObj, VecHelper.toVector3i(targetBlock));
+        final Optional<CompletableFuture<List<String>>> suggestions = commandManager.getSuggestionsAsync(source, arguments, targetLocation);
+        if (!suggestions.isPresent()) {
+            return;
+        }
+        ci.cancel();
+        suggestions.get().whenComplete((result, throwable) -> SpongeImpl.getServer().addScheduledTask(() -> {
+            final List<String> completions;
+            if (throwable != null) {
+                LOGGER.error("Error getting suggestions for '{}'", packetIn.getMessage(), throwable);
+                completions = ImmutableList.of();
+            } else {
+                completions = commandManager.completeAsyncSuggestions(source, arguments, result);
+            }
+            this.sendPacket(new SPacketTabComplete(completions.toArray(new String[completions.size()])));
+        }));
+    }
+
     @Inject(method = "processPlayerDigging", at = @At("HEAD"), cancellable = true)
     public void injectDig(CPacketPlayerDigging packetIn, CallbackInfo ci) {
         if (!SpongeImpl.getServer().isCallingFromMinecraftThread()) {
@@ -28,6 +28,7 @@
 
 import com.google.common.base.Charsets;
 import io.netty.buffer.ByteBuf;
+import io.netty.buffer.ByteBufOutputStream;
 import io.netty.handler.codec.DecoderException;
 import io.netty.handler.codec.EncoderException;
 import net.minecraft.nbt.NBTTagCompound;
@@ -46,8 +47,6 @@
 import java.nio.ByteOrder;
 import java.util.UUID;
 
-import javax.annotation.Nullable;
-
 @Mixin(PacketBuffer.class)
 @Implements(@Interface(iface = ChannelBuf.class, prefix = "cbuf$"))
 public abstract class MixinPacketBuffer extends ByteBuf {
@@ -59,7 +58,6 @@ public abstract class MixinPacketBuffer extends ByteBuf {
     @Shadow public abstract PacketBuffer writeByteArray(byte[] array);
     @Shadow public abstract PacketBuffer writeVarIntToBuffer(int input);
     @Shadow public abstract PacketBuffer writeString(String string);
-    @Shadow public abstract PacketBuffer writeNBTTagCompoundToBuffer(@Nullable NBTTagCompound nbt);
     
     // mojang methods, non-fluent
     @Shadow public abstract byte[] readByteArray();
@@ -477,8 +475,12 @@ public UUID getUniqueId(int index) {
     }
 
     public ChannelBuf cbuf$writeDataView(DataView data) {
-        final NBTTagCompound compound = NbtTranslator.getInstance().translateData(checkNotNull(data, "data"));
-        this.writeNBTTagCompoundToBuffer(compound);
+        checkNotNull(data, "data");
+        try {
+            NbtTranslator.getInstance().write(new ByteBufOutputStream(this), data);
+        } catch (IOException e) {
+            throw new EncoderException(e);
+        }
         return (ChannelBuf) this;
     }
 
@@ -45,6 +45,7 @@
 import net.minecraft.world.WorldServer;
 import net.minecraft.world.WorldType;
 import net.minecraft.world.storage.ISaveHandler;
+import net.minecraft.world.storage.SaveHandler;
 import org.apache.logging.log4j.Logger;
 import org.spongepowered.api.Server;
 import org.spongepowered.api.Sponge;
@@ -95,10 +96,12 @@
 import org.spongepowered.common.interfaces.IMixinCommandSender;
 import org.spongepowered.common.interfaces.IMixinCommandSource;
 import org.spongepowered.common.interfaces.IMixinMinecraftServer;
+import org.spongepowered.common.interfaces.IMixinNetworkManager;
 import org.spongepowered.common.interfaces.IMixinSubject;
 import org.spongepowered.common.interfaces.world.IMixinWorldServer;
 import org.spongepowered.common.profile.SpongeProfileManager;
 import org.spongepowered.common.resourcepack.SpongeResourcePack;
+import org.spongepowered.common.service.user.UserIndex;
 import org.spongepowered.common.text.SpongeTexts;
 import org.spongepowered.common.util.SpongeHooks;
 import org.spongepowered.common.world.WorldManager;
@@ -306,6 +309,12 @@ public void onServerStopping(CallbackInfo ci) {
         ((MinecraftServer) (Object) this).getPlayerProfileCache().save();
     }
 
+    @Inject(method = "stopServer()V", at = @At("RETURN"))
+    private void onServerStopped(CallbackInfo ci) {
+        // The player data was saved, the index belongs to this server's worlds only
+        UserIndex.unload();
+    }
+
     /**
      * @author blood - December 23rd, 2015
      * @author Zidane - March 13th, 2016
@@ -323,7 +332,9 @@ protected void loadAllWorlds(String overworldFolder, String worldName, long seed
 
         WorldManager.loadAllWorlds(worldName, seed, type, generatorOptions);
 
-        this.getPlayerList().setPlayerManager(new WorldServer[]{WorldManager.getWorldByDimensionId(0).get()});
+        final WorldServer overworld = WorldManager.getWorldByDimensionId(0).get();
+        UserIndex.load((SaveHandler) overworld.getSaveHandler());
+        this.getPlayerList().setPlayerManager(new WorldServer[]{overworld});
         this.setDifficultyForAllWorlds(this.getDifficulty());
         this.initialWorldChunkLoad();
     }
@@ -562,6 +573,13 @@ public void onServerTickEnd(CallbackInfo ci) {
             Sponge.getEventManager().post(event);
         }
         SpongeCommonEventFactory.lastAnimationPacketTick = 0;
+        if (this.getPlayerList() != null) {
+            for (EntityPlayerMP playerMP : this.getPlayerList().getPlayerList()) {
+                if (playerMP.connection != null) {
+                    ((IMixinNetworkManager) playerMP.connection.netManager).flushBatchedPackets();
+                }
+            }
+        }
         TimingsManager.FULL_SERVER_TICK.stopTiming();
     }
 
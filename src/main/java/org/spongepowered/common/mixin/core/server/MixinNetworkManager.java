@@ -25,15 +25,22 @@
 package org.spongepowered.common.mixin.core.server;
 
 import io.netty.channel.Channel;
+import io.netty.channel.ChannelFutureListener;
 import io.netty.channel.SimpleChannelInboundHandler;
 import io.netty.channel.local.LocalAddress;
 import net.minecraft.network.NetworkManager;
+import net.minecraft.network.Packet;
+import net.minecraft.network.play.server.SPacketDisconnect;
+import net.minecraft.network.play.server.SPacketKeepAlive;
 import org.spongepowered.api.MinecraftVersion;
 import org.spongepowered.api.network.RemoteConnection;
 import org.spongepowered.asm.mixin.Mixin;
 import org.spongepowered.asm.mixin.Shadow;
+import org.spongepowered.common.SpongeImpl;
 import org.spongepowered.common.SpongeMinecraftVersion;
+import org.spongepowered.common.config.category.OptimizationCategory;
 import org.spongepowered.common.interfaces.IMixinNetworkManager;
+import org.spongepowered.common.network.OutboundBatchHandler;
 
 import java.net.InetAddress;
 import java.net.InetSocketAddress;
@@ -47,10 +54,22 @@ public abstract class MixinNetworkManager extends SimpleChannelInboundHandler im
     @Shadow private Channel channel;
 
     @Shadow public abstract SocketAddress getRemoteAddress();
+    @Shadow public abstract boolean isChannelOpen();
+    @Shadow public abstract void sendPacket(Packet<?> packetIn);
+    @Shadow private void flushOutboundQueue() {}
 
     private InetSocketAddress virtualHost;
     private MinecraftVersion version;
 
+    // Outbound packet batching, only accessed from the main thread. Packets sent from other
+    // threads take the vanilla path and never touch these.
+    private boolean batchPending;
+    private long packetsAtLastTick;
+    private int packetsLastTick;
+    private long bytesAtLastTick;
+    private long bytesLastTick;
+    private OutboundBatchHandler batchHandler;
+
     private static final InetSocketAddress localhost = InetSocketAddress.createUnresolved("127.0.0.1", 0);
 
     @Override
@@ -93,4 +112,57 @@ public MinecraftVersion getVersion() {
     public void setVersion(int version) {
         this.version = new SpongeMinecraftVersion(String.valueOf(version), version);
     }
+
+    @Override
+    public void sendPacketBatched(Packet<?> packet) {
+        if (!this.isChannelOpen() || !SpongeImpl.getServer().isCallingFromMinecraftThread()) {
+            this.sendPacket(packet);
+            return;
+        }
+        final OptimizationCategory optimizations = SpongeImpl.getGlobalConfig().getConfig().getOptimizations();
+        if (this.batchHandler == null) {
+            final int flushThreshold = optimizations.useOutboundPacketBatching() ? Math.max(0, optimizations.getOutboundPacketBatchSize()) : 0;
+            this.batchHandler = new OutboundBatchHandler(flushThreshold);
+            this.channel.pipeline().addBefore("encoder", OutboundBatchHandler.NAME, this.batchHandler);
+        }
+        if (!optimizations.useOutboundPacketBatching() || isUrgent(packet)) {
+            // Vanilla flushes the channel, which also sends any pending writes ahead of this packet
+            this.sendPacket(packet);
+            return;
+        }
+        this.flushOutboundQueue();
+        // The batch handler flushes on the event loop once the batch size is reached
+        this.channel.write(packet).addListener(ChannelFutureListener.FIRE_EXCEPTION_ON_FAILURE);
+        this.batchPending = true;
+    }
+
+    @Override
+    public void flushBatchedPackets() {
+        if (this.batchPending) {
+            this.channel.flush();
+            this.batchPending = false;
+        }
+        if (this.batchHandler != null) {
+            final long packets = this.batchHandler.getPacketsWritten();
+            this.packetsLastTick = (int) (packets - this.packetsAtLastTick);
+            this.packetsAtLastTick = packets;
+            final long bytes = this.batchHandler.getBytesWritten();
+            this.bytesLastTick = bytes - this.bytesAtLastTick;
+            this.bytesAtLastTick = bytes;
+        }
+    }
+
+    @Override
+    public int getPacketsLastTick() {
+        return this.packetsLastTick;
+    }
+
+    @Override
+    public long getBytesLastTick() {
+        return this.bytesLastTick;
+    }
+
+    private static boolean isUrgent(Packet<?> packet) {
+        return packet instanceof SPacketKeepAlive || packet instanceof SPacketDisconnect;
+    }
 }
@@ -31,6 +31,7 @@
 import com.google.common.collect.Lists;
 import com.google.common.collect.Maps;
 import com.google.common.collect.Sets;
+import com.google.gson.Gson;
 import com.mojang.authlib.Agent;
 import com.mojang.authlib.GameProfileRepository;
 import com.mojang.authlib.ProfileLookupCallback;
@@ -45,15 +46,22 @@
 import org.spongepowered.asm.mixin.Mixin;
 import org.spongepowered.asm.mixin.Shadow;
 import org.spongepowered.asm.mixin.injection.At;
+import org.spongepowered.asm.mixin.injection.Inject;
 import org.spongepowered.asm.mixin.injection.Redirect;
+import org.spongepowered.asm.mixin.injection.callback.CallbackInfo;
+import org.spongepowered.asm.mixin.injection.callback.CallbackInfoReturnable;
+import org.spongepowered.common.SpongeImpl;
 import org.spongepowered.common.interfaces.server.management.IMixinPlayerProfileCacheEntry;
 import org.spongepowered.common.profile.callback.MapProfileLookupCallback;
 import org.spongepowered.common.profile.callback.SingleProfileLookupCallback;
+import org.spongepowered.common.util.BackgroundFileWriter;
 
+import java.io.File;
 import java.util.Collection;
 import java.util.Date;
 import java.util.Deque;
 import java.util.LinkedList;
+import java.util.List;
 import java.util.Locale;
 import java.util.Map;
 import java.util.Optional;
@@ -70,6 +78,11 @@ public abstract class MixinPlayerProfileCache implements GameProfileCache {
     @Shadow abstract void addEntry(com.mojang.authlib.GameProfile profile, @Nullable Date expiry);
     @Nullable @Shadow public abstract com.mojang.authlib.GameProfile getProfileByUUID(UUID uniqueId);
     @Shadow public abstract void save();
+    @Shadow @Final private Gson gson;
+    @Shadow @Final private File usercacheFile;
+    @Shadow private List<?> getEntriesWithLimit(int limitSize) {
+        return null;
+    }
     private boolean bulkRemove = false;
 
     @Override
@@ -368,6 +381,52 @@ public com.mojang.authlib.GameProfile getByNameNoLookup(String username) {
         return entry == null ? null : entry.getGameProfile();
     }
 
+    @Inject(method = "save", at = @At("HEAD"), cancellable = true)
+    private void onSave(CallbackInfo ci) {
+        if (!SpongeImpl.getGlobalConfig().getConfig().getOptimizations().useProfileCacheWriteBehind()) {
+            return;
+        }
+        // Only the entries are captured here, serializing and writing them happens in the background
+        final List<?> entries = this.getEntriesWithLimit(1000);
+        BackgroundFileWriter.write(this.usercacheFile, () -> this.gson.toJson(entries));
+        ci.cancel();
+    }
+
+    @Inject(method = "addEntry", at = @At("RETURN"))
+    private void onAddEntry(com.mojang.authlib.GameProfile profile, @Nullable Date expiry, CallbackInfo ci) {
+        if (!SpongeImpl.getGlobalConfig().getConfig().getOptimizations().useProfileCacheWriteBehind()) {
+            return;
+        }
+        final int maxSize = SpongeImpl.getGlobalConfig().getConfig().getOptimizations().getProfileCacheMaxSize();
+        while (this.gameProfiles.size() > maxSize) {
+            // The deque is ordered from most to least recently used
+            removeFromMaps(this.gameProfiles.removeLast());
+        }
+    }
+
+    @Inject(method = "getProfileByUUID", at = @At("HEAD"), cancellable = true)
+    private void onGetProfileByUUID(UUID uniqueId, CallbackInfoReturnable<com.mojang.authlib.GameProfile> cir) {
+        if (!SpongeImpl.getGlobalConfig().getConfig().getOptimizations().useProfileCacheWriteBehind()) {
+            return;
+        }
+        final IMixinPlayerProfileCacheEntry entry = this.uuidToProfileEntryMap.get(uniqueId);
+        if (entry != null && System.currentTimeMillis() >= entry.getExpirationDate().getTime()) {
+            this.gameProfiles.remove(entry.getGameProfile());
+            removeFromMaps(entry.getGameProfile());
+            cir.setReturnValue(null);
+        }
+    }
+
+    private void removeFromMaps(com.mojang.authlib.GameProfile profile) {
+        this.uuidToProfileEntryMap.remove(profile.getId());
+        final String name = profile.getName().toLowerCase(Locale.ROOT);
+        final IMixinPlayerProfileCacheEntry nameEntry = this.usernameToProfileEntryMap.get(name);
+        // A newer profile may have taken over the name
+        if (nameEntry != null && nameEntry.getGameProfile().getId().equals(profile.getId())) {
+            this.usernameToProfileEntryMap.remove(name);
+        }
+    }
+
     private MinecraftServer getServer() {
         return (MinecraftServer) Sponge.getServer();
     }
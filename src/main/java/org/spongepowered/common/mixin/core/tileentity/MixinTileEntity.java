@@ -140,7 +140,7 @@ public DataContainer toContainer() {
         final NBTTagCompound compound = new NBTTagCompound();
         this.writeToNBT(compound);
         NbtDataUtil.filterSpongeCustomData(compound); // We must filter the custom data so it isn't stored twice
-        container.set(DataQueries.UNSAFE_NBT, NbtTranslator.getInstance().translateFrom(compound));
+        NbtTranslator.getInstance().translateCompoundToData(compound, container.createView(DataQueries.UNSAFE_NBT));
         final Collection<DataManipulator<?, ?>> manipulators = getContainers();
         if (!manipulators.isEmpty()) {
             container.set(DataQueries.DATA_MANIPULATORS, DataUtil.getSerializedManipulatorList(manipulators));
@@ -37,7 +37,6 @@
 import net.minecraft.entity.Entity;
 import net.minecraft.init.Blocks;
 import net.minecraft.tileentity.TileEntity;
-import net.minecraft.util.ClassInheritanceMultiMap;
 import net.minecraft.util.math.AxisAlignedBB;
 import net.minecraft.util.math.BlockPos;
 import net.minecraft.util.math.MathHelper;
@@ -96,12 +95,14 @@
 import org.spongepowered.common.interfaces.world.gen.IMixinChunkProviderServer;
 import org.spongepowered.common.util.SpongeHooks;
 import org.spongepowered.common.util.VecHelper;
+import org.spongepowered.common.world.extent.EntityQueries;
 import org.spongepowered.common.world.extent.ExtentViewDownsize;
 import org.spongepowered.common.world.extent.ExtentViewTransform;
 import org.spongepowered.common.world.extent.worker.SpongeMutableBiomeAreaWorker;
 import org.spongepowered.common.world.extent.worker.SpongeMutableBlockVolumeWorker;
 import org.spongepowered.common.world.storage.SpongeChunkLayout;
 
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.List;
@@ -145,7 +146,6 @@ public abstract class MixinChunk implements Chunk, IMixinChunk {
     @Shadow @Final private ExtendedBlockStorage[] storageArrays;
     @Shadow @Final private int[] precipitationHeightMap;
     @Shadow @Final private int[] heightMap;
-    @Shadow @Final private ClassInheritanceMultiMap<Entity>[] entityLists;
     @Shadow @Final private Map<BlockPos, TileEntity> chunkTileEntityMap;
     @Shadow private long inhabitedTime;
     @Shadow private boolean isChunkLoaded;
@@ -591,6 +591,12 @@ public IBlockState setBlockState(BlockPos pos, IBlockState newState, IBlockState
             // a BlockContainer. Prevents blocks such as TNT from activating when
             // cancelled.
             final CauseTracker causeTracker = ((IMixinWorldServer) this.worldObj).getCauseTracker();
+            // Captured and direct changes both end up here, which keeps the portal index in sync with the world
+            if (currentBlock == Blocks.PORTAL) {
+                ((IMixinWorldServer) this.worldObj).getPortalIndex().remove(pos);
+            } else if (newBlock == Blocks.PORTAL) {
+                ((IMixinWorldServer) this.worldObj).getPortalIndex().add(pos);
+            }
             final PhaseData peek = causeTracker.getStack().peek();
             final boolean requiresCapturing = peek.getState().getPhase().requiresBlockCapturing(peek.getState());
             if (!requiresCapturing || SpongeImplHooks.blockHasTileEntity(newBlock, newState)) {
@@ -696,24 +702,20 @@ public boolean spawnEntity(org.spongepowered.api.entity.Entity entity, Cause cau
     @SuppressWarnings({"unchecked", "rawtypes"})
     @Override
     public Collection<org.spongepowered.api.entity.Entity> getEntities() {
-        Set<org.spongepowered.api.entity.Entity> entities = Sets.newHashSet();
-        for (ClassInheritanceMultiMap entityList : this.entityLists) {
-            entities.addAll(entityList);
-        }
+        final List<org.spongepowered.api.entity.Entity> entities = new ArrayList<>();
+        EntityQueries.forEachEntityInChunk((net.minecraft.world.chunk.Chunk) (Object) this, entities::add);
         return entities;
     }
 
     @SuppressWarnings("rawtypes")
     @Override
     public Collection<org.spongepowered.api.entity.Entity> getEntities(java.util.function.Predicate<org.spongepowered.api.entity.Entity> filter) {
-        Set<org.spongepowered.api.entity.Entity> entities = Sets.newHashSet();
-        for (ClassInheritanceMultiMap<Entity> entityClassMap : this.entityLists) {
-            for (Object entity : entityClassMap) {
-                if (filter.test((org.spongepowered.api.entity.Entity) entity)) {
-                    entities.add((org.spongepowered.api.entity.Entity) entity);
-                }
+        final List<org.spongepowered.api.entity.Entity> entities = new ArrayList<>();
+        EntityQueries.forEachEntityInChunk((net.minecraft.world.chunk.Chunk) (Object) this, entity -> {
+            if (filter.test(entity)) {
+                entities.add(entity);
             }
-        }
+        });
         return entities;
     }
 
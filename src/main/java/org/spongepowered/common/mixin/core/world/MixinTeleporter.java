@@ -27,6 +27,8 @@
 import com.flowpowered.math.vector.Vector3i;
 import com.google.common.base.Objects;
 import it.unimi.dsi.fastutil.longs.Long2ObjectMap;
+import it.unimi.dsi.fastutil.longs.LongIterator;
+import it.unimi.dsi.fastutil.longs.LongSet;
 import net.minecraft.block.BlockPortal;
 import net.minecraft.block.state.IBlockState;
 import net.minecraft.block.state.pattern.BlockPattern;
@@ -53,10 +55,13 @@
 import org.spongepowered.common.interfaces.world.IMixinWorldServer;
 import org.spongepowered.common.registry.type.world.PortalAgentRegistryModule;
 import org.spongepowered.common.util.VecHelper;
+import org.spongepowered.common.world.PortalIndex;
 
 import java.util.Optional;
 import java.util.Random;
 
+import javax.annotation.Nullable;
+
 @Mixin(Teleporter.class)
 public class MixinTeleporter implements PortalAgent, IMixinTeleporter {
 
@@ -192,31 +197,12 @@ public Optional<Location<World>> findPortal(Location<World> searchLocation) {
             teleporter$portalposition.lastUpdateTime = this.worldServerInstance.getTotalWorldTime();
             addToCache = false;
         } else {
+            // Sponge - look up portal blocks in the portal index instead of reading every block in range
             BlockPos blockSearchPosition = ((IMixinLocation) (Object) searchLocation).getBlockPos();
-
-            for (int i1 = -this.searchRadius; i1 <= this.searchRadius; ++i1) {
-                BlockPos blockpos2;
-
-                for (int j1 = -this.searchRadius; j1 <= this.searchRadius; ++j1) {
-                    for (BlockPos blockpos1 =
-                            blockSearchPosition.add(i1, this.worldServerInstance.getActualHeight() - 1 - blockSearchPosition.getY(), j1); blockpos1
-                                    .getY() >= 0; blockpos1 = blockpos2) {
-                        blockpos2 = blockpos1.down();
-
-                        if (this.worldServerInstance.getBlockState(blockpos1).getBlock() == Blocks.PORTAL) {
-                            while (this.worldServerInstance.getBlockState(blockpos2 = blockpos1.down()).getBlock() == Blocks.PORTAL) {
-                                blockpos1 = blockpos2;
-                            }
-
-                            double distance = blockpos1.distanceSq(blockSearchPosition);
-
-                            if (closest < 0.0D || distance < closest) {
-                                closest = distance;
-                                portalPosition = blockpos1;
-                            }
-                        }
-                    }
-                }
+            BlockPos foundPosition = findIndexedPortal(blockSearchPosition);
+            if (foundPosition != null) {
+                closest = foundPosition.distanceSq(blockSearchPosition);
+                portalPosition = foundPosition;
             }
         }
 
@@ -232,6 +218,52 @@ public Optional<Location<World>> findPortal(Location<World> searchLocation) {
         }
     }
 
+    @Nullable
+    private BlockPos findIndexedPortal(BlockPos searchPosition) {
+        final PortalIndex portalIndex = ((IMixinWorldServer) this.worldServerInstance).getPortalIndex();
+        final int minChunkX = (searchPosition.getX() - this.searchRadius) >> 4;
+        final int maxChunkX = (searchPosition.getX() + this.searchRadius) >> 4;
+        final int minChunkZ = (searchPosition.getZ() - this.searchRadius) >> 4;
+        final int maxChunkZ = (searchPosition.getZ() + this.searchRadius) >> 4;
+        // Vanilla only searches below the actual height, which keeps portals on the nether roof out
+        final int maxY = this.worldServerInstance.getActualHeight();
+
+        while (true) {
+            double closest = -1.0D;
+            BlockPos portalPosition = null;
+            for (int chunkX = minChunkX; chunkX <= maxChunkX; chunkX++) {
+                for (int chunkZ = minChunkZ; chunkZ <= maxChunkZ; chunkZ++) {
+                    if (!portalIndex.isIndexed(chunkX, chunkZ)) {
+                        // Chunks the index has not seen yet are read once, which is what vanilla does on every search
+                        portalIndex.indexChunk(this.worldServerInstance.getChunkFromChunkCoords(chunkX, chunkZ));
+                    }
+                    final LongSet portals = portalIndex.getPortals(chunkX, chunkZ);
+                    for (LongIterator it = portals.iterator(); it.hasNext(); ) {
+                        final BlockPos pos = BlockPos.fromLong(it.nextLong());
+                        if (pos.getY() >= maxY
+                                || Math.abs(pos.getX() - searchPosition.getX()) > this.searchRadius
+                                || Math.abs(pos.getZ() - searchPosition.getZ()) > this.searchRadius
+                                || portals.contains(pos.down().toLong())) {
+                            // Like vanilla, only the lowest portal block of each column counts
+                            continue;
+                        }
+                        final double distance = pos.distanceSq(searchPosition);
+                        if (closest < 0.0D || distance < closest) {
+                            closest = distance;
+                            portalPosition = pos;
+                        }
+                    }
+                }
+            }
+
+            if (portalPosition == null || this.worldServerInstance.getBlockState(portalPosition).getBlock() == Blocks.PORTAL) {
+                return portalPosition;
+            }
+            // The portal was changed without going through a chunk, forget it and search again
+            portalIndex.remove(portalPosition);
+        }
+    }
+
     private void handleEntityPortalExit(Entity entityIn, Location<World> portalLocation, float rotationYaw) {
         BlockPos blockPos = ((IMixinLocation) (Object) portalLocation).getBlockPos();
         double xTarget = portalLocation.getX() + 0.5D;
@@ -97,7 +97,6 @@
 import org.spongepowered.api.text.chat.ChatType;
 import org.spongepowered.api.text.title.Title;
 import org.spongepowered.api.util.DiscreteTransform3;
-import org.spongepowered.api.util.Functional;
 import org.spongepowered.api.util.PositionOutOfBoundsException;
 import org.spongepowered.api.util.annotation.NonnullByDefault;
 import org.spongepowered.api.world.Chunk;
@@ -131,6 +130,7 @@
 import org.spongepowered.common.util.SpongeHooks;
 import org.spongepowered.common.util.VecHelper;
 import org.spongepowered.common.world.SpongeChunkPreGenerate;
+import org.spongepowered.common.world.extent.EntityQueries;
 import org.spongepowered.common.world.extent.ExtentViewDownsize;
 import org.spongepowered.common.world.extent.ExtentViewTransform;
 import org.spongepowered.common.world.extent.worker.SpongeMutableBiomeAreaWorker;
@@ -353,9 +353,13 @@ public Collection<Entity> getEntities() {
     @SuppressWarnings("unchecked")
     @Override
     public Collection<Entity> getEntities(Predicate<Entity> filter) {
-        // This already returns a new copy
-        return (Collection<Entity>) (Object) this.getEntities(net.minecraft.entity.Entity.class,
-                Functional.java8ToGuava((Predicate<net.minecraft.entity.Entity>) (Object) filter));
+        final List<Entity> entities = new ArrayList<>();
+        EntityQueries.forEachEntity((net.minecraft.world.World) (Object) this, entity -> {
+            if (filter.test(entity)) {
+                entities.add(entity);
+            }
+        });
+        return entities;
     }
 
     @Override
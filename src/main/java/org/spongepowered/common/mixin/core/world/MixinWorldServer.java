@@ -68,6 +68,7 @@
 import net.minecraft.world.gen.ChunkProviderEnd;
 import net.minecraft.world.gen.ChunkProviderServer;
 import net.minecraft.world.storage.ISaveHandler;
+import net.minecraft.world.storage.MapStorage;
 import net.minecraft.world.storage.WorldInfo;
 import ninja.leaping.configurate.hocon.HoconConfigurationLoader;
 import org.apache.logging.log4j.Level;
@@ -159,12 +160,18 @@
 import org.spongepowered.common.registry.provider.DirectionFacingProvider;
 import org.spongepowered.common.util.SpongeHooks;
 import org.spongepowered.common.util.VecHelper;
+import org.spongepowered.common.world.EntityTypeIndex;
+import org.spongepowered.common.world.ExplosionBatch;
+import org.spongepowered.common.world.ItemMergePass;
+import org.spongepowered.common.world.LightingQueue;
+import org.spongepowered.common.world.PortalIndex;
 import org.spongepowered.common.world.WorldManager;
 import org.spongepowered.common.world.border.PlayerBorderListener;
 import org.spongepowered.common.world.gen.SpongeChunkGenerator;
 import org.spongepowered.common.world.gen.SpongeGenerationPopulator;
 import org.spongepowered.common.world.gen.SpongeWorldGenerator;
 import org.spongepowered.common.world.gen.WorldGenConstants;
+import org.spongepowered.common.world.storage.UnloadedChunkCache;
 import org.spongepowered.common.world.type.SpongeWorldType;
 
 import java.io.BufferedWriter;
@@ -195,6 +202,11 @@ public abstract class MixinWorldServer extends MixinWorld implements IMixinWorld
 
     private final CauseTracker causeTracker = new CauseTracker((WorldServer) (Object) this);
     private final Map<net.minecraft.entity.Entity, Vector3d> rotationUpdates = new HashMap<>();
+    private final EntityTypeIndex entityTypeIndex = new EntityTypeIndex();
+    @Nullable private PortalIndex portalIndex;
+    private final ItemMergePass itemMergePass = new ItemMergePass();
+    private final LightingQueue lightingQueue = new LightingQueue((WorldServer) (Object) this);
+    private final ExplosionBatch explosionBatch = new ExplosionBatch((WorldServer) (Object) this);
     private SpongeChunkGenerator spongegen;
     private SpongeConfig<?> activeConfig;
     protected long weatherStartTime;
@@ -314,6 +326,7 @@ public void setActiveConfig(SpongeConfig<?> config) {
             final IMixinChunkProviderServer mixinChunkProvider = (IMixinChunkProviderServer) this.getChunkProvider();
             final int maxChunkUnloads = this.activeConfig.getConfig().getWorld().getMaxChunkUnloads();
             mixinChunkProvider.setMaxChunkUnloads(maxChunkUnloads < 1 ? 1 : maxChunkUnloads);
+            mixinChunkProvider.setUnloadedChunkCache(UnloadedChunkCache.of(this.activeConfig.getConfig().getWorld()));
 //            ((ChunkProviderServer) this.getChunkProvider()).chunkLoadOverride = !this.activeConfig.getConfig().getWorld().getDenyChunkRequests();
             for (net.minecraft.entity.Entity entity : this.loadedEntityList) {
                 if (entity instanceof IModData) {
@@ -629,6 +642,62 @@ protected void updateBlocks() {
         // } // Sponge- Remove unecessary else
     }
 
+    @Inject(method = "updateEntities", at = @At("RETURN"))
+    private void onUpdateEntitiesMergeItems(CallbackInfo ci) {
+        if (!SpongeImpl.getGlobalConfig().getConfig().getOptimizations().useWorldItemMergePass()) {
+            return;
+        }
+        final double mergeRadius = Math.max(0, this.getActiveConfig().getConfig().getWorld().getItemMergeRadius());
+        this.timings.itemMerge.startTiming();
+        try {
+            TimingHistory.itemMerges += this.itemMergePass.run(this.loadedEntityList, mergeRadius);
+        } finally {
+            this.timings.itemMerge.stopTiming();
+        }
+    }
+
+    @Inject(method = "updateEntities", at = @At("RETURN"))
+    private void onUpdateEntitiesProcessExplosions(CallbackInfo ci) {
+        if (this.explosionBatch.isEmpty()) {
+            return;
+        }
+        this.timings.explosionBatch.startTiming();
+        this.processingExplosion = true;
+        try {
+            this.explosionBatch.process();
+        } finally {
+            this.processingExplosion = false;
+            this.timings.explosionBatch.stopTiming();
+        }
+    }
+
+    @Inject(method = "updateEntities", at = @At("RETURN"))
+    private void onUpdateEntitiesProcessLighting(CallbackInfo ci) {
+        if (this.lightingQueue.isEmpty()) {
+            return;
+        }
+        this.timings.lightingQueue.startTiming();
+        try {
+            this.lightingQueue.process(SpongeImpl.getGlobalConfig().getConfig().getOptimizations().getDeferredLightingBudget());
+        } finally {
+            this.timings.lightingQueue.stopTiming();
+        }
+    }
+
+    // Queued checks of chunks that are unloaded later are lost, so the chunks are saved with their light up to date
+    @Inject(method = "saveAllChunks", at = @At("HEAD"))
+    private void onSaveAllChunksProcessLighting(boolean saveAllChunks, IProgressUpdate progressCallback, CallbackInfo ci) {
+        if (this.lightingQueue.isEmpty()) {
+            return;
+        }
+        this.timings.lightingQueue.startTiming();
+        try {
+            this.lightingQueue.process(0);
+        } finally {
+            this.timings.lightingQueue.stopTiming();
+        }
+    }
+
     @Redirect(method = "updateBlockTick", at = @At(value = "INVOKE", target= "Lnet/minecraft/world/WorldServer;isAreaLoaded(Lnet/minecraft/util/math/BlockPos;Lnet/minecraft/util/math/BlockPos;)Z"))
     public boolean onBlockTickIsAreaLoaded(WorldServer worldIn, BlockPos fromPos, BlockPos toPos) {
         int posX = fromPos.getX() + 8;
@@ -1165,6 +1234,45 @@ public void onSpongeEntityRemoved(net.minecraft.entity.Entity entity) {
         this.onEntityRemoved(entity);
     }
 
+    @Inject(method = "onEntityAdded", at = @At("HEAD"))
+    private void onIndexEntityAdded(net.minecraft.entity.Entity entity, CallbackInfo ci) {
+        this.entityTypeIndex.add(entity);
+    }
+
+    @Inject(method = "onEntityRemoved", at = @At("HEAD"))
+    private void onIndexEntityRemoved(net.minecraft.entity.Entity entity, CallbackInfo ci) {
+        this.entityTypeIndex.remove(entity);
+    }
+
+    @Override
+    public EntityTypeIndex getEntityTypeIndex() {
+        return this.entityTypeIndex;
+    }
+
+    @Override
+    public PortalIndex getPortalIndex() {
+        if (this.portalIndex == null) {
+            final MapStorage storage = ((WorldServer) (Object) this).getPerWorldStorage();
+            PortalIndex portalIndex = (PortalIndex) storage.getOrLoadData(PortalIndex.class, PortalIndex.NAME);
+            if (portalIndex == null) {
+                portalIndex = new PortalIndex(PortalIndex.NAME);
+                storage.setData(PortalIndex.NAME, portalIndex);
+            }
+            this.portalIndex = portalIndex;
+        }
+        return this.portalIndex;
+    }
+
+    @Override
+    public LightingQueue getLightingQueue() {
+        return this.lightingQueue;
+    }
+
+    @Override
+    public ExplosionBatch getExplosionBatch() {
+        return this.explosionBatch;
+    }
+
     @Override
     public boolean spawnEntity(Entity entity, Cause cause) {
         final CauseTracker causeTracker = this.getCauseTracker();
@@ -60,12 +60,15 @@
 import org.spongepowered.common.interfaces.IMixinChunk;
 import org.spongepowered.common.interfaces.world.IMixinAnvilChunkLoader;
 import org.spongepowered.common.registry.type.entity.EntityTypeRegistryModule;
+import org.spongepowered.common.world.storage.UnloadedChunkCache;
 
 import java.io.File;
 import java.nio.file.Path;
 import java.util.Map;
 import java.util.Set;
 
+import javax.annotation.Nullable;
+
 @Mixin(AnvilChunkLoader.class)
 @Implements(@Interface(iface = IMixinAnvilChunkLoader.class, prefix = "loader$"))
 public abstract class MixinAnvilChunkLoader implements IMixinAnvilChunkLoader {
@@ -77,6 +80,8 @@ public abstract class MixinAnvilChunkLoader implements IMixinAnvilChunkLoader {
     @Shadow @Final private Map<ChunkPos, NBTTagCompound> chunksToRemove;
     @Shadow @Final private File chunkSaveLocation;
 
+    @Nullable private volatile UnloadedChunkCache unloadedChunkCache;
+
     @Inject(method = "writeChunkToNBT", at = @At(value = "RETURN"))
     public void onWriteChunkToNBT(net.minecraft.world.chunk.Chunk chunkIn, World worldIn, NBTTagCompound compound, CallbackInfo ci) {
         IMixinChunk chunk = (IMixinChunk) chunkIn;
@@ -184,6 +189,37 @@ private Entity onReadEntity(NBTTagCompound compound, World world) {
         return EntityList.createEntityFromNBT(compound, world);
     }
 
+    @Inject(method = "saveChunk", at = @At(value = "RETURN"))
+    public void onSaveChunk(World worldIn, net.minecraft.world.chunk.Chunk chunkIn, CallbackInfo ci) {
+        final UnloadedChunkCache cache = this.unloadedChunkCache;
+        if (cache != null && !chunkIn.isLoaded()) {
+            // The chunk is being unloaded, remember its pending data in case it is requested again shortly
+            final ChunkPos pos = chunkIn.getChunkCoordIntPair();
+            cache.onChunkUnload(pos, this.chunksToRemove.get(pos));
+        }
+    }
+
+    /**
+     * Falls back to the recently unloaded chunk cache when the chunk is not
+     * pending a write, which avoids reading the region file for chunks that
+     * are thrashing between loaded and unloaded.
+     *
+     * @param chunksToRemove The pending chunk map
+     * @param pos The chunk position
+     * @return The chunk compound, or null if it needs to be read from disk
+     */
+    @Redirect(method = {"loadChunk", "loadChunk__Async"}, at = @At(value = "INVOKE", target = "Ljava/util/Map;get(Ljava/lang/Object;)Ljava/lang/Object;",
+            remap = false), require = 0, expect = 0)
+    private Object onGetPendingChunk(Map<ChunkPos, NBTTagCompound> chunksToRemove, Object pos) {
+        final NBTTagCompound compound = chunksToRemove.get(pos);
+        final UnloadedChunkCache cache = this.unloadedChunkCache;
+        if (cache == null) {
+            return compound;
+        }
+        final NBTTagCompound cached = cache.onChunkLoad((ChunkPos) pos);
+        return compound != null ? compound : cached;
+    }
+
     @Intrinsic // Forge method
     public boolean loader$chunkExists(World world, int x, int z) {
         ChunkPos chunkcoordintpair = new ChunkPos(x, z);
@@ -204,4 +240,19 @@ public Path getWorldDir() {
         return this.chunkSaveLocation.toPath();
     }
 
+    @Nullable
+    @Override
+    public UnloadedChunkCache getUnloadedChunkCache() {
+        return this.unloadedChunkCache;
+    }
+
+    @Override
+    public void setUnloadedChunkCache(@Nullable UnloadedChunkCache cache) {
+        final UnloadedChunkCache previous = this.unloadedChunkCache;
+        if (previous != null) {
+            previous.invalidateAll();
+        }
+        this.unloadedChunkCache = cache;
+    }
+
 }
@@ -48,6 +48,7 @@
 import org.spongepowered.common.interfaces.world.IMixinWorldServer;
 import org.spongepowered.common.interfaces.world.gen.IMixinChunkProviderServer;
 import org.spongepowered.common.world.storage.SpongeChunkDataStream;
+import org.spongepowered.common.world.storage.UnloadedChunkCache;
 import org.spongepowered.common.world.storage.WorldStorageUtil;
 
 import java.util.Optional;
@@ -134,4 +135,20 @@ public void onUnloadQueuedChunksEnd(CallbackInfoReturnable<Boolean> ci) {
     public void setMaxChunkUnloads(int maxUnloads) {
         this.maxChunkUnloads = maxUnloads;
     }
+
+    @Nullable
+    @Override
+    public UnloadedChunkCache getUnloadedChunkCache() {
+        if (!(this.chunkLoader instanceof IMixinAnvilChunkLoader)) {
+            return null;
+        }
+        return ((IMixinAnvilChunkLoader) this.chunkLoader).getUnloadedChunkCache();
+    }
+
+    @Override
+    public void setUnloadedChunkCache(UnloadedChunkCache cache) {
+        if (this.chunkLoader instanceof IMixinAnvilChunkLoader) {
+            ((IMixinAnvilChunkLoader) this.chunkLoader).setUnloadedChunkCache(cache);
+        }
+    }
 }
@@ -39,11 +39,13 @@
 import org.spongepowered.asm.mixin.injection.ModifyArg;
 import org.spongepowered.asm.mixin.injection.Redirect;
 import org.spongepowered.asm.mixin.injection.callback.CallbackInfo;
+import org.spongepowered.asm.mixin.injection.callback.CallbackInfoReturnable;
 import org.spongepowered.asm.mixin.injection.callback.LocalCapture;
 import org.spongepowered.common.data.util.DataUtil;
 import org.spongepowered.common.data.util.NbtDataUtil;
 import org.spongepowered.common.interfaces.IMixinSaveHandler;
 import org.spongepowered.common.interfaces.world.IMixinWorldInfo;
+import org.spongepowered.common.service.user.UserIndex;
 import org.spongepowered.common.world.WorldManager;
 import org.spongepowered.common.world.storage.SpongePlayerDataHandler;
 
@@ -222,6 +224,15 @@ private NBTTagCompound spongeReadPlayerData(InputStream inputStream) throws IOEx
     @Inject(method = "writePlayerData", at = @At(value = "INVOKE", target = COMPRESSED_WRITE_FILE, shift = At.Shift.AFTER))
     private void onSpongeWrite(EntityPlayer player, CallbackInfo callbackInfo) {
         SpongePlayerDataHandler.savePlayer(player.getUniqueID());
+        UserIndex.markSeen(player.getGameProfile());
+    }
+
+    @Inject(method = READ_PLAYER_DATA, at = @At("RETURN"))
+    private void onReadPlayerData(EntityPlayer player, CallbackInfoReturnable<NBTTagCompound> callbackInfo) {
+        // New players only get a data file once they are first saved
+        if (callbackInfo.getReturnValue() != null) {
+            UserIndex.markSeen(player.getGameProfile());
+        }
     }
 
 }
@@ -31,93 +31,104 @@
 import net.minecraft.util.math.AxisAlignedBB;
 import net.minecraft.world.World;
 import org.spongepowered.api.block.BlockSnapshot;
-import org.spongepowered.api.block.BlockType;
-import org.spongepowered.api.event.cause.NamedCause;
 import org.spongepowered.asm.mixin.Final;
 import org.spongepowered.asm.mixin.Mixin;
 import org.spongepowered.asm.mixin.Shadow;
 import org.spongepowered.asm.mixin.injection.At;
 import org.spongepowered.asm.mixin.injection.Inject;
 import org.spongepowered.asm.mixin.injection.callback.CallbackInfo;
-import org.spongepowered.common.event.tracking.PhaseContext;
 import org.spongepowered.common.interfaces.world.IMixinWorldServer;
 import org.spongepowered.common.mixin.plugin.entitycollisions.interfaces.IModData_Collisions;
 
 import java.util.List;
-import java.util.Optional;
-import java.util.function.Supplier;
-import java.util.stream.Stream;
 
 @Mixin(net.minecraft.world.chunk.Chunk.class)
 public class MixinChunk_Collisions {
 
     @Shadow @Final private World worldObj;
 
-    @Inject(method = "getEntitiesWithinAABBForEntity",
-            at = @At(value = "INVOKE", target = "Ljava/util/List;add(Ljava/lang/Object;)Z", remap = false), cancellable = true)
-    public void onAddCollisionEntity(Entity entityIn, AxisAlignedBB aabb, List<Entity> listToFill, Predicate<? super Entity> predicate,
+    // The collision limit of the query currently running on this chunk, or -1 if it is not limited
+    private int collisionLimit = -1;
+
+    @Inject(method = "getEntitiesWithinAABBForEntity", at = @At("HEAD"), cancellable = true)
+    public void onGetEntitiesWithinAABBForEntity(Entity entityIn, AxisAlignedBB aabb, List<Entity> listToFill, Predicate<? super Entity> predicate,
             CallbackInfo ci) {
         // ignore players and entities with parts (ex. EnderDragon)
         if (this.worldObj.isRemote || entityIn == null || entityIn instanceof EntityPlayer || entityIn.getParts() != null) {
+            this.collisionLimit = -1;
             return;
         }
 
-        if (!allowEntityCollision(listToFill)) {
+        this.collisionLimit = getMaxCollisions();
+        if (isCollisionLimitReached(listToFill)) {
+            // Earlier chunks of the same query already filled the list, so there is no need to look at this one
             ci.cancel();
         }
     }
 
-    @Inject(method = "getEntitiesOfTypeWithinAAAB",
-            at = @At(value = "INVOKE", target = "Ljava/util/List;add(Ljava/lang/Object;)Z", remap = false), cancellable = true)
-    public <T extends Entity> void onAddCollisionEntity(Class<? extends T> entityClass, AxisAlignedBB aabb, List<T> listToFill,
+    @Inject(method = "getEntitiesOfTypeWithinAAAB", at = @At("HEAD"), cancellable = true)
+    public <T extends Entity> void onGetEntitiesOfTypeWithinAAAB(Class<? extends T> entityClass, AxisAlignedBB aabb, List<T> listToFill,
             Predicate<? super T> p_177430_4_, CallbackInfo ci) {
         // ignore player checks
         // ignore item check (ex. Hoppers)
         if (this.worldObj.isRemote || EntityPlayer.class.isAssignableFrom(entityClass) || EntityItem.class == entityClass) {
+            this.collisionLimit = -1;
             return;
         }
 
-        if (!allowEntityCollision(listToFill)) {
+        this.collisionLimit = getMaxCollisions();
+        if (isCollisionLimitReached(listToFill)) {
             ci.cancel();
         }
     }
 
-    private <T extends Entity> boolean allowEntityCollision(List<T> listToFill) {
-        if (this.worldObj instanceof IMixinWorldServer) {
-            IMixinWorldServer spongeWorld = (IMixinWorldServer) this.worldObj;
-            if (spongeWorld.isProcessingExplosion()) {
-                // allow explosions
-                return true;
-            }
+    @Inject(method = "getEntitiesWithinAABBForEntity",
+            at = @At(value = "INVOKE", target = "Ljava/util/List;add(Ljava/lang/Object;)Z", remap = false), cancellable = true)
+    public void onAddCollisionEntity(Entity entityIn, AxisAlignedBB aabb, List<Entity> listToFill, Predicate<? super Entity> predicate,
+            CallbackInfo ci) {
+        if (isCollisionLimitReached(listToFill)) {
+            // Cancelling returns from the method, so the rest of the candidate loop is skipped
+            ci.cancel();
+        }
+    }
 
-            final PhaseContext phaseContext = spongeWorld.getCauseTracker().getStack().peekContext();
+    @Inject(method = "getEntitiesOfTypeWithinAAAB",
+            at = @At(value = "INVOKE", target = "Ljava/util/List;add(Ljava/lang/Object;)Z", remap = false), cancellable = true)
+    public <T extends Entity> void onAddCollisionEntity(Class<? extends T> entityClass, AxisAlignedBB aabb, List<T> listToFill,
+            Predicate<? super T> p_177430_4_, CallbackInfo ci) {
+        if (isCollisionLimitReached(listToFill)) {
+            ci.cancel();
+        }
+    }
 
-            return Stream.<Supplier<Optional<Boolean>>>of(
-                    () -> phaseContext.firstNamed(NamedCause.SOURCE, BlockSnapshot.class).map(tickBlock -> {
-                        BlockType blockType = tickBlock.getState().getType();
-                        IModData_Collisions spongeBlock = (IModData_Collisions) blockType;
-                        if (spongeBlock.requiresCacheRefresh()) {
-                            spongeBlock.initializeCollisionState(this.worldObj);
-                            spongeBlock.requiresCacheRefresh(false);
-                        }
+    private boolean isCollisionLimitReached(List<?> listToFill) {
+        return this.collisionLimit >= 0 && listToFill.size() >= this.collisionLimit;
+    }
 
-                        return !((spongeBlock.getMaxCollisions() >= 0) && (listToFill.size() >= spongeBlock.getMaxCollisions()));
-                    }),
-                    () -> phaseContext.firstNamed(NamedCause.SOURCE, IModData_Collisions.class).map(spongeEntity -> {
-                            if (spongeEntity.requiresCacheRefresh()) {
-                                spongeEntity.initializeCollisionState(this.worldObj);
-                                spongeEntity.requiresCacheRefresh(false);
-                            }
+    private int getMaxCollisions() {
+        if (!(this.worldObj instanceof IMixinWorldServer)) {
+            return -1;
+        }
+        IMixinWorldServer spongeWorld = (IMixinWorldServer) this.worldObj;
+        if (spongeWorld.isProcessingExplosion()) {
+            // allow explosions
+            return -1;
+        }
 
-                            return !((spongeEntity.getMaxCollisions() >= 0) && (listToFill.size() >= spongeEntity.getMaxCollisions()));
-                    })
-            ).map(Supplier::get)
-            .filter(Optional::isPresent)
-            .map(Optional::get)
-            .findFirst()
-            .orElse(true);
+        final Object source = spongeWorld.getCauseTracker().getCurrentPhaseSource();
+        final IModData_Collisions collisionData;
+        if (source instanceof BlockSnapshot) {
+            collisionData = (IModData_Collisions) ((BlockSnapshot) source).getState().getType();
+        } else if (source instanceof IModData_Collisions) {
+            collisionData = (IModData_Collisions) source;
+        } else {
+            return -1;
         }
 
-        return true;
+        if (collisionData.requiresCacheRefresh()) {
+            collisionData.initializeCollisionState(this.worldObj);
+            collisionData.requiresCacheRefresh(false);
+        }
+        return collisionData.getMaxCollisions();
     }
 }
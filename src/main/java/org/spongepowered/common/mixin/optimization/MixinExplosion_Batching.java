@@ -0,0 +1,98 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.common.mixin.optimization;
+
+import net.minecraft.init.SoundEvents;
+import net.minecraft.util.EnumParticleTypes;
+import net.minecraft.util.SoundCategory;
+import net.minecraft.util.math.BlockPos;
+import net.minecraft.world.Explosion;
+import net.minecraft.world.World;
+import net.minecraft.world.WorldServer;
+import org.spongepowered.asm.mixin.Final;
+import org.spongepowered.asm.mixin.Mixin;
+import org.spongepowered.asm.mixin.Shadow;
+import org.spongepowered.asm.mixin.injection.At;
+import org.spongepowered.asm.mixin.injection.Constant;
+import org.spongepowered.asm.mixin.injection.Inject;
+import org.spongepowered.asm.mixin.injection.ModifyConstant;
+import org.spongepowered.asm.mixin.injection.callback.CallbackInfo;
+import org.spongepowered.common.interfaces.world.IMixinWorldServer;
+
+import java.util.List;
+
+/**
+ * Casts the rays of server explosions with the {@link IMixinWorldServer#getExplosionBatch() explosion batch}
+ * of the world and leaves the blocks to be removed by the batch at the end of the tick.
+ */
+@Mixin(Explosion.class)
+public abstract class MixinExplosion_Batching {
+
+    @Shadow public World worldObj;
+    @Shadow public double explosionX;
+    @Shadow public double explosionY;
+    @Shadow public double explosionZ;
+    @Shadow public float explosionSize;
+    @Shadow public boolean isFlaming;
+    @Shadow public boolean isSmoking;
+    @Shadow @Final private List<BlockPos> affectedBlockPositions;
+
+    @Inject(method = "doExplosionA", at = @At("HEAD"))
+    private void onDoExplosionA(CallbackInfo ci) {
+        if (this.castsRays()) {
+            ((IMixinWorldServer) this.worldObj).getExplosionBatch().getRayCaster().cast((Explosion) (Object) this, this.affectedBlockPositions);
+        }
+    }
+
+    // The rays were already cast, skip the vanilla loops over them
+    @ModifyConstant(method = "doExplosionA", constant = @Constant(intValue = 16))
+    private int getRaysPerAxis(int rays) {
+        return this.castsRays() ? 0 : rays;
+    }
+
+    private boolean castsRays() {
+        return this.worldObj instanceof WorldServer && ((org.spongepowered.api.world.explosion.Explosion) this).shouldBreakBlocks();
+    }
+
+    @Inject(method = "doExplosionB", at = @At("HEAD"), cancellable = true)
+    private void onDoExplosionB(boolean spawnParticles, CallbackInfo ci) {
+        if (!(this.worldObj instanceof WorldServer)) {
+            return;
+        }
+        final WorldServer world = (WorldServer) this.worldObj;
+        world.playSound(null, this.explosionX, this.explosionY, this.explosionZ, SoundEvents.ENTITY_GENERIC_EXPLODE, SoundCategory.BLOCKS, 4.0F,
+                (1.0F + (world.rand.nextFloat() - world.rand.nextFloat()) * 0.2F) * 0.7F);
+        if (spawnParticles) {
+            final EnumParticleTypes particle = this.explosionSize >= 2.0F && this.isSmoking ? EnumParticleTypes.EXPLOSION_HUGE
+                    : EnumParticleTypes.EXPLOSION_LARGE;
+            world.spawnParticle(particle, this.explosionX, this.explosionY, this.explosionZ, 1, 1.0D, 0.0D, 0.0D, 0.1D);
+        }
+        if ((this.isSmoking || this.isFlaming) && !this.affectedBlockPositions.isEmpty()) {
+            ((IMixinWorldServer) world).getExplosionBatch().add((Explosion) (Object) this);
+        }
+        ci.cancel();
+    }
+
+}
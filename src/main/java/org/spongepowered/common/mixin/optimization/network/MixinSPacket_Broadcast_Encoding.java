@@ -0,0 +1,66 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.common.mixin.optimization.network;
+
+import io.netty.buffer.ByteBuf;
+import net.minecraft.network.Packet;
+import net.minecraft.network.PacketBuffer;
+import net.minecraft.network.play.server.SPacketChat;
+import net.minecraft.network.play.server.SPacketTitle;
+import net.minecraft.network.play.server.SPacketUpdateBossInfo;
+import org.spongepowered.asm.mixin.Mixin;
+import org.spongepowered.asm.mixin.injection.At;
+import org.spongepowered.asm.mixin.injection.Inject;
+import org.spongepowered.asm.mixin.injection.callback.CallbackInfo;
+import org.spongepowered.common.network.BroadcastPackets;
+
+import java.io.IOException;
+
+import javax.annotation.Nullable;
+
+/**
+ * Chat, title and boss bar packets are immutable once created and are
+ * usually sent as the same instance to many connections, so their data is
+ * only serialized the first time the packet is written.
+ */
+@Mixin({SPacketChat.class, SPacketTitle.class, SPacketUpdateBossInfo.class})
+public abstract class MixinSPacket_Broadcast_Encoding {
+
+    @Nullable private volatile ByteBuf encodedData;
+
+    @Inject(method = "writePacketData", at = @At("HEAD"), cancellable = true)
+    private void onWritePacketData(PacketBuffer buf, CallbackInfo ci) throws IOException {
+        ByteBuf encodedData = this.encodedData;
+        if (encodedData == null) {
+            if (BroadcastPackets.isEncoding()) {
+                return;
+            }
+            this.encodedData = encodedData = BroadcastPackets.encode((Packet<?>) this);
+        }
+        buf.writeBytes(encodedData, encodedData.readerIndex(), encodedData.readableBytes());
+        ci.cancel();
+    }
+
+}
@@ -0,0 +1,58 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.common.mixin.optimization.server.management;
+
+import net.minecraft.server.management.PlayerChunkMap;
+import net.minecraft.server.management.PlayerChunkMapEntry;
+import net.minecraft.util.math.ChunkPos;
+import org.spongepowered.asm.mixin.Final;
+import org.spongepowered.asm.mixin.Mixin;
+import org.spongepowered.asm.mixin.Shadow;
+import org.spongepowered.asm.mixin.injection.At;
+import org.spongepowered.asm.mixin.injection.Inject;
+import org.spongepowered.asm.mixin.injection.callback.CallbackInfoReturnable;
+import org.spongepowered.common.interfaces.world.IMixinWorldServer;
+
+@Mixin(PlayerChunkMapEntry.class)
+public abstract class MixinPlayerChunkMapEntry_Deferred_Lighting {
+
+    @Shadow @Final private PlayerChunkMap playerChunkMap;
+    @Shadow @Final private ChunkPos pos;
+    @Shadow private boolean sentToPlayers;
+
+    /**
+     * Performs the queued light checks that can change the light of a chunk
+     * before it is first sent, so that players don't receive it with stale
+     * light.
+     *
+     * @param callbackInfo The callback info
+     */
+    @Inject(method = "sendToPlayers", at = @At("HEAD"))
+    private void onSendToPlayers(CallbackInfoReturnable<Boolean> callbackInfo) {
+        if (!this.sentToPlayers) {
+            ((IMixinWorldServer) this.playerChunkMap.getWorldServer()).getLightingQueue().processChunk(this.pos.chunkXPos, this.pos.chunkZPos);
+        }
+    }
+}
@@ -0,0 +1,66 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.common.mixin.optimization.world;
+
+import net.minecraft.util.math.BlockPos;
+import net.minecraft.world.EnumSkyBlock;
+import net.minecraft.world.World;
+import net.minecraft.world.WorldServer;
+import org.spongepowered.asm.mixin.Final;
+import org.spongepowered.asm.mixin.Mixin;
+import org.spongepowered.asm.mixin.Shadow;
+import org.spongepowered.asm.mixin.injection.At;
+import org.spongepowered.asm.mixin.injection.Inject;
+import org.spongepowered.asm.mixin.injection.callback.CallbackInfoReturnable;
+import org.spongepowered.common.interfaces.world.IMixinWorldServer;
+import org.spongepowered.common.world.LightingQueue;
+
+@Mixin(World.class)
+public abstract class MixinWorld_Deferred_Lighting {
+
+    @Shadow @Final public boolean isRemote;
+    @Shadow public abstract int getHeight();
+
+    /**
+     * Queues light checks on server worlds instead of performing them right
+     * away. The queue performs them at the end of the world tick, see
+     * {@link LightingQueue}.
+     *
+     * @param lightType The type of light to check
+     * @param pos The position to check
+     * @param callbackInfo The callback info to return and cancel with
+     */
+    @Inject(method = "checkLightFor", at = @At(value = "HEAD"), cancellable = true)
+    private void onCheckLightForQueue(EnumSkyBlock lightType, BlockPos pos, CallbackInfoReturnable<Boolean> callbackInfo) {
+        if (this.isRemote || !((Object) this instanceof WorldServer) || pos.getY() < 0 || pos.getY() >= this.getHeight()) {
+            return;
+        }
+        final LightingQueue queue = ((IMixinWorldServer) this).getLightingQueue();
+        if (!queue.isProcessing()) {
+            queue.add(lightType, pos);
+            callbackInfo.setReturnValue(true);
+        }
+    }
+}
@@ -0,0 +1,64 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.common.mixin.optimization.world.gen;
+
+import net.minecraft.world.WorldServer;
+import net.minecraft.world.gen.ChunkProviderServer;
+import org.spongepowered.asm.mixin.Final;
+import org.spongepowered.asm.mixin.Mixin;
+import org.spongepowered.asm.mixin.Shadow;
+import org.spongepowered.asm.mixin.injection.At;
+import org.spongepowered.asm.mixin.injection.Inject;
+import org.spongepowered.asm.mixin.injection.callback.CallbackInfoReturnable;
+import org.spongepowered.common.interfaces.world.IMixinWorldServer;
+import org.spongepowered.common.world.LightingQueue;
+
+import java.util.Set;
+
+@Mixin(ChunkProviderServer.class)
+public abstract class MixinChunkProviderServer_Deferred_Lighting {
+
+    @Shadow @Final public WorldServer worldObj;
+    @Shadow @Final private Set<Long> droppedChunksSet;
+
+    /**
+     * Performs the queued light checks of chunks that are about to be
+     * unloaded. Once a chunk is unloaded, its checks would be dropped and it
+     * would be saved with stale light.
+     *
+     * @param callbackInfo The callback info
+     */
+    @Inject(method = "unloadQueuedChunks", at = @At("HEAD"))
+    private void onUnloadQueuedChunksProcessLighting(CallbackInfoReturnable<Boolean> callbackInfo) {
+        final LightingQueue queue = ((IMixinWorldServer) this.worldObj).getLightingQueue();
+        if (queue.isEmpty() || this.droppedChunksSet.isEmpty()) {
+            return;
+        }
+        for (Long key : this.droppedChunksSet) {
+            queue.processChunk((int) key.longValue(), (int) (key >> 32));
+        }
+    }
+
+}
@@ -80,6 +80,12 @@ public void postApply(String targetClassName, ClassNode targetClass, String mixi
                     OptimizationCategory::useIgnoreUloadedChunkLightingPatch)
             .put("org.spongepowered.common.mixin.optimization.world.MixinWorldServer_Lighting",
                     OptimizationCategory::useIgnoreUloadedChunkLightingPatch)
+            .put("org.spongepowered.common.mixin.optimization.world.MixinWorld_Deferred_Lighting",
+                    OptimizationCategory::useDeferredLighting)
+            .put("org.spongepowered.common.mixin.optimization.server.management.MixinPlayerChunkMapEntry_Deferred_Lighting",
+                    OptimizationCategory::useDeferredLighting)
+            .put("org.spongepowered.common.mixin.optimization.world.gen.MixinChunkProviderServer_Deferred_Lighting",
+                    OptimizationCategory::useDeferredLighting)
             .put("org.spongepowered.common.mixin.optimization.world.gen.MixinChunkProviderServer_Chunk_Cache",
                     OptimizationCategory::isUseCachedChunkMap)
             .put("org.spongepowered.common.mixin.optimization.world.MixinChunk_Chunk_Cache",
@@ -90,6 +96,10 @@ public void postApply(String targetClassName, ClassNode targetClass, String mixi
                     (module) -> true) // TODO the velocity changes need to be sent to the client
             .put("org.spongepowered.common.mixin.optimization.MixinExplosion_Explosion",
                     (module) -> true) // TODO the velocity changes need to be sent to the client
+            .put("org.spongepowered.common.mixin.optimization.MixinExplosion_Batching",
+                    OptimizationCategory::useExplosionBatching)
+            .put("org.spongepowered.common.mixin.optimization.network.MixinSPacket_Broadcast_Encoding",
+                    OptimizationCategory::useBroadcastPacketEncoding)
 
             .build();
 
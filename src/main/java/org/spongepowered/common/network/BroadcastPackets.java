@@ -0,0 +1,125 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.common.network;
+
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.Unpooled;
+import net.minecraft.network.Packet;
+import net.minecraft.network.PacketBuffer;
+import net.minecraft.network.play.server.SPacketChat;
+import net.minecraft.util.text.ITextComponent;
+import org.spongepowered.api.text.Text;
+import org.spongepowered.api.text.chat.ChatType;
+import org.spongepowered.api.text.chat.ChatTypes;
+import org.spongepowered.common.text.SpongeTexts;
+import org.spongepowered.common.text.chat.SpongeChatType;
+
+import java.io.IOException;
+
+import javax.annotation.Nullable;
+
+/**
+ * Helpers for packets which are sent unchanged to many connections.
+ *
+ * <p>A message sent through a message channel is sent to every member
+ * separately, these share a single chat packet as long as the same
+ * {@link Text} is sent in succession. Packets using
+ * {@link #encode(Packet)} are then only serialized once, every connection
+ * writing a copy of the encoded payload.</p>
+ */
+public final class BroadcastPackets {
+
+    private static final ThreadLocal<Boolean> ENCODING = new ThreadLocal<>();
+
+    @Nullable private static volatile CachedChat lastChat;
+
+    /**
+     * Gets the chat packet for the specified message, the packet is shared
+     * with the previous call if it was for the same message instance.
+     *
+     * @param type The chat type
+     * @param message The message
+     * @return The chat packet
+     */
+    public static SPacketChat getChatPacket(ChatType type, Text message) {
+        final CachedChat lastChat = BroadcastPackets.lastChat;
+        if (lastChat != null && lastChat.message == message && lastChat.type == type) {
+            return lastChat.packet;
+        }
+        ITextComponent component = SpongeTexts.toComponent(message);
+        if (type == ChatTypes.ACTION_BAR) {
+            component = SpongeTexts.fixActionBarFormatting(component);
+        }
+        final SPacketChat packet = new SPacketChat(component, ((SpongeChatType) type).getByteId());
+        BroadcastPackets.lastChat = new CachedChat(type, message, packet);
+        return packet;
+    }
+
+    /**
+     * Gets whether a packet is currently being encoded by
+     * {@link #encode(Packet)} on this thread, in which case the packet must
+     * write its data itself.
+     *
+     * @return True if encoding
+     */
+    public static boolean isEncoding() {
+        return ENCODING.get() != null;
+    }
+
+    /**
+     * Serializes the data of a packet into a new buffer.
+     *
+     * @param packet The packet
+     * @return The encoded packet data
+     * @throws IOException If the packet could not be written
+     */
+    public static ByteBuf encode(Packet<?> packet) throws IOException {
+        final PacketBuffer buffer = new PacketBuffer(Unpooled.buffer());
+        ENCODING.set(Boolean.TRUE);
+        try {
+            packet.writePacketData(buffer);
+        } finally {
+            ENCODING.remove();
+        }
+        return Unpooled.unreleasableBuffer(buffer.capacity(buffer.writerIndex()));
+    }
+
+    private static final class CachedChat {
+
+        final ChatType type;
+        final Text message;
+        final SPacketChat packet;
+
+        CachedChat(ChatType type, Text message, SPacketChat packet) {
+            this.type = type;
+            this.message = message;
+            this.packet = packet;
+        }
+    }
+
+    private BroadcastPackets() {
+    }
+
+}
@@ -0,0 +1,91 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.common.network;
+
+import io.netty.buffer.ByteBuf;
+import io.netty.channel.ChannelHandlerContext;
+import io.netty.channel.ChannelOutboundHandlerAdapter;
+import io.netty.channel.ChannelPromise;
+
+/**
+ * Counts the encoded packets and bytes written to a connection, and flushes
+ * it once the bytes written since the last flush reach a threshold. Placed
+ * directly after the packet encoder, so the bytes are counted before
+ * compression.
+ *
+ * <p>Writes and flushes are only handled on the event loop of the channel,
+ * so the pending byte count needs no synchronization. The totals are read
+ * from the main thread.</p>
+ */
+public class OutboundBatchHandler extends ChannelOutboundHandlerAdapter {
+
+    public static final String NAME = "sponge_batch";
+
+    private final int flushThreshold;
+    private int pendingBytes;
+    private volatile long bytesWritten;
+    private volatile long packetsWritten;
+
+    /**
+     * Creates a new handler.
+     *
+     * @param flushThreshold The bytes written before the channel is flushed,
+     *     or 0 to never flush from this handler
+     */
+    public OutboundBatchHandler(int flushThreshold) {
+        this.flushThreshold = flushThreshold;
+    }
+
+    @Override
+    public void write(ChannelHandlerContext ctx, Object msg, ChannelPromise promise) throws Exception {
+        if (!(msg instanceof ByteBuf)) {
+            super.write(ctx, msg, promise);
+            return;
+        }
+        final int bytes = ((ByteBuf) msg).readableBytes();
+        this.bytesWritten += bytes;
+        this.packetsWritten++;
+        super.write(ctx, msg, promise);
+        this.pendingBytes += bytes;
+        if (this.flushThreshold > 0 && this.pendingBytes >= this.flushThreshold) {
+            this.flush(ctx);
+        }
+    }
+
+    @Override
+    public void flush(ChannelHandlerContext ctx) throws Exception {
+        this.pendingBytes = 0;
+        super.flush(ctx);
+    }
+
+    public long getBytesWritten() {
+        return this.bytesWritten;
+    }
+
+    public long getPacketsWritten() {
+        return this.packetsWritten;
+    }
+
+}
@@ -90,7 +90,6 @@ public static void onProcessPacket(Packet packetIn, INetHandler netHandler) {
 
             }*/
 
-            final ItemStackSnapshot cursor = ItemStackUtil.snapshotOf(packetPlayer.inventory.getItemStack());
             final IMixinWorldServer world = (IMixinWorldServer) packetPlayer.worldObj;
             final CauseTracker causeTracker = world.getCauseTracker();
             if (packetIn instanceof CPacketAnimation || packetIn instanceof CPacketClientSettings) {
@@ -103,11 +102,18 @@ public static void onProcessPacket(Packet packetIn, INetHandler netHandler) {
                 if (!TrackingPhases.PACKET.isPacketInvalid(packetIn, packetPlayer, packetState)) {
                     PhaseContext context = PhaseContext.start()
                             .add(NamedCause.source(packetPlayer))
-                            .add(NamedCause.of(InternalNamedCauses.Packet.PACKET_PLAYER, packetPlayer))
-                            .addCaptures()
-                            .add(NamedCause.of(InternalNamedCauses.Packet.CAPTURED_PACKET, packetIn))
-                            .add(NamedCause.of(InternalNamedCauses.Packet.CURSOR, cursor))
-                            .add(NamedCause.of(InternalNamedCauses.Packet.IGNORING_CREATIVE, ignoreCreative));
+                            .add(NamedCause.of(InternalNamedCauses.Packet.PACKET_PLAYER, packetPlayer));
+                    // Movement and ignored packets make up most of the inbound traffic, only
+                    // add the captures and cursor snapshot for the states that use them.
+                    if (packetState.doesCaptureChanges()) {
+                        context.addCaptures();
+                    }
+                    context.add(NamedCause.of(InternalNamedCauses.Packet.CAPTURED_PACKET, packetIn));
+                    if (packetState.tracksCursor()) {
+                        final ItemStackSnapshot cursor = ItemStackUtil.snapshotOf(packetPlayer.inventory.getItemStack());
+                        context.add(NamedCause.of(InternalNamedCauses.Packet.CURSOR, cursor));
+                    }
+                    context.add(NamedCause.of(InternalNamedCauses.Packet.IGNORING_CREATIVE, ignoreCreative));
 
                     TrackingPhases.PACKET.populateContext(packetIn, packetPlayer, packetState, context);
                     context.complete();
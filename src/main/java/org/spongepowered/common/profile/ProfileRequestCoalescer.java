@@ -0,0 +1,255 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.common.profile;
+
+import com.google.common.base.Objects;
+import org.spongepowered.api.profile.GameProfile;
+import org.spongepowered.api.profile.GameProfileCache;
+import org.spongepowered.api.profile.ProfileNotFoundException;
+import org.spongepowered.common.profile.query.GameProfileQuery;
+import org.spongepowered.common.profile.query.NameQuery;
+import org.spongepowered.common.profile.query.UniqueIdQuery;
+
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+import javax.annotation.Nullable;
+
+/**
+ * Sits in front of the profile queries, sharing in-flight lookups between
+ * callers requesting the same profile and collecting single unique id and
+ * name lookups into batched lookups.
+ *
+ * <p>A lookup is performed at once while no other lookup of its kind is
+ * running. Lookups arriving while one is running are collected for a short
+ * window, or until the batch is full, and then performed together.</p>
+ */
+public final class ProfileRequestCoalescer {
+
+    // The most profiles a single request to the lookup service may ask for
+    static final int MAX_BATCH_SIZE = 100;
+
+    private final ConcurrentMap<RequestKey, CompletableFuture<GameProfile>> inFlight = new ConcurrentHashMap<>();
+    private final Map<RequestKey, Map<Object, CompletableFuture<GameProfile>>> batches = new HashMap<>();
+    // The number of running batched lookups by batch key, guarded by the batches
+    private final Map<RequestKey, Integer> running = new HashMap<>();
+    private final Executor executor;
+    private final ScheduledExecutorService timer;
+    private final long batchWindow;
+
+    /**
+     * Creates a new coalescer.
+     *
+     * @param executor The executor performing the lookups
+     * @param timer The timer used to close a batch window
+     * @param batchWindow The time in milliseconds single lookups are collected
+     *     before they are performed
+     */
+    public ProfileRequestCoalescer(Executor executor, ScheduledExecutorService timer, long batchWindow) {
+        this.executor = executor;
+        this.timer = timer;
+        this.batchWindow = batchWindow;
+    }
+
+    public CompletableFuture<GameProfile> get(GameProfileCache cache, UUID uniqueId, boolean useCache) {
+        return this.share(new RequestKey(Kind.UNIQUE_ID, cache, uniqueId, useCache, false), null);
+    }
+
+    public CompletableFuture<GameProfile> get(GameProfileCache cache, String name, boolean useCache) {
+        return this.share(new RequestKey(Kind.NAME, cache, name.toLowerCase(Locale.ROOT), useCache, false), null);
+    }
+
+    public CompletableFuture<GameProfile> fill(GameProfileCache cache, GameProfile profile, boolean signed, boolean useCache) {
+        return this.share(new RequestKey(Kind.FILL, cache, profile.getUniqueId(), useCache, signed), profile);
+    }
+
+    private CompletableFuture<GameProfile> share(RequestKey key, @Nullable GameProfile profile) {
+        CompletableFuture<GameProfile> future = this.inFlight.get(key);
+        if (future == null) {
+            final CompletableFuture<GameProfile> created = new CompletableFuture<>();
+            future = this.inFlight.putIfAbsent(key, created);
+            if (future == null) {
+                future = created;
+                created.whenComplete((result, throwable) -> this.inFlight.remove(key, created));
+                if (key.kind == Kind.FILL) {
+                    this.executor.execute(() -> performFill(key, profile, created));
+                } else {
+                    this.enqueue(key, created);
+                }
+            }
+        }
+        // Hand every caller its own future, completing or cancelling it
+        // must not affect the other callers sharing the lookup
+        return future.thenApply(result -> result);
+    }
+
+    private static void performFill(RequestKey key, GameProfile profile, CompletableFuture<GameProfile> future) {
+        try {
+            future.complete(new GameProfileQuery.SingleFill(key.cache, profile, key.signed, key.useCache).call());
+        } catch (Throwable t) {
+            future.completeExceptionally(t);
+        }
+    }
+
+    private void enqueue(RequestKey key, CompletableFuture<GameProfile> future) {
+        final RequestKey batchKey = key.toBatchKey();
+        final Map<Object, CompletableFuture<GameProfile>> ready;
+        synchronized (this.batches) {
+            Map<Object, CompletableFuture<GameProfile>> batch = this.batches.get(batchKey);
+            if (batch == null) {
+                batch = new HashMap<>();
+                batch.put(key.value, future);
+                if (this.running.containsKey(batchKey)) {
+                    // Other lookups are running, wait for more to arrive
+                    final Map<Object, CompletableFuture<GameProfile>> pending = batch;
+                    this.batches.put(batchKey, pending);
+                    this.timer.schedule(() -> this.executor.execute(() -> this.flush(batchKey, pending)), this.batchWindow, TimeUnit.MILLISECONDS);
+                    return;
+                }
+            } else {
+                batch.put(key.value, future);
+                if (batch.size() < MAX_BATCH_SIZE) {
+                    return;
+                }
+                this.batches.remove(batchKey);
+            }
+            ready = batch;
+            this.running.merge(batchKey, 1, Integer::sum);
+        }
+        this.executor.execute(() -> this.perform(batchKey, ready));
+    }
+
+    private void flush(RequestKey batchKey, Map<Object, CompletableFuture<GameProfile>> batch) {
+        synchronized (this.batches) {
+            // The batch may have been performed already for being full
+            if (this.batches.get(batchKey) != batch) {
+                return;
+            }
+            this.batches.remove(batchKey);
+            this.running.merge(batchKey, 1, Integer::sum);
+        }
+        this.perform(batchKey, batch);
+    }
+
+    @SuppressWarnings("unchecked")
+    private void perform(RequestKey batchKey, Map<Object, CompletableFuture<GameProfile>> batch) {
+        try {
+            if (batchKey.kind == Kind.UNIQUE_ID) {
+                final Collection<GameProfile> profiles =
+                        new UniqueIdQuery.MultiGet(batchKey.cache, (Collection<UUID>) (Collection<?>) batch.keySet(), batchKey.useCache).call();
+                for (GameProfile profile : profiles) {
+                    final CompletableFuture<GameProfile> future = batch.remove(profile.getUniqueId());
+                    if (future != null) {
+                        future.complete(profile);
+                    }
+                }
+                // Mirrors UniqueIdQuery.SingleGet, which returns an unfilled profile
+                // when the lookup doesn't find one
+                for (Map.Entry<Object, CompletableFuture<GameProfile>> entry : batch.entrySet()) {
+                    entry.getValue().complete(GameProfile.of((UUID) entry.getKey(), null));
+                }
+            } else {
+                final Collection<GameProfile> profiles =
+                        new NameQuery.MultiGet(batchKey.cache, (Collection<String>) (Collection<?>) batch.keySet(), batchKey.useCache).call();
+                for (GameProfile profile : profiles) {
+                    if (profile.getName().isPresent()) {
+                        final CompletableFuture<GameProfile> future = batch.remove(profile.getName().get().toLowerCase(Locale.ROOT));
+                        if (future != null) {
+                            future.complete(profile);
+                        }
+                    }
+                }
+                for (Map.Entry<Object, CompletableFuture<GameProfile>> entry : batch.entrySet()) {
+                    entry.getValue().completeExceptionally(new ProfileNotFoundException("Profile: " + entry.getKey()));
+                }
+            }
+        } catch (Throwable t) {
+            for (CompletableFuture<GameProfile> future : batch.values()) {
+                future.completeExceptionally(t);
+            }
+        } finally {
+            synchronized (this.batches) {
+                this.running.computeIfPresent(batchKey, (k, count) -> count == 1 ? null : count - 1);
+            }
+        }
+    }
+
+    private enum Kind {
+        UNIQUE_ID,
+        NAME,
+        FILL
+    }
+
+    private static final class RequestKey {
+
+        final Kind kind;
+        final GameProfileCache cache;
+        @Nullable final Object value;
+        final boolean useCache;
+        final boolean signed;
+
+        RequestKey(Kind kind, GameProfileCache cache, @Nullable Object value, boolean useCache, boolean signed) {
+            this.kind = kind;
+            this.cache = cache;
+            this.value = value;
+            this.useCache = useCache;
+            this.signed = signed;
+        }
+
+        RequestKey toBatchKey() {
+            return new RequestKey(this.kind, this.cache, null, this.useCache, this.signed);
+        }
+
+        @Override
+        public boolean equals(Object obj) {
+            if (this == obj) {
+                return true;
+            }
+            if (!(obj instanceof RequestKey)) {
+                return false;
+            }
+            final RequestKey other = (RequestKey) obj;
+            // Caches are compared by identity, a plugin may swap in its own
+            return this.kind == other.kind && this.cache == other.cache && this.useCache == other.useCache
+                    && this.signed == other.signed && Objects.equal(this.value, other.value);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hashCode(this.kind, System.identityHashCode(this.cache), this.value, this.useCache, this.signed);
+        }
+
+    }
+
+}
@@ -28,6 +28,7 @@
 
 import com.google.common.collect.Lists;
 import com.google.common.collect.Sets;
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
 import net.minecraft.server.MinecraftServer;
 import net.minecraft.server.management.PlayerProfileCache;
 import org.spongepowered.api.Sponge;
@@ -35,7 +36,6 @@
 import org.spongepowered.api.profile.GameProfileCache;
 import org.spongepowered.api.profile.GameProfileManager;
 import org.spongepowered.api.profile.property.ProfileProperty;
-import org.spongepowered.common.profile.query.GameProfileQuery;
 import org.spongepowered.common.profile.query.NameQuery;
 import org.spongepowered.common.profile.query.UniqueIdQuery;
 import org.spongepowered.common.scheduler.SpongeScheduler;
@@ -44,13 +44,25 @@
 import java.util.UUID;
 import java.util.concurrent.Callable;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executors;
 
 import javax.annotation.Nullable;
 
 public final class SpongeProfileManager implements GameProfileManager {
 
+    /**
+     * The time in milliseconds single lookups arriving while another lookup
+     * is running are collected before they are performed as one batched
+     * lookup.
+     */
+    private static final long BATCH_WINDOW = 50;
+
     private final GameProfileCache defaultCache = (GameProfileCache) ((MinecraftServer) Sponge.getServer()).getPlayerProfileCache();
     private GameProfileCache cache = this.defaultCache;
+    private final ProfileRequestCoalescer coalescer = new ProfileRequestCoalescer(
+            command -> SpongeScheduler.getInstance().submitAsyncTask(Executors.callable(command)),
+            Executors.newSingleThreadScheduledExecutor(new ThreadFactoryBuilder().setNameFormat("Sponge - Profile Batcher").setDaemon(true).build()),
+            BATCH_WINDOW);
 
     @Override
     public GameProfile createProfile(UUID uniqueId, @Nullable String name) {
@@ -65,7 +77,7 @@ public ProfileProperty createProfileProperty(String name, String value, @Nullabl
 
     @Override
     public CompletableFuture<GameProfile> get(UUID uniqueId, final boolean useCache) {
-        return this.submitTask(new UniqueIdQuery.SingleGet(this.cache, checkNotNull(uniqueId, "unique id"), useCache));
+        return this.coalescer.get(this.cache, checkNotNull(uniqueId, "unique id"), useCache);
     }
 
     @Override
@@ -75,7 +87,7 @@ public CompletableFuture<Collection<GameProfile>> getAllById(Iterable<UUID> uniq
 
     @Override
     public CompletableFuture<GameProfile> get(String name, boolean useCache) {
-        return this.submitTask(new NameQuery.SingleGet(this.cache, checkNotNull(name, "name"), useCache));
+        return this.coalescer.get(this.cache, checkNotNull(name, "name"), useCache);
     }
 
     @Override
@@ -85,7 +97,7 @@ public CompletableFuture<Collection<GameProfile>> getAllByName(Iterable<String>
 
     @Override
     public CompletableFuture<GameProfile> fill(GameProfile profile, boolean signed, boolean useCache) {
-        return this.submitTask(new GameProfileQuery.SingleFill(this.cache, checkNotNull(profile, "profile"), signed, useCache));
+        return this.coalescer.fill(this.cache, checkNotNull(profile, "profile"), signed, useCache);
     }
 
     @Override
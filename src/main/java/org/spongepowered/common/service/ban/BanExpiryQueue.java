@@ -0,0 +1,99 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.common.service.ban;
+
+import net.minecraft.server.management.UserList;
+import net.minecraft.server.management.UserListEntry;
+import org.spongepowered.api.util.ban.Ban;
+import org.spongepowered.common.interfaces.server.management.IMixinUserList;
+
+import java.time.Instant;
+import java.util.Comparator;
+import java.util.PriorityQueue;
+
+import javax.annotation.Nullable;
+
+/**
+ * Orders the expiring bans of a ban list by their expiration date, so that
+ * removing expired bans only touches the bans that actually expired instead
+ * of scanning the whole list.
+ *
+ * <p>Pardoned or replaced bans are not removed from the queue right away.
+ * They are skipped once they reach the head, and the queue is rebuilt when
+ * too many of them pile up or when the list is read from its file again.</p>
+ */
+final class BanExpiryQueue {
+
+    private static final Comparator<UserListEntry<?>> EXPIRATION_ORDER = Comparator.comparing(BanExpiryQueue::getExpirationDate);
+
+    private final PriorityQueue<UserListEntry<?>> queue = new PriorityQueue<>(EXPIRATION_ORDER);
+    @Nullable private UserList<?, ?> list;
+    private int loadCount;
+
+    void add(UserListEntry<?> entry) {
+        if (((Ban) entry).getExpirationDate().isPresent()) {
+            this.queue.add(entry);
+        }
+    }
+
+    /**
+     * Removes the expired bans from the list, like
+     * {@link UserList#removeExpired()}.
+     *
+     * @param list The ban list
+     */
+    @SuppressWarnings({"rawtypes", "unchecked"})
+    void removeExpired(UserList list) {
+        if (this.list != list || this.loadCount != ((IMixinUserList) list).getLoadCount()
+                || this.queue.size() > list.getValues().size() * 2 + 16) {
+            rebuild(list);
+        }
+
+        final Instant now = Instant.now();
+        while (!this.queue.isEmpty() && getExpirationDate(this.queue.peek()).isBefore(now)) {
+            final UserListEntry<?> entry = this.queue.poll();
+            final String key = list.getObjectKey(entry.getValue());
+            // The entry may have been pardoned or replaced by a newer ban in the meantime
+            if (list.getValues().get(key) == entry) {
+                list.getValues().remove(key);
+            }
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private void rebuild(UserList<?, ?> list) {
+        this.list = list;
+        this.loadCount = ((IMixinUserList) list).getLoadCount();
+        this.queue.clear();
+        for (UserListEntry<?> entry : ((UserList<?, UserListEntry<?>>) list).getValues().values()) {
+            add(entry);
+        }
+    }
+
+    private static Instant getExpirationDate(UserListEntry<?> entry) {
+        return ((Ban) entry).getExpirationDate().get();
+    }
+
+}
@@ -57,6 +57,9 @@
  */
 public class SpongeBanService implements BanService {
 
+    private final BanExpiryQueue profileBanExpiry = new BanExpiryQueue();
+    private final BanExpiryQueue ipBanExpiry = new BanExpiryQueue();
+
     @SuppressWarnings("unchecked")
     @Override
     public Collection<Ban> getBans() {
@@ -69,14 +72,14 @@ public Collection<Ban> getBans() {
     @SuppressWarnings("unchecked")
     @Override
     public Collection<Ban.Profile> getProfileBans() {
-        this.getUserBanList().removeExpired();
+        this.profileBanExpiry.removeExpired(this.getUserBanList());
         return new ArrayList<>((Collection<Ban.Profile>) (Object) this.getUserBanList().getValues().values());
     }
 
     @SuppressWarnings("unchecked")
     @Override
     public Collection<Ban.Ip> getIpBans() {
-        this.getIPBanList().removeExpired();
+        this.ipBanExpiry.removeExpired(this.getIPBanList());
         return new ArrayList<>((Collection<Ban.Ip>) (Object) this.getIPBanList().getValues().values());
     }
 
@@ -84,7 +87,7 @@ public Collection<Ban.Ip> getIpBans() {
     public Optional<Ban.Profile> getBanFor(GameProfile profile) {
         UserListBans bans = this.getUserBanList();
 
-        bans.removeExpired();
+        this.profileBanExpiry.removeExpired(bans);
         return Optional.ofNullable((Ban.Profile) bans.getValues().get(bans.getObjectKey((com.mojang.authlib.GameProfile) profile)));
     }
 
@@ -92,7 +95,7 @@ public Optional<Ban.Profile> getBanFor(GameProfile profile) {
     public Optional<Ban.Ip> getBanFor(InetAddress address) {
         UserListIPBans bans = this.getIPBanList();
 
-        bans.removeExpired();
+        this.ipBanExpiry.removeExpired(bans);
         return Optional.ofNullable((Ban.Ip) bans.getValues().get(bans.getObjectKey(bans.addressToString(new InetSocketAddress(address, 0)))));
     }
 
@@ -100,7 +103,7 @@ public Optional<Ban.Ip> getBanFor(InetAddress address) {
     public boolean isBanned(GameProfile profile) {
         UserListBans bans = this.getUserBanList();
 
-        bans.removeExpired();
+        this.profileBanExpiry.removeExpired(bans);
         return bans.values.containsKey(bans.getObjectKey((com.mojang.authlib.GameProfile) profile));
     }
 
@@ -108,13 +111,13 @@ public boolean isBanned(GameProfile profile) {
     public boolean isBanned(InetAddress address) {
         UserListIPBans bans = this.getIPBanList();
 
-        bans.removeExpired();
+        this.ipBanExpiry.removeExpired(bans);
         return bans.getValues().containsKey(bans.getObjectKey(bans.addressToString(new InetSocketAddress(address, 0))));
     }
 
     @Override
     public boolean pardon(GameProfile profile) {
-        this.getUserBanList().removeExpired();
+        this.profileBanExpiry.removeExpired(this.getUserBanList());
         boolean hadBan = this.isBanned(profile);
         UserListUtils.removeEntry(this.getUserBanList(), profile);
         return hadBan;
@@ -124,7 +127,7 @@ public boolean pardon(GameProfile profile) {
     public boolean pardon(InetAddress address) {
         UserListIPBans banList = this.getIPBanList();
 
-        banList.removeExpired();
+        this.ipBanExpiry.removeExpired(banList);
         InetSocketAddress inetSocketAddress = new InetSocketAddress(address, 0);
         boolean hadBan = this.isBanned(address);
         UserListUtils.removeEntry(banList, banList.addressToString(inetSocketAddress));
@@ -152,12 +155,14 @@ public Optional<? extends Ban> addBan(Ban ban) {
             Sponge.getEventManager().post(SpongeEventFactory.createBanUserEvent(Cause.source(this).build(), (Ban.Profile) ban, user));
 
             UserListUtils.addEntry(this.getUserBanList(), (UserListEntry) ban);
+            this.profileBanExpiry.add((UserListEntry) ban);
         } else if (ban.getType().equals(BanTypes.IP)) {
             prevBan = this.getBanFor(((Ban.Ip) ban).getAddress());
 
             Sponge.getEventManager().post(SpongeEventFactory.createBanIpEvent(Cause.source(this).build(), (Ban.Ip) ban));
 
             UserListUtils.addEntry(this.getIPBanList(), (UserListEntry) ban);
+            this.ipBanExpiry.add((UserListEntry) ban);
         } else {
             throw new IllegalArgumentException(String.format("Ban %s had unrecognized BanType %s!", ban, ban.getType()));
         }
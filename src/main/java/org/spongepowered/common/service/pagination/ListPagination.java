@@ -32,58 +32,75 @@
 import org.spongepowered.api.text.channel.MessageReceiver;
 
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
 import java.util.Map;
 
 /**
  * Pagination working with a list of values.
+ *
+ * <p>Only the index of the first line of every page is computed up front,
+ * the lines of a page are collected and padded when it is requested.</p>
  */
 class ListPagination extends ActivePagination {
-    private final List<List<Text>> pages;
+    private final List<Map.Entry<Text, Integer>> lines;
+    private final int[] pageStarts;
 
     public ListPagination(MessageReceiver src, PaginationCalculator calc, List<Map.Entry<Text, Integer>> lines,
             Text title, Text header, Text footer, Text padding) {
         super(src, calc, title, header, footer, padding);
-        List<List<Text>> pages = new ArrayList<>();
-        List<Text> currentPage = new ArrayList<>();
+        this.lines = lines;
+        int[] pageStarts = new int[8];
+        int pageCount = 0;
         int currentPageLines = 0;
 
-        for (Map.Entry<Text, Integer> ent : lines) {
+        for (int i = 0; i < lines.size(); i++) {
+            final int entryLines = lines.get(i).getValue();
             final boolean finiteLinesPerPage  = getMaxContentLinesPerPage() > 0;
-            final boolean willExceedPageLength = ent.getValue() + currentPageLines > getMaxContentLinesPerPage();
+            final boolean willExceedPageLength = entryLines + currentPageLines > getMaxContentLinesPerPage();
             final boolean currentPageNotEmpty = currentPageLines != 0;
             final boolean spillToNextPage = finiteLinesPerPage && willExceedPageLength && currentPageNotEmpty;
-            if (spillToNextPage) {
-                padPage(currentPage, currentPageLines, true);
+            if (spillToNextPage || i == 0) {
+                if (pageCount == pageStarts.length) {
+                    pageStarts = Arrays.copyOf(pageStarts, pageCount * 2);
+                }
+                pageStarts[pageCount++] = i;
                 currentPageLines = 0;
-                pages.add(currentPage);
-                currentPage = new ArrayList<>();
             }
-            currentPageLines += ent.getValue();
-            currentPage.add(ent.getKey());
+            currentPageLines += entryLines;
         }
-        //last page is not yet committed
-        final boolean lastPageNotEmpty = currentPageLines > 0;
-        if (lastPageNotEmpty) {
-            if (!pages.isEmpty()) {
-                // Only pad if we have a previous page
-                padPage(currentPage, currentPageLines, false);
-            }
-            pages.add(currentPage);
+        //last page is only kept if it has content
+        if (pageCount > 0 && currentPageLines == 0) {
+            pageCount--;
         }
-        this.pages = pages;
+        this.pageStarts = Arrays.copyOf(pageStarts, pageCount);
     }
 
     @Override
     protected Iterable<Text> getLines(int page) throws CommandException {
-        if (this.pages.size() == 0) {
+        if (this.pageStarts.length == 0) {
             return ImmutableList.of();
         } else if (page < 1) {
             throw new CommandException(t("Page %s does not exist!", page));
-        } else if (page > this.pages.size()) {
+        } else if (page > this.pageStarts.length) {
             throw new CommandException(t("Page %s is too high", page));
         }
-        return this.pages.get(page - 1);
+        final boolean lastPage = page == this.pageStarts.length;
+        final int end = lastPage ? this.lines.size() : this.pageStarts[page];
+        final List<Text> currentPage = new ArrayList<>();
+        int currentPageLines = 0;
+        for (int i = this.pageStarts[page - 1]; i < end; i++) {
+            final Map.Entry<Text, Integer> ent = this.lines.get(i);
+            currentPageLines += ent.getValue();
+            currentPage.add(ent.getKey());
+        }
+        if (!lastPage) {
+            padPage(currentPage, currentPageLines, true);
+        } else if (page > 1) {
+            // Only pad if we have a previous page
+            padPage(currentPage, currentPageLines, false);
+        }
+        return currentPage;
     }
 
     @Override
@@ -93,11 +110,11 @@ protected boolean hasPrevious(int page) {
 
     @Override
     protected boolean hasNext(int page) {
-        return page < this.pages.size();
+        return page < this.pageStarts.length;
     }
 
     @Override
     protected int getTotalPages() {
-        return this.pages.size();
+        return this.pageStarts.length;
     }
 }
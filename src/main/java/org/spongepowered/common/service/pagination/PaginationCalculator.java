@@ -26,6 +26,9 @@
 
 import com.flowpowered.math.GenericMath;
 import com.google.common.annotations.VisibleForTesting;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.cache.CacheLoader;
+import com.google.common.cache.LoadingCache;
 import net.minecraft.util.text.ITextComponent;
 import net.minecraft.util.text.TextComponentString;
 import net.minecraft.util.text.TextComponentTranslation;
@@ -53,6 +56,26 @@ public class PaginationCalculator {
     private static final byte[] UNICODE_CHAR_WIDTHS;
     private static final int LINE_WIDTH = 320;
 
+    /**
+     * The width of every code point which has a glyph, indexed by code point.
+     */
+    private static final byte[] CODE_POINT_WIDTHS;
+
+    /**
+     * Widths of texts which were already measured. Texts are immutable, and
+     * the same instances are commonly paginated over and over again, so the
+     * keys are compared by identity and only weakly referenced.
+     */
+    private static final LoadingCache<Text, Integer> TEXT_WIDTH_CACHE = CacheBuilder.newBuilder()
+        .weakKeys()
+        .maximumSize(4096)
+        .build(new CacheLoader<Text, Integer>() {
+            @Override
+            public Integer load(Text key) throws Exception {
+                return computeWidth(key);
+            }
+        });
+
     private final int linesPerPage;
 
     public PaginationCalculator(int linesPerPage) {
@@ -80,6 +103,12 @@ public PaginationCalculator(int linesPerPage) {
                 unicodeCharWidths[i] = (byte) glyphWidths.get(i).getInt();
             }
             UNICODE_CHAR_WIDTHS = unicodeCharWidths;
+
+            byte[] codePointWidths = new byte[unicodeCharWidths.length];
+            for (int codePoint = 0; codePoint < codePointWidths.length; ++codePoint) {
+                codePointWidths[codePoint] = (byte) computeWidth(codePoint);
+            }
+            CODE_POINT_WIDTHS = codePointWidths;
         } catch (IOException e) {
             throw new ExceptionInInitializerError(e);
         }
@@ -96,11 +125,23 @@ public int getLinesPerPage(MessageReceiver source) {
      */
     public int getLines(Text text) {
         //TODO: this needs fixing as well.
-        return (int) Math.ceil((double) this.getWidth(text) / LINE_WIDTH);
+        return (int) Math.ceil((double) TEXT_WIDTH_CACHE.getUnchecked(text) / LINE_WIDTH);
     }
 
     @VisibleForTesting
     int getWidth(int codePoint, boolean isBold) {
+        int width = getCodePointWidth(codePoint);
+        //if bolded width gets 1 added.
+        if(isBold && width > 0) width = width + 1;
+
+        return width;
+    }
+
+    private static int getCodePointWidth(int codePoint) {
+        return codePoint >= 0 && codePoint < CODE_POINT_WIDTHS.length ? CODE_POINT_WIDTHS[codePoint] : 0;
+    }
+
+    private static int computeWidth(int codePoint) {
         int nonUnicodeIdx = NON_UNICODE_CHARS.indexOf(codePoint);
         int width;
         if (codePoint == 32) {
@@ -129,9 +170,6 @@ else if (codePoint > 0 && nonUnicodeIdx != -1) {
         } else {
             width = 0;
         }
-        //if bolded width gets 1 added.
-        if(isBold && width > 0) width = width + 1;
-
         return width;
     }
 
@@ -142,6 +180,10 @@ else if (codePoint > 0 && nonUnicodeIdx != -1) {
      */
     @VisibleForTesting
     int getWidth(Text text) {
+        return computeWidth(text);
+    }
+
+    private static int computeWidth(Text text) {
         ITextComponent component = SpongeTexts.toComponent(text);
         Iterable<ITextComponent> children = ((IMixinChatComponent) component).withChildren();
         int total = 0;
@@ -158,10 +200,11 @@ int getWidth(Text text) {
                     .getStyle()
                     .getBold();
 
-            Integer cp;
             while(i_it.hasNext()){
-                cp = i_it.next();
-                int width = getWidth(cp, bold);
+                int width = getCodePointWidth(i_it.nextInt());
+                if (bold && width > 0) {
+                    width++;
+                }
                 total += width;
             }
         }
@@ -178,7 +221,7 @@ int getWidth(Text text) {
     //TODO: Probably should completely rewrite this to not compute padding, but loop until the padding is done, unless
     //we can get accurate computation of padding ahead of time.
     public Text center(Text text, Text padding) {
-        int inputLength = this.getWidth(text);
+        int inputLength = TEXT_WIDTH_CACHE.getUnchecked(text);
         //Minecraft breaks lines when the next character would be > then LINE_WIDTH, this seems most graceful way to fail
         if (inputLength >= LINE_WIDTH) {
             return text;
@@ -28,6 +28,7 @@
 import static org.spongepowered.api.command.CommandMessageFormatting.error;
 
 import com.google.common.collect.ImmutableList;
+import com.google.common.collect.Iterables;
 import com.google.common.collect.Maps;
 import org.spongepowered.api.command.CommandException;
 import org.spongepowered.api.command.source.ProxySource;
@@ -38,8 +39,6 @@
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
-import java.util.stream.Collectors;
-import java.util.stream.StreamSupport;
 
 public class SpongePaginationList implements PaginationList {
 
@@ -104,10 +103,11 @@ public void sendTo(final MessageReceiver receiver) {
         }
         @SuppressWarnings("unchecked")
         PaginationCalculator calculator = new PaginationCalculator(this.linesPerPage);
-        Iterable<Map.Entry<Text, Integer>> counts = StreamSupport.stream(this.contents.spliterator(), false).map(input -> {
+        // Line counts for iterable contents are computed as the pages are requested
+        Iterable<Map.Entry<Text, Integer>> counts = Iterables.transform(this.contents, input -> {
             int lines = calculator.getLines(input);
             return Maps.immutableEntry(input, lines);
-        }).collect(Collectors.toList());
+        });
 
         Text title = this.title.orElse(null);
         if (title != null) {
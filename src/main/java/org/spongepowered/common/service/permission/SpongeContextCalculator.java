@@ -30,6 +30,8 @@
 import com.google.common.cache.CacheLoader;
 import com.google.common.cache.LoadingCache;
 import com.google.common.collect.ImmutableSet;
+import com.google.common.collect.Interner;
+import com.google.common.collect.Interners;
 import com.google.common.collect.Maps;
 import org.spongepowered.api.command.CommandSource;
 import org.spongepowered.api.world.Locatable;
@@ -41,6 +43,7 @@
 import org.spongepowered.common.SpongeImpl;
 
 import java.net.InetAddress;
+import java.net.InetSocketAddress;
 import java.util.Optional;
 import java.util.Set;
 import java.util.function.Function;
@@ -55,6 +58,26 @@ public class SpongeContextCalculator implements ContextCalculator<Subject> {
     private final LoadingCache<RemoteSource, Set<Context>> localIpCache = buildAddressCache(Context.LOCAL_IP_KEY,
                                                                                             input -> input.getConnection().getVirtualHost().getAddress());
 
+    // Most connections share the same virtual host, so there is no need for each to hold its own contexts
+    private final Interner<Context> contextInterner = Interners.newWeakInterner();
+
+    private final LoadingCache<RemoteSource, Set<Context>> connectionCache = CacheBuilder.newBuilder()
+            .weakKeys()
+            .build(new CacheLoader<RemoteSource, Set<Context>>() {
+                @Override
+                public Set<Context> load(RemoteSource key) throws Exception {
+                    final InetSocketAddress virtualHost = key.getConnection().getVirtualHost();
+                    return ImmutableSet.<Context>builder()
+                            .addAll(SpongeContextCalculator.this.remoteIpCache.getUnchecked(key))
+                            .addAll(SpongeContextCalculator.this.localIpCache.getUnchecked(key))
+                            .add(SpongeContextCalculator.this.contextInterner.intern(
+                                    new Context(Context.LOCAL_PORT_KEY, String.valueOf(virtualHost.getPort()))))
+                            .add(SpongeContextCalculator.this.contextInterner.intern(
+                                    new Context(Context.LOCAL_HOST_KEY, virtualHost.getHostName())))
+                            .build();
+                }
+            });
+
     private LoadingCache<RemoteSource, Set<Context>> buildAddressCache(final String contextKey, final Function<RemoteSource, InetAddress> function) {
         return CacheBuilder.newBuilder()
             .weakKeys()
@@ -85,11 +108,7 @@ public void accumulateContexts(Subject subject, Set<Context> accumulator) {
                 accumulator.add((currentExt.getDimension().getContext()));
             }
             if (source instanceof RemoteSource) {
-                RemoteSource rem = (RemoteSource) source;
-                accumulator.addAll(this.remoteIpCache.getUnchecked(rem));
-                accumulator.addAll(this.localIpCache.getUnchecked(rem));
-                accumulator.add(new Context(Context.LOCAL_PORT_KEY, String.valueOf(rem.getConnection().getVirtualHost().getPort())));
-                accumulator.add(new Context(Context.LOCAL_HOST_KEY, rem.getConnection().getVirtualHost().getHostName()));
+                accumulator.addAll(this.connectionCache.getUnchecked((RemoteSource) source));
             }
         }
 
@@ -122,7 +122,13 @@ public MemorySubjectData getSubjectData() {
 
     @Override
     public Tristate getPermissionValue(Set<Context> contexts, String permission) {
-        Tristate ret = super.getPermissionValue(contexts, permission);
+        // The ops list is not subject data, so the op level is part of what a resolved value depends on
+        return getResolvedPermissionValue(permission, getOpLevel());
+    }
+
+    @Override
+    protected Tristate resolvePermissionValue(String permission) {
+        Tristate ret = super.resolvePermissionValue(permission);
         if (ret == Tristate.UNDEFINED) {
             ret = getDataPermissionValue(this.collection.getDefaults().getSubjectData(), permission);
         }
@@ -33,9 +33,29 @@
 import java.util.List;
 import java.util.Optional;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicInteger;
 
 public abstract class SpongeSubject implements Subject {
 
+    /**
+     * Bumped whenever the data of any subject changes. Since a change to a
+     * parent affects every subject below it, a single counter is enough to
+     * invalidate every resolved permission at once.
+     */
+    private static final AtomicInteger DATA_VERSION = new AtomicInteger();
+
+    private final ConcurrentMap<String, ResolvedPermission> resolvedPermissions = new ConcurrentHashMap<>();
+
+    /**
+     * Discards the resolved permissions of all subjects, to be called after
+     * any change to subject data.
+     */
+    public static void invalidateResolvedPermissions() {
+        DATA_VERSION.incrementAndGet();
+    }
+
     @Override
     public MemorySubjectData getTransientSubjectData() {
         return getSubjectData();
@@ -51,6 +71,30 @@ public boolean hasPermission(Set<Context> contexts, String permission) {
 
     @Override
     public Tristate getPermissionValue(Set<Context> contexts, String permission) {
+        // Contexts are not taken into account while resolving, so they are not part of the key either
+        return getResolvedPermissionValue(permission, 0);
+    }
+
+    /**
+     * Gets the value of the permission, resolving it again only if subject
+     * data changed or the given stamp differs from the one it was resolved
+     * with.
+     *
+     * @param permission The permission to get
+     * @param stamp Any extra state the resolution depends on
+     * @return The resolved value
+     */
+    protected final Tristate getResolvedPermissionValue(String permission, int stamp) {
+        final int version = DATA_VERSION.get();
+        ResolvedPermission resolved = this.resolvedPermissions.get(permission);
+        if (resolved == null || resolved.version != version || resolved.stamp != stamp) {
+            resolved = new ResolvedPermission(version, stamp, resolvePermissionValue(permission));
+            this.resolvedPermissions.put(permission, resolved);
+        }
+        return resolved.value;
+    }
+
+    protected Tristate resolvePermissionValue(String permission) {
         return getDataPermissionValue(getSubjectData(), permission);
     }
 
@@ -103,4 +147,17 @@ public Optional<String> getOption(Set<Context> contexts, String key) {
     public Set<Context> getActiveContexts() {
         return SubjectData.GLOBAL_CONTEXT;
     }
+
+    private static final class ResolvedPermission {
+
+        final int version;
+        final int stamp;
+        final Tristate value;
+
+        ResolvedPermission(int version, int stamp, Tristate value) {
+            this.version = version;
+            this.stamp = stamp;
+            this.value = value;
+        }
+    }
 }
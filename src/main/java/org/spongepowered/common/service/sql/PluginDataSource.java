@@ -0,0 +1,204 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.common.service.sql;
+
+import co.aikar.timings.Timing;
+
+import java.io.PrintWriter;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.DatabaseMetaData;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.SQLFeatureNotSupportedException;
+import java.sql.SQLTransientConnectionException;
+import java.sql.Statement;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.logging.Logger;
+
+import javax.annotation.Nullable;
+import javax.sql.DataSource;
+
+/**
+ * The data source handed to a plugin. Connections are borrowed from the
+ * shared pool for the plugin's database, limited to the plugin's share of
+ * it.
+ */
+final class PluginDataSource implements DataSource {
+
+    private final SqlServiceImpl service;
+    private final SqlPool.Key key;
+    @Nullable private final Semaphore quota;
+    @Nullable private final Timing waitTiming;
+
+    PluginDataSource(SqlServiceImpl service, SqlPool.Key key, int connectionLimit, @Nullable Timing waitTiming) {
+        this.service = service;
+        this.key = key;
+        this.waitTiming = waitTiming;
+        this.quota = connectionLimit > 0 && connectionLimit < key.maximumPoolSize ? new Semaphore(connectionLimit, true) : null;
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        if (this.waitTiming != null) {
+            this.waitTiming.startTimingIfSync();
+        }
+        final long start = System.nanoTime();
+        SqlPool pool = null;
+        boolean acquired = false;
+        try {
+            if (this.quota != null) {
+                try {
+                    acquired = this.quota.tryAcquire(this.key.connectionTimeout, TimeUnit.MILLISECONDS);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    throw new SQLException("Interrupted while waiting for a connection", e);
+                }
+                if (!acquired) {
+                    throw new SQLTransientConnectionException("Timed out waiting for a connection to " + this.key.jdbcUrl
+                            + ", all connections allowed to this plugin are in use");
+                }
+            }
+            // The pool may have been closed for being idle since it was looked up
+            do {
+                pool = this.service.getPool(this.key);
+            } while (!pool.retain());
+            final Connection connection = pool.getDataSource().getConnection();
+            pool.recordWait(System.nanoTime() - start);
+            final Connection wrapped = this.wrap(connection, pool);
+            pool = null;
+            acquired = false;
+            return wrapped;
+        } finally {
+            if (pool != null) {
+                pool.release();
+            }
+            if (acquired) {
+                this.quota.release();
+            }
+            if (this.waitTiming != null) {
+                this.waitTiming.stopTimingIfSync();
+            }
+        }
+    }
+
+    private Connection wrap(Connection connection, SqlPool pool) {
+        final AtomicBoolean closed = new AtomicBoolean();
+        return (Connection) Proxy.newProxyInstance(PluginDataSource.class.getClassLoader(), new Class<?>[] {Connection.class}, (proxy, method, args) -> {
+            if (method.getName().equals("close") && method.getParameterCount() == 0) {
+                if (closed.compareAndSet(false, true)) {
+                    try {
+                        connection.close();
+                    } finally {
+                        pool.release();
+                        if (this.quota != null) {
+                            this.quota.release();
+                        }
+                    }
+                }
+                return null;
+            }
+            if (method.getName().equals("isClosed") && method.getParameterCount() == 0 && closed.get()) {
+                return true;
+            }
+            try {
+                return wrapChild(method.invoke(connection, args), method.getReturnType(), (Connection) proxy);
+            } catch (InvocationTargetException e) {
+                throw e.getCause();
+            }
+        });
+    }
+
+    /**
+     * Wraps the statements, result sets and metadata obtained from a
+     * connection, so that getting their connection returns the wrapped
+     * connection. Closing the pooled connection itself would skip releasing
+     * it from the plugin's share of the pool.
+     */
+    @Nullable
+    private static Object wrapChild(@Nullable Object child, Class<?> type, Connection connection) {
+        if (child == null || !(Statement.class.isAssignableFrom(type) || type == ResultSet.class || type == DatabaseMetaData.class)) {
+            return child;
+        }
+        return Proxy.newProxyInstance(PluginDataSource.class.getClassLoader(), new Class<?>[] {type}, (proxy, method, args) -> {
+            if (method.getName().equals("getConnection") && method.getParameterCount() == 0) {
+                return connection;
+            }
+            try {
+                return wrapChild(method.invoke(child, args), method.getReturnType(), connection);
+            } catch (InvocationTargetException e) {
+                throw e.getCause();
+            }
+        });
+    }
+
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+        throw new SQLFeatureNotSupportedException("Credentials are part of the JDBC url");
+    }
+
+    @Override
+    public PrintWriter getLogWriter() throws SQLException {
+        return this.service.getPool(this.key).getDataSource().getLogWriter();
+    }
+
+    @Override
+    public void setLogWriter(PrintWriter out) throws SQLException {
+        this.service.getPool(this.key).getDataSource().setLogWriter(out);
+    }
+
+    @Override
+    public void setLoginTimeout(int seconds) throws SQLException {
+        this.service.getPool(this.key).getDataSource().setLoginTimeout(seconds);
+    }
+
+    @Override
+    public int getLoginTimeout() throws SQLException {
+        return this.service.getPool(this.key).getDataSource().getLoginTimeout();
+    }
+
+    @Override
+    public Logger getParentLogger() throws SQLFeatureNotSupportedException {
+        return this.service.getPool(this.key).getDataSource().getParentLogger();
+    }
+
+    @SuppressWarnings("unchecked")
+    @Override
+    public <T> T unwrap(Class<T> iface) throws SQLException {
+        if (iface.isInstance(this)) {
+            return (T) this;
+        }
+        return this.service.getPool(this.key).getDataSource().unwrap(iface);
+    }
+
+    @Override
+    public boolean isWrapperFor(Class<?> iface) throws SQLException {
+        return iface.isInstance(this) || this.service.getPool(this.key).getDataSource().isWrapperFor(iface);
+    }
+
+}
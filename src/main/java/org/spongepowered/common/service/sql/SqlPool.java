@@ -0,0 +1,270 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.common.service.sql;
+
+import com.google.common.base.Objects;
+import com.zaxxer.hikari.HikariConfig;
+import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.HikariPoolMXBean;
+import org.spongepowered.common.SpongeImpl;
+import org.spongepowered.common.config.category.SqlPoolCategory;
+
+import java.lang.management.ManagementFactory;
+import java.util.Properties;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+import javax.annotation.Nullable;
+import javax.management.JMException;
+import javax.management.ObjectName;
+
+/**
+ * A connection pool shared by every plugin connecting to the same database
+ * with the same pool settings.
+ */
+final class SqlPool implements SqlPoolMXBean {
+
+    private final Key key;
+    private final HikariDataSource dataSource;
+    @Nullable private ObjectName objectName;
+
+    private final LongAdder connectionRequests = new LongAdder();
+    private final LongAdder waitNanos = new LongAdder();
+    private final LongAccumulator maxWaitNanos = new LongAccumulator(Math::max, 0);
+
+    private int borrowed;
+    private long lastUsed = System.nanoTime();
+    private boolean closed;
+
+    SqlPool(Key key) {
+        this.key = key;
+        final HikariConfig config = new HikariConfig();
+        config.setUsername(key.user);
+        config.setPassword(key.password);
+        config.setDriverClassName(key.driverClassName);
+        config.setMaximumPoolSize(key.maximumPoolSize);
+        config.setConnectionTimeout(key.connectionTimeout);
+        final Properties properties = new Properties();
+        final Properties driverSpecificProperties = SqlServiceImpl.PROTOCOL_SPECIFIC_PROPS.get(key.driverClassName);
+        if (driverSpecificProperties != null) {
+            properties.putAll(driverSpecificProperties);
+        }
+        if (key.statementCacheSize > 0 && SqlServiceImpl.STATEMENT_CACHING_DRIVERS.contains(key.driverClassName)) {
+            properties.setProperty("cachePrepStmts", "true");
+            properties.setProperty("prepStmtCacheSize", String.valueOf(key.statementCacheSize));
+            properties.setProperty("prepStmtCacheSqlLimit", String.valueOf(key.statementCacheSqlLimit));
+        }
+        config.setDataSourceProperties(properties);
+        config.setJdbcUrl(key.jdbcUrl);
+        this.dataSource = new HikariDataSource(config);
+        this.registerMBean();
+    }
+
+    Key getKey() {
+        return this.key;
+    }
+
+    HikariDataSource getDataSource() {
+        return this.dataSource;
+    }
+
+    /**
+     * Marks a connection as borrowed from this pool.
+     *
+     * @return False if the pool has been closed and must be opened again
+     */
+    synchronized boolean retain() {
+        if (this.closed) {
+            return false;
+        }
+        this.borrowed++;
+        this.lastUsed = System.nanoTime();
+        return true;
+    }
+
+    synchronized void release() {
+        this.borrowed--;
+        this.lastUsed = System.nanoTime();
+    }
+
+    void recordWait(long nanos) {
+        this.connectionRequests.increment();
+        this.waitNanos.add(nanos);
+        this.maxWaitNanos.accumulate(nanos);
+    }
+
+    /**
+     * Retires this pool if no connections are borrowed from it and it hasn't
+     * been used for the idle pool timeout. A retired pool can't be retained
+     * anymore and must be closed.
+     *
+     * @param now The current {@link System#nanoTime()}
+     * @return Whether the pool was retired
+     */
+    synchronized boolean retireIfIdle(long now) {
+        if (this.closed || this.key.idlePoolTimeout <= 0 || this.borrowed > 0
+                || now - this.lastUsed < TimeUnit.SECONDS.toNanos(this.key.idlePoolTimeout)) {
+            return false;
+        }
+        this.closed = true;
+        return true;
+    }
+
+    void close() {
+        synchronized (this) {
+            this.closed = true;
+        }
+        this.unregisterMBean();
+        this.dataSource.close();
+    }
+
+    private void registerMBean() {
+        try {
+            final ObjectName name = new ObjectName("org.spongepowered:type=SqlPool,name=" + ObjectName.quote(this.dataSource.getPoolName()));
+            ManagementFactory.getPlatformMBeanServer().registerMBean(this, name);
+            this.objectName = name;
+        } catch (JMException e) {
+            SpongeImpl.getLogger().warn("Could not register the SQL pool for {} with JMX", this.key.jdbcUrl, e);
+        }
+    }
+
+    private void unregisterMBean() {
+        if (this.objectName != null) {
+            try {
+                ManagementFactory.getPlatformMBeanServer().unregisterMBean(this.objectName);
+            } catch (JMException ignored) {
+                // Already gone
+            }
+            this.objectName = null;
+        }
+    }
+
+    @Override
+    public String getPoolName() {
+        return this.dataSource.getPoolName();
+    }
+
+    @Override
+    public String getJdbcUrl() {
+        return this.key.jdbcUrl;
+    }
+
+    @Override
+    public synchronized int getActiveConnections() {
+        return this.borrowed;
+    }
+
+    @Override
+    public int getIdleConnections() {
+        final HikariPoolMXBean pool = this.dataSource.getHikariPoolMXBean();
+        return pool == null ? 0 : pool.getIdleConnections();
+    }
+
+    @Override
+    public int getTotalConnections() {
+        final HikariPoolMXBean pool = this.dataSource.getHikariPoolMXBean();
+        return pool == null ? 0 : pool.getTotalConnections();
+    }
+
+    @Override
+    public int getThreadsAwaitingConnection() {
+        final HikariPoolMXBean pool = this.dataSource.getHikariPoolMXBean();
+        return pool == null ? 0 : pool.getThreadsAwaitingConnection();
+    }
+
+    @Override
+    public long getConnectionRequests() {
+        return this.connectionRequests.sum();
+    }
+
+    @Override
+    public double getAverageWaitMillis() {
+        final long requests = this.connectionRequests.sum();
+        return requests == 0 ? 0 : this.waitNanos.sum() / (double) requests / TimeUnit.MILLISECONDS.toNanos(1);
+    }
+
+    @Override
+    public double getMaxWaitMillis() {
+        return this.maxWaitNanos.get() / (double) TimeUnit.MILLISECONDS.toNanos(1);
+    }
+
+    /**
+     * Identifies a pool by the database it connects to and its settings.
+     */
+    static final class Key {
+
+        @Nullable final String user;
+        @Nullable final String password;
+        final String driverClassName;
+        final String jdbcUrl;
+        final int maximumPoolSize;
+        final long connectionTimeout;
+        final int idlePoolTimeout;
+        final int statementCacheSize;
+        final int statementCacheSqlLimit;
+
+        Key(SqlServiceImpl.ConnectionInfo info, SqlPoolCategory settings) {
+            this.user = info.getUser();
+            this.password = info.getPassword();
+            this.driverClassName = info.getDriverClassName();
+            this.jdbcUrl = info.getAuthlessUrl();
+            // https://github.com/brettwooldridge/HikariCP/wiki/About-Pool-Sizing for info on pool sizing
+            this.maximumPoolSize = settings.getMaximumPoolSize() > 0 ? settings.getMaximumPoolSize()
+                    : (Runtime.getRuntime().availableProcessors() * 2) + 1;
+            this.connectionTimeout = settings.getConnectionTimeout();
+            this.idlePoolTimeout = settings.getIdlePoolTimeout();
+            this.statementCacheSize = settings.getStatementCacheSize();
+            this.statementCacheSqlLimit = settings.getStatementCacheSqlLimit();
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (o == null || getClass() != o.getClass()) {
+                return false;
+            }
+            Key that = (Key) o;
+            return this.maximumPoolSize == that.maximumPoolSize
+                    && this.connectionTimeout == that.connectionTimeout
+                    && this.idlePoolTimeout == that.idlePoolTimeout
+                    && this.statementCacheSize == that.statementCacheSize
+                    && this.statementCacheSqlLimit == that.statementCacheSqlLimit
+                    && Objects.equal(this.user, that.user)
+                    && Objects.equal(this.password, that.password)
+                    && Objects.equal(this.driverClassName, that.driverClassName)
+                    && Objects.equal(this.jdbcUrl, that.jdbcUrl);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hashCode(this.user, this.password, this.driverClassName, this.jdbcUrl, this.maximumPoolSize, this.connectionTimeout,
+                    this.idlePoolTimeout, this.statementCacheSize, this.statementCacheSqlLimit);
+        }
+    }
+
+}
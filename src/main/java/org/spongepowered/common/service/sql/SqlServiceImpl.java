@@ -24,23 +24,20 @@
  */
 package org.spongepowered.common.service.sql;
 
+import co.aikar.timings.SpongeTimings;
+import co.aikar.timings.Timing;
 import com.google.common.base.Objects;
-import com.google.common.cache.CacheBuilder;
-import com.google.common.cache.CacheLoader;
-import com.google.common.cache.LoadingCache;
-import com.google.common.cache.RemovalListener;
-import com.google.common.cache.RemovalNotification;
 import com.google.common.collect.ImmutableMap;
-import com.zaxxer.hikari.HikariConfig;
-import com.zaxxer.hikari.HikariDataSource;
-import org.h2.engine.ConnectionInfo;
+import com.google.common.collect.ImmutableSet;
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
 import org.spongepowered.api.Sponge;
 import org.spongepowered.api.plugin.PluginContainer;
 import org.spongepowered.api.service.sql.SqlService;
 import org.spongepowered.api.util.annotation.NonnullByDefault;
 import org.spongepowered.common.SpongeImpl;
 import org.spongepowered.common.config.SpongeConfigManager;
-import org.spongepowered.common.config.SpongeConfigRoot;
+import org.spongepowered.common.config.category.SqlCategory;
+import org.spongepowered.common.config.category.SqlPoolCategory;
 
 import java.io.Closeable;
 import java.io.IOException;
@@ -48,15 +45,21 @@
 import java.nio.file.Paths;
 import java.sql.DriverManager;
 import java.sql.SQLException;
+import java.util.Collection;
+import java.util.Collections;
 import java.util.Map;
 import java.util.Optional;
 import java.util.Properties;
-import java.util.concurrent.ExecutionException;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
 import java.util.function.BiFunction;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 
-import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
 import javax.sql.DataSource;
 
@@ -69,15 +72,19 @@
  *     - It allows applying additional driver-specific connection
  *     properties -- this allows us to do some light performance tuning in
  *     cases where we don't want to be as conservative as the driver developers
- *     - Caches DataSources. This cache is currently never cleared of stale entries
- *     -- if some plugin makes database connections to a ton of different databases
- *     we may want to implement this, but it is kinda unimportant.
+ *     - Shares connection pools between plugins connecting to the same
+ *     database, while limiting how many connections each plugin may borrow
+ *     - Closes pools that have been idle for a while, and reopens them once
+ *     they are used again
+ *     - Exposes the usage of every pool through JMX and timings
  */
 @NonnullByDefault
 public class SqlServiceImpl implements SqlService, Closeable {
 
     static final Map<String, Properties> PROTOCOL_SPECIFIC_PROPS;
     static final Map<String, BiFunction<PluginContainer, String, String>> PATH_CANONICALIZERS;
+    static final Set<String> STATEMENT_CACHING_DRIVERS = ImmutableSet.of("com.mysql.jdbc.Driver", "org.mariadb.jdbc.Driver");
+    private static final long EVICTION_INTERVAL = 30;
 
     static {
         ImmutableMap.Builder<String, Properties> build = ImmutableMap.builder();
@@ -107,32 +114,9 @@ public class SqlServiceImpl implements SqlService, Closeable {
         });
     }
 
-    private final LoadingCache<ConnectionInfo, HikariDataSource> connectionCache =
-            CacheBuilder.newBuilder().removalListener(new RemovalListener<ConnectionInfo, HikariDataSource>() {
-                @Override
-                public void onRemoval(RemovalNotification<ConnectionInfo, HikariDataSource> notification) {
-                    HikariDataSource source = notification.getValue();
-                    if (source != null) {
-                        source.close();
-                    }
-                }
-            }).build(new CacheLoader<ConnectionInfo, HikariDataSource>() {
-                @Override
-                public HikariDataSource load(@Nonnull ConnectionInfo key) throws Exception {
-                    HikariConfig config = new HikariConfig();
-                    config.setUsername(key.getUser());
-                    config.setPassword(key.getPassword());
-                    config.setDriverClassName(key.getDriverClassName());
-                    // https://github.com/brettwooldridge/HikariCP/wiki/About-Pool-Sizing for info on pool sizing
-                    config.setMaximumPoolSize((Runtime.getRuntime().availableProcessors() * 2) + 1);
-                    Properties driverSpecificProperties = PROTOCOL_SPECIFIC_PROPS.get(key.getDriverClassName());
-                    if (driverSpecificProperties != null) {
-                        config.setDataSourceProperties(driverSpecificProperties);
-                    }
-                    config.setJdbcUrl(key.getAuthlessUrl());
-                    return new HikariDataSource(config);
-                }
-            });
+    private final ConcurrentMap<SqlPool.Key, SqlPool> pools = new ConcurrentHashMap<>();
+    private final ConcurrentMap<DataSourceKey, PluginDataSource> dataSources = new ConcurrentHashMap<>();
+    @Nullable private ScheduledExecutorService evictionExecutor;
 
     @Override
     public DataSource getDataSource(String jdbcConnection) throws SQLException {
@@ -152,16 +136,130 @@ public DataSource getDataSource(@Nullable Object plugin, String jdbcConnection)
             });
         }
         ConnectionInfo info = ConnectionInfo.fromUrl(container, jdbcConnection);
-        try {
-            return this.connectionCache.get(info);
-        } catch (ExecutionException e) {
-            throw new SQLException(e);
+        final SqlCategory sql = SpongeImpl.getGlobalConfig().getConfig().getSql();
+        SqlPoolCategory settings = container == null ? null : sql.getPluginPools().get(container.getId());
+        if (settings == null) {
+            settings = sql.getPool();
+        }
+        return getDataSource(container == null ? null : container.getId(), info, settings, SpongeTimings.sqlConnectionWaitTimer);
+    }
+
+    /**
+     * Gets the data source a plugin uses to connect to a database, sharing
+     * the connection pool with every other plugin connecting to the same
+     * database with the same pool settings.
+     *
+     * @param pluginId The id of the plugin, or null if not known
+     * @param info The connection info
+     * @param settings The pool settings for the plugin
+     * @param waitTiming The timing to track waiting for connections with
+     * @return The data source
+     */
+    DataSource getDataSource(@Nullable String pluginId, ConnectionInfo info, SqlPoolCategory settings, @Nullable Timing waitTiming) {
+        final SqlPool.Key key = new SqlPool.Key(info, settings);
+        final int connectionLimit = settings.getPluginConnectionLimit();
+        return this.dataSources.computeIfAbsent(new DataSourceKey(pluginId, key, connectionLimit),
+                dataSourceKey -> new PluginDataSource(this, key, connectionLimit, waitTiming));
+    }
+
+    SqlPool getPool(SqlPool.Key key) {
+        return this.pools.computeIfAbsent(key, poolKey -> {
+            this.scheduleEviction();
+            return new SqlPool(poolKey);
+        });
+    }
+
+    /**
+     * Gets the usage of all open connection pools.
+     *
+     * @return The usage of all open pools
+     */
+    public Collection<SqlPoolMXBean> getPools() {
+        return Collections.unmodifiableCollection(this.pools.values());
+    }
+
+    /**
+     * Closes all pools which haven't been used for their idle pool timeout.
+     */
+    void evictIdlePools() {
+        this.evictIdlePools(System.nanoTime());
+    }
+
+    /**
+     * Closes all pools which were idle for their idle pool timeout at the
+     * given time.
+     *
+     * @param now The current {@link System#nanoTime()}
+     */
+    void evictIdlePools(long now) {
+        for (SqlPool pool : this.pools.values()) {
+            // Retiring and removing the pool happens at once, so it can't be looked up anymore once it can't be retained
+            final boolean[] retired = new boolean[1];
+            this.pools.computeIfPresent(pool.getKey(), (key, current) -> {
+                if (current == pool && pool.retireIfIdle(now)) {
+                    retired[0] = true;
+                    return null;
+                }
+                return current;
+            });
+            if (retired[0]) {
+                pool.close();
+            }
+        }
+    }
+
+    private synchronized void scheduleEviction() {
+        if (this.evictionExecutor == null) {
+            this.evictionExecutor = Executors.newSingleThreadScheduledExecutor(
+                    new ThreadFactoryBuilder().setNameFormat("Sponge - SQL Pool Eviction").setDaemon(true).build());
+            this.evictionExecutor.scheduleWithFixedDelay(this::evictIdlePools, EVICTION_INTERVAL, EVICTION_INTERVAL, TimeUnit.SECONDS);
         }
     }
 
     @Override
     public void close() throws IOException {
-        this.connectionCache.invalidateAll();
+        synchronized (this) {
+            if (this.evictionExecutor != null) {
+                this.evictionExecutor.shutdownNow();
+                this.evictionExecutor = null;
+            }
+        }
+        for (SqlPool pool : this.pools.values()) {
+            this.pools.remove(pool.getKey(), pool);
+            pool.close();
+        }
+    }
+
+    private static final class DataSourceKey {
+
+        @Nullable private final String pluginId;
+        private final SqlPool.Key poolKey;
+        private final int connectionLimit;
+
+        DataSourceKey(@Nullable String pluginId, SqlPool.Key poolKey, int connectionLimit) {
+            this.pluginId = pluginId;
+            this.poolKey = poolKey;
+            this.connectionLimit = connectionLimit;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (o == null || getClass() != o.getClass()) {
+                return false;
+            }
+            DataSourceKey that = (DataSourceKey) o;
+            return this.connectionLimit == that.connectionLimit
+                    && Objects.equal(this.pluginId, that.pluginId)
+                    && this.poolKey.equals(that.poolKey);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hashCode(this.pluginId, this.poolKey, this.connectionLimit);
+        }
     }
 
     public static class ConnectionInfo {
@@ -28,7 +28,6 @@
 import static com.google.common.base.Preconditions.checkNotNull;
 import static com.google.common.base.Preconditions.checkState;
 
-import com.google.common.collect.Sets;
 import org.spongepowered.api.Sponge;
 import org.spongepowered.api.profile.GameProfile;
 import org.spongepowered.api.entity.living.player.User;
@@ -38,6 +37,7 @@
 import java.util.Locale;
 import java.util.Optional;
 import java.util.UUID;
+import java.util.stream.Collectors;
 
 public class SpongeUserStorageService implements UserStorageService {
 
@@ -97,14 +97,10 @@ public boolean delete(User user) {
     @Override
     public Collection<GameProfile> match(String lastKnownName) {
         lastKnownName = checkNotNull(lastKnownName, "lastKnownName").toLowerCase(Locale.ROOT);
-        Collection<GameProfile> allProfiles = UserDiscoverer.getAllProfiles();
-        Collection<GameProfile> matching = Sets.newHashSet();
-        for (GameProfile profile : allProfiles) {
-            if (profile.getName().isPresent() && profile.getName().get().startsWith(lastKnownName)) {
-                matching.add(profile);
-            }
-        }
-        return matching;
+        final String prefix = lastKnownName;
+        return UserDiscoverer.streamAllProfiles()
+                .filter(profile -> profile.getName().isPresent() && profile.getName().get().startsWith(prefix))
+                .collect(Collectors.toSet());
     }
 
 }
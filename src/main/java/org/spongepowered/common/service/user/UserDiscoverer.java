@@ -29,7 +29,6 @@
 import com.google.common.cache.CacheBuilder;
 import com.google.common.collect.Sets;
 import com.mojang.authlib.GameProfile;
-import net.minecraft.nbt.CompressedStreamTools;
 import net.minecraft.server.management.PlayerList;
 import net.minecraft.server.management.PlayerProfileCache;
 import net.minecraft.server.management.UserListBans;
@@ -46,18 +45,16 @@
 import org.spongepowered.common.world.WorldManager;
 
 import java.io.File;
-import java.io.FileInputStream;
-import java.io.IOException;
 import java.util.Collection;
 import java.util.HashSet;
 import java.util.Locale;
 import java.util.Optional;
-import java.util.Set;
 import java.util.UUID;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ExecutionException;
 import java.util.concurrent.TimeUnit;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 class UserDiscoverer {
 
@@ -114,40 +111,32 @@ static User findByUsername(String username) {
     }
 
     static Collection<org.spongepowered.api.profile.GameProfile> getAllProfiles() {
+        return streamAllProfiles().collect(Collectors.toSet());
+    }
+
+    /**
+     * Streams the profiles of all known users, possibly including the same
+     * user more than once.
+     *
+     * @return The profiles
+     */
+    static Stream<org.spongepowered.api.profile.GameProfile> streamAllProfiles() {
         Preconditions.checkState(Sponge.isServerAvailable(), "Server is not available!");
-        Set<org.spongepowered.api.profile.GameProfile> profiles = Sets.newHashSet();
 
         // Add all cached profiles
-        profiles.addAll(userCache.asMap().values().stream().map(User::getProfile).collect(Collectors.toList()));
+        Stream<GameProfile> profiles = userCache.asMap().values().stream().map(user -> (GameProfile) user.getProfile());
 
         // Add all known profiles from the data files
-        SaveHandler saveHandler = (SaveHandler) WorldManager.getWorldByDimensionId(0).get().getSaveHandler();
-        String[] uuids = saveHandler.getAvailablePlayerDat();
-        for (String playerUuid : uuids) {
-
-            // Some mods store other files in the 'playerdata' folder, so
-            // we need to ensure that the filename is a valid UUID
-            if (playerUuid.split("-").length != 5) {
-                continue;
-            }
-
-            GameProfile profile = SpongeImpl.getServer().getPlayerProfileCache().getProfileByUUID(UUID.fromString(playerUuid));
-            if (profile != null) {
-                profiles.add((org.spongepowered.api.profile.GameProfile) profile);
-            }
-        }
+        profiles = Stream.concat(profiles, UserIndex.stream());
 
         // Add all whitelisted users
         UserListWhitelist whiteList = SpongeImpl.getServer().getPlayerList().getWhitelistedPlayers();
-        for (UserListWhitelistEntry entry : whiteList.getValues().values()) {
-            profiles.add((org.spongepowered.api.profile.GameProfile) entry.value);
-        }
+        profiles = Stream.concat(profiles, whiteList.getValues().values().stream().map(entry -> entry.value));
 
         // Add all banned users
         UserListBans banList = SpongeImpl.getServer().getPlayerList().getBannedPlayers();
-        profiles.addAll(banList.getValues().values().stream().filter(entry -> entry != null).map(entry -> (org.spongepowered.api.profile.GameProfile)
-                entry.value).collect(Collectors.toList()));
-        return profiles;
+        profiles = Stream.concat(profiles, banList.getValues().values().stream().filter(entry -> entry != null).map(entry -> entry.value));
+        return profiles.map(profile -> (org.spongepowered.api.profile.GameProfile) profile);
     }
 
     static boolean delete(UUID uniqueId) {
@@ -184,15 +173,17 @@ private static User getFromStoredData(UUID uniqueId) {
         if (dataFile == null) {
             return null;
         }
-        Optional<org.spongepowered.api.profile.GameProfile> profile = getProfileFromServer(uniqueId);
+        // The index knows the name of everyone who has played here, only ask
+        // the profile manager for users it has no name for
+        Optional<String> name = UserIndex.getName(uniqueId);
+        Optional<org.spongepowered.api.profile.GameProfile> profile = name.isPresent()
+                ? Optional.of((org.spongepowered.api.profile.GameProfile) new GameProfile(uniqueId, name.get()))
+                : getProfileFromServer(uniqueId);
 
         if (profile.isPresent()) {
             User user = create((GameProfile) profile.get());
-            try {
-                ((SpongeUser) user).readFromNbt(CompressedStreamTools.readCompressed(new FileInputStream(dataFile)));
-            } catch (IOException e) {
-                SpongeImpl.getLogger().warn("Corrupt user file {}", dataFile, e);
-            }
+            // The data file is only read once the user's data is accessed
+            ((SpongeUser) user).setPendingDataFile(dataFile);
             return user;
         } else {
             return null;
@@ -252,19 +243,15 @@ private static File getPlayerDataFile(UUID uniqueId) {
 
         // Note: Uses the overworld's player data
         SaveHandler saveHandler = (SaveHandler) worldServer.get().getSaveHandler();
-        String[] uuids = saveHandler.getAvailablePlayerDat();
-        for (String playerUuid : uuids) {
-            if (uniqueId.toString().equals(playerUuid)) {
-                return new File(saveHandler.playersDirectory, playerUuid + ".dat");
-            }
-        }
-        return null;
+        File dataFile = new File(saveHandler.playersDirectory, uniqueId + ".dat");
+        return dataFile.isFile() ? dataFile : null;
     }
 
     private static boolean deleteStoredPlayerData(UUID uniqueId) {
         File dataFile = getPlayerDataFile(uniqueId);
         if (dataFile != null) {
             try {
+                UserIndex.remove(uniqueId);
                 return dataFile.delete();
             } catch (SecurityException e) {
                 SpongeImpl.getLogger().warn("Unable to delete file {} due to a security error", dataFile, e);
@@ -0,0 +1,263 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.common.service.user;
+
+import com.google.common.base.Charsets;
+import com.google.common.io.Files;
+import com.google.gson.Gson;
+import com.google.gson.JsonParseException;
+import com.google.gson.reflect.TypeToken;
+import com.mojang.authlib.GameProfile;
+import net.minecraft.world.storage.SaveHandler;
+import org.spongepowered.api.profile.GameProfileCache;
+import org.spongepowered.common.SpongeImpl;
+import org.spongepowered.common.util.BackgroundFileWriter;
+
+import java.io.BufferedReader;
+import java.io.File;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ForkJoinPool;
+import java.util.stream.Stream;
+
+import javax.annotation.Nullable;
+
+/**
+ * A persistent index of every user with a player data file, so that looking
+ * up or listing offline users doesn't need to walk the players directory.
+ *
+ * <p>The index is loaded in the background when the server loads its worlds,
+ * and built from the players directory when no index file exists yet. It is
+ * kept up to date as players log in, log out and have their data saved, and
+ * dropped when the server stops.</p>
+ */
+public final class UserIndex {
+
+    private static final String FILE_NAME = "sponge_users.json";
+    private static final Gson GSON = new Gson();
+
+    @Nullable private static volatile Index index;
+
+    private UserIndex() {
+    }
+
+    /**
+     * Starts loading the index of the server's player data in the
+     * background.
+     *
+     * @param saveHandler The save handler of the overworld
+     */
+    public static void load(SaveHandler saveHandler) {
+        final Index index = new Index(new File(new File(saveHandler.getWorldDirectory(), "data"), FILE_NAME));
+        // The profile cache is only safe to read on the main thread, the
+        // names for a scan are taken from a copy of it made here
+        final Map<UUID, String> names = getCachedNames();
+        index.loading = CompletableFuture.runAsync(() -> {
+            try {
+                if (!read(index.file, index.entries)) {
+                    scan(saveHandler, names, index.entries);
+                    index.dirty = true;
+                }
+            } catch (Exception e) {
+                SpongeImpl.getLogger().error("Could not load the user index {}", index.file, e);
+            }
+        }, ForkJoinPool.commonPool());
+        UserIndex.index = index;
+    }
+
+    /**
+     * Drops the index of the stopped server.
+     */
+    public static void unload() {
+        index = null;
+    }
+
+    /**
+     * Records that the given user was seen now and has a player data file.
+     *
+     * @param profile The user's profile
+     */
+    public static void markSeen(GameProfile profile) {
+        final Index index = UserIndex.index;
+        if (index != null) {
+            index.entries.put(profile.getId(), new Entry(profile.getId(), profile.getName(), System.currentTimeMillis()));
+            index.dirty = true;
+        }
+    }
+
+    /**
+     * Records that the given user has a player data file, keeping when they
+     * were last seen.
+     *
+     * @param profile The user's profile
+     */
+    public static void markStored(GameProfile profile) {
+        final Index index = UserIndex.index;
+        if (index != null) {
+            final Entry previous = index.entries.get(profile.getId());
+            final String name = profile.getName() != null ? profile.getName() : previous == null ? null : previous.name;
+            index.entries.put(profile.getId(), new Entry(profile.getId(), name, previous == null ? 0 : previous.lastSeen));
+            index.dirty = true;
+        }
+    }
+
+    public static void remove(UUID uniqueId) {
+        final Index index = UserIndex.index;
+        if (index != null && index.entries.remove(uniqueId) != null) {
+            index.dirty = true;
+        }
+    }
+
+    /**
+     * Gets the last known name of a user with a player data file. Until the
+     * index is loaded, only users seen since the server started are known.
+     *
+     * @param uniqueId The user's unique id
+     * @return The last known name, if the user is indexed and has one
+     */
+    public static Optional<String> getName(UUID uniqueId) {
+        final Index index = UserIndex.index;
+        final Entry entry = index == null ? null : index.entries.get(uniqueId);
+        return Optional.ofNullable(entry == null ? null : entry.name);
+    }
+
+    /**
+     * Streams the profiles of all indexed users with a known name, waiting
+     * for the index to be loaded first.
+     *
+     * @return The profiles, or an empty stream if the server has no index
+     */
+    public static Stream<GameProfile> stream() {
+        final Index index = UserIndex.index;
+        if (index == null) {
+            return Stream.empty();
+        }
+        index.loading.join();
+        return index.entries.values().stream()
+                .filter(entry -> entry.name != null)
+                .map(entry -> new GameProfile(entry.uniqueId, entry.name));
+    }
+
+    /**
+     * Writes the index in the background if it is loaded and has changed
+     * since it was last written.
+     */
+    public static void save() {
+        final Index index = UserIndex.index;
+        if (index == null || !index.dirty || !index.loading.isDone()) {
+            return;
+        }
+        index.dirty = false;
+        final List<Entry> snapshot = new ArrayList<>(index.entries.values());
+        BackgroundFileWriter.write(index.file, () -> GSON.toJson(snapshot));
+    }
+
+    // Users recorded while the index is loading are newer, they are kept over loaded entries
+    private static boolean read(File file, Map<UUID, Entry> entries) {
+        if (!file.isFile()) {
+            return false;
+        }
+        final List<Entry> list;
+        try (BufferedReader reader = Files.newReader(file, Charsets.UTF_8)) {
+            list = GSON.fromJson(reader, new TypeToken<List<Entry>>() {}.getType());
+        } catch (IOException | JsonParseException e) {
+            SpongeImpl.getLogger().warn("Could not read the user index {}, it will be rebuilt.", file, e);
+            return false;
+        }
+        if (list == null) {
+            return false;
+        }
+        for (Entry entry : list) {
+            if (entry != null && entry.uniqueId != null) {
+                entries.putIfAbsent(entry.uniqueId, entry);
+            }
+        }
+        return true;
+    }
+
+    private static Map<UUID, String> getCachedNames() {
+        final GameProfileCache profileCache = (GameProfileCache) SpongeImpl.getServer().getPlayerProfileCache();
+        final Map<UUID, String> names = new HashMap<>();
+        for (org.spongepowered.api.profile.GameProfile profile : profileCache.getProfiles()) {
+            if (profile.getName().isPresent()) {
+                names.put(profile.getUniqueId(), profile.getName().get());
+            }
+        }
+        return names;
+    }
+
+    private static void scan(SaveHandler saveHandler, Map<UUID, String> names, Map<UUID, Entry> entries) {
+        for (String playerUuid : saveHandler.getAvailablePlayerDat()) {
+            // Some mods store other files in the 'playerdata' folder, so
+            // we need to ensure that the filename is a valid UUID
+            if (playerUuid.split("-").length != 5) {
+                continue;
+            }
+            final UUID uniqueId;
+            try {
+                uniqueId = UUID.fromString(playerUuid);
+            } catch (IllegalArgumentException e) {
+                continue;
+            }
+            final long lastSeen = new File(saveHandler.playersDirectory, playerUuid + ".dat").lastModified();
+            entries.putIfAbsent(uniqueId, new Entry(uniqueId, names.get(uniqueId), lastSeen));
+        }
+    }
+
+    private static final class Index {
+
+        final File file;
+        final Map<UUID, Entry> entries = new ConcurrentHashMap<>();
+        volatile boolean dirty;
+        CompletableFuture<Void> loading;
+
+        Index(File file) {
+            this.file = file;
+        }
+
+    }
+
+    private static final class Entry {
+
+        final UUID uniqueId;
+        @Nullable final String name;
+        final long lastSeen;
+
+        Entry(UUID uniqueId, @Nullable String name, long lastSeen) {
+            this.uniqueId = uniqueId;
+            this.name = name;
+            this.lastSeen = lastSeen;
+        }
+
+    }
+
+}
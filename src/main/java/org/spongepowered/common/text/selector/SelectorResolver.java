@@ -31,6 +31,7 @@
 import com.google.common.collect.ImmutableSet;
 import com.google.common.collect.Lists;
 import com.google.common.collect.Sets;
+import net.minecraft.util.math.AxisAlignedBB;
 import org.spongepowered.api.Sponge;
 import org.spongepowered.api.data.manipulator.mutable.DisplayNameData;
 import org.spongepowered.api.data.manipulator.mutable.entity.ExperienceHolderData;
@@ -59,17 +60,22 @@
 import org.spongepowered.api.world.World;
 import org.spongepowered.api.world.extent.Extent;
 import org.spongepowered.common.SpongeImpl;
+import org.spongepowered.common.interfaces.world.IMixinWorldServer;
+import org.spongepowered.common.world.extent.EntityQueries;
 
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.List;
 import java.util.Optional;
+import java.util.Random;
 import java.util.Set;
 import java.util.function.Function;
 import java.util.function.Predicate;
 import java.util.stream.Collectors;
 
+import javax.annotation.Nullable;
+
 /**
  * A resolver that acts like Vanilla Minecraft in many regards.
  */
@@ -81,6 +87,7 @@ public class SelectorResolver {
     private static final Set<ArgumentType<?>> LOCATION_BASED_ARGUMENTS;
     private static final Function<Number, Double> TO_DOUBLE = Number::doubleValue;
     private static final Collection<SelectorType> INFINITE_TYPES = ImmutableSet.of(SelectorTypes.ALL_ENTITIES, SelectorTypes.ALL_PLAYERS);
+    private static final Random RANDOM = new Random();
 
     static {
         ImmutableSet.Builder<ArgumentType<?>> builder = ImmutableSet.builder();
@@ -116,6 +123,9 @@ private static <I, R> Predicate<I> requireTypePredicate(Class<I> inputType, fina
     private final Selector selector;
     private final Predicate<Entity> selectorFilter;
     private final boolean alwaysUsePosition;
+    private boolean playerOnly;
+    @Nullable private EntityType indexedType;
+    @Nullable private AxisAlignedBB bounds;
 
     public SelectorResolver(Collection<? extends Extent> extents, Selector selector, boolean force) {
         this(extents, null, null, selector, force);
@@ -164,9 +174,44 @@ private Predicate<Entity> makeFilter() {
             // insert at the start so it applies first
             filters.add(0, requireTypePredicate(Entity.class, Player.class));
         }
+        this.playerOnly = isPlayerOnlySelector;
+        if (type.isPresent() && !type.get().isInverted()) {
+            this.indexedType = type.get().getValue();
+        }
+        this.bounds = makeBounds(position);
         return Functional.predicateAnd(filters);
     }
 
+    /**
+     * Creates a box containing every position accepted by the radius and
+     * dimension filters, or null if those filters don't bound the
+     * horizontal axes.
+     */
+    @Nullable
+    private AxisAlignedBB makeBounds(Vector3d position) {
+        final Selector sel = this.selector;
+        AxisAlignedBB bounds = null;
+        Optional<Integer> radiusMax = sel.get(ArgumentTypes.RADIUS.maximum());
+        if (radiusMax.isPresent()) {
+            final int radius = radiusMax.get();
+            bounds = new AxisAlignedBB(position.getX() - radius, position.getY() - radius, position.getZ() - radius,
+                position.getX() + radius, position.getY() + radius, position.getZ() + radius);
+        }
+        if (sel.has(ArgumentTypes.DIMENSION.x()) && sel.has(ArgumentTypes.DIMENSION.z())) {
+            final Vector3d boxDimensions = getPositionOrDefault(ORIGIN, ArgumentTypes.DIMENSION);
+            final Vector3d boxMin = position.min(position.add(boxDimensions));
+            final Vector3d boxMax = position.max(position.add(boxDimensions));
+            final boolean hasY = sel.has(ArgumentTypes.DIMENSION.y());
+            // Entities above or below the build height still match when the selector doesn't bound Y
+            final AxisAlignedBB box = new AxisAlignedBB(boxMin.getX(), hasY ? boxMin.getY() : Double.NEGATIVE_INFINITY, boxMin.getZ(),
+                boxMax.getX(), hasY ? boxMax.getY() : Double.POSITIVE_INFINITY, boxMax.getZ());
+            bounds = bounds == null ? box : new AxisAlignedBB(Math.max(bounds.minX, box.minX), Math.max(bounds.minY, box.minY),
+                Math.max(bounds.minZ, box.minZ), Math.min(bounds.maxX, box.maxX), Math.min(bounds.maxY, box.maxY), Math.min(bounds.maxZ, box.maxZ));
+        }
+        // The filters test the entity position, which lies on the edge of its bounding box
+        return bounds == null ? null : bounds.expandXyz(1);
+    }
+
     private void addDimensionFilters(final Vector3d position, List<Predicate<Entity>> filters) {
         Selector sel = this.selector;
         Vector3d boxDimensions = getPositionOrDefault(ORIGIN, ArgumentTypes.DIMENSION);
@@ -347,30 +392,86 @@ public Set<Entity> resolve() {
         }
         int maxToSelect = this.selector.get(ArgumentTypes.COUNT).orElse(defaultCount);
         Set<? extends Extent> extents = getExtentSet();
+        if (selectorType == SelectorTypes.RANDOM && maxToSelect != 0) {
+            return resolveRandom(extents, Math.abs(maxToSelect));
+        }
         int count = 0;
         ImmutableSet.Builder<Entity> entities = ImmutableSet.builder();
         for (Extent extent : extents) {
-            Collection<Entity> allEntities = extent.getEntities();
-            if (selectorType == SelectorTypes.RANDOM) {
-                List<Entity> entityList = new ArrayList<>(allEntities);
-                Collections.shuffle(entityList);
-                allEntities = entityList;
-            }
-
-            for (Entity e : allEntities) {
+            for (Entity e : getCandidates(extent)) {
                 if (!this.selectorFilter.test(e)) {
                     continue;
                 }
                 entities.add(e);
                 count++;
-                if (maxToSelect != 0 && count > maxToSelect) {
-                    break;
+                if (maxToSelect != 0 && count >= maxToSelect) {
+                    return entities.build();
                 }
             }
         }
         return entities.build();
     }
 
+    /**
+     * Selects up to {@code maxToSelect} matching entities uniformly at random
+     * using reservoir sampling, without copying the candidate lists.
+     */
+    private Set<Entity> resolveRandom(Set<? extends Extent> extents, int maxToSelect) {
+        final List<Entity> reservoir = new ArrayList<>();
+        int seen = 0;
+        for (Extent extent : extents) {
+            for (Entity e : getCandidates(extent)) {
+                if (!this.selectorFilter.test(e)) {
+                    continue;
+                }
+                seen++;
+                if (reservoir.size() < maxToSelect) {
+                    reservoir.add(e);
+                } else {
+                    final int index = RANDOM.nextInt(seen);
+                    if (index < maxToSelect) {
+                        reservoir.set(index, e);
+                    }
+                }
+            }
+        }
+        return ImmutableSet.copyOf(reservoir);
+    }
+
+    /**
+     * Gets the entities of the extent which may match the selector. For
+     * worlds this is the smallest of the loaded entity list, the players,
+     * the entities of the selected type and the entities in the chunks
+     * overlapping the selector bounds.
+     */
+    @SuppressWarnings("unchecked")
+    private Collection<Entity> getCandidates(Extent extent) {
+        if (!(extent instanceof IMixinWorldServer)) {
+            return extent.getEntities();
+        }
+        final net.minecraft.world.World world = (net.minecraft.world.World) extent;
+        Collection<?> candidates = Collections.unmodifiableList(world.loadedEntityList);
+        if (this.playerOnly) {
+            candidates = Collections.unmodifiableList(world.playerEntities);
+        } else if (this.indexedType != null) {
+            final Collection<?> ofType = ((IMixinWorldServer) world).getEntityTypeIndex().get(this.indexedType);
+            if (ofType.size() < candidates.size()) {
+                candidates = ofType;
+            }
+        }
+        if (this.bounds != null) {
+            final AxisAlignedBB bounds = this.bounds;
+            final long chunksX = ((long) Math.floor(bounds.maxX) >> 4) - ((long) Math.floor(bounds.minX) >> 4) + 1;
+            final long chunksZ = ((long) Math.floor(bounds.maxZ) >> 4) - ((long) Math.floor(bounds.minZ) >> 4) + 1;
+            if (chunksX * chunksZ < candidates.size()) {
+                // Walk the chunk entity lists directly, the world queries are capped by the entity collision limits
+                candidates = EntityQueries.getEntitiesInBox(world, new Vector3d(bounds.minX, bounds.minY, bounds.minZ),
+                        new Vector3d(bounds.maxX, bounds.maxY, bounds.maxZ), entity -> true);
+            }
+        }
+        return (Collection<Entity>) candidates;
+    }
+
     private Set<? extends Extent> getExtentSet() {
         if (!this.alwaysUsePosition && Collections.disjoint(getArgumentTypes(this.selector.getArguments()), LOCATION_BASED_ARGUMENTS)) {
             return ImmutableSet.copyOf(SpongeImpl.getGame().getServer().getWorlds());
@@ -0,0 +1,91 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.common.util;
+
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+import org.spongepowered.common.SpongeImpl;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+/**
+ * Writes small data files, such as the user lists and the profile cache, on
+ * a single background thread.
+ *
+ * <p>Callers capture whatever they want to write on their own thread and
+ * hand over a supplier that turns it into the file contents. Writes for the
+ * same file that arrive while one is still pending replace it, so only the
+ * latest contents are written.</p>
+ *
+ * <p>The contents are written to a temporary file next to the file, which
+ * then replaces it, so a crash during a write never leaves the file
+ * truncated.</p>
+ */
+public final class BackgroundFileWriter {
+
+    // The thread is not a daemon so that pending writes finish on shutdown, and it stops after being idle
+    private static final ExecutorService EXECUTOR = new ThreadPoolExecutor(0, 1, 10, TimeUnit.SECONDS, new LinkedBlockingQueue<>(),
+            new ThreadFactoryBuilder().setNameFormat("Sponge - File Writer").setDaemon(false).build());
+    private static final ConcurrentMap<File, Supplier<String>> PENDING_WRITES = new ConcurrentHashMap<>();
+
+    private BackgroundFileWriter() {
+    }
+
+    public static void write(File file, Supplier<String> contents) {
+        if (PENDING_WRITES.put(file, contents) == null) {
+            EXECUTOR.execute(() -> {
+                final Supplier<String> latest = PENDING_WRITES.remove(file);
+                try {
+                    writeAtomically(file.toPath(), latest.get());
+                } catch (IOException e) {
+                    SpongeImpl.getLogger().warn("Could not save {}.", file.getName(), e);
+                }
+            });
+        }
+    }
+
+    private static void writeAtomically(Path file, String contents) throws IOException {
+        final Path temp = file.resolveSibling(file.getFileName() + ".tmp");
+        Files.write(temp, contents.getBytes(StandardCharsets.UTF_8));
+        try {
+            Files.move(temp, file, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+        } catch (AtomicMoveNotSupportedException e) {
+            Files.move(temp, file, StandardCopyOption.REPLACE_EXISTING);
+        }
+    }
+
+}
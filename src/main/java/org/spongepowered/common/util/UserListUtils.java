@@ -27,31 +27,32 @@
 import net.minecraft.server.management.UserList;
 import net.minecraft.server.management.UserListEntry;
 
-import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
 
 public class UserListUtils {
 
     @SuppressWarnings({"unchecked", "rawtypes"})
     public static void addEntry(UserList list, UserListEntry entry) {
         list.getValues().put(list.getObjectKey(entry.getValue()), entry);
-
-        try {
-            list.writeChanges();
-        }
-        catch (IOException ioexception) {
-            UserList.LOGGER.warn("Could not save the list after adding a user.", ioexception);
-        }
+        saveAsync(list);
     }
 
     @SuppressWarnings({"rawtypes", "unchecked"})
     public static void removeEntry(UserList list, Object object) {
         list.getValues().remove(list.getObjectKey(object));
+        saveAsync(list);
+    }
 
-        try {
-            list.writeChanges();
-        }
-        catch (IOException ioexception) {
-            UserList.LOGGER.warn("Could not save the list after removing a user.", ioexception);
-        }
+    /**
+     * Writes the entries of the list to its file off the main thread. The
+     * entries are copied right away.
+     *
+     * @param list The list to save
+     */
+    @SuppressWarnings({"rawtypes", "unchecked"})
+    public static void saveAsync(UserList list) {
+        final List<?> entries = new ArrayList<>(list.getValues().values());
+        BackgroundFileWriter.write(list.saveFile, () -> list.gson.toJson(entries));
     }
 }
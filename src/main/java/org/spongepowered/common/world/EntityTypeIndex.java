@@ -0,0 +1,78 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.common.world;
+
+import net.minecraft.entity.Entity;
+import org.spongepowered.api.entity.EntityType;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Tracks the loaded entities of a world by their {@link EntityType}, so that
+ * lookups for a single type do not have to scan the whole loaded entity list.
+ *
+ * <p>The index is updated from the entity added and removed callbacks of the
+ * world and must only be accessed from the main thread.</p>
+ */
+public final class EntityTypeIndex {
+
+    private final Map<EntityType, Set<Entity>> entitiesByType = new IdentityHashMap<>();
+
+    public void add(Entity entity) {
+        final EntityType type = ((org.spongepowered.api.entity.Entity) entity).getType();
+        if (type == null) {
+            return;
+        }
+        this.entitiesByType.computeIfAbsent(type, key -> new LinkedHashSet<>()).add(entity);
+    }
+
+    public void remove(Entity entity) {
+        final EntityType type = ((org.spongepowered.api.entity.Entity) entity).getType();
+        if (type == null) {
+            return;
+        }
+        final Set<Entity> entities = this.entitiesByType.get(type);
+        if (entities != null) {
+            entities.remove(entity);
+        }
+    }
+
+    /**
+     * Gets a live, unmodifiable view of the loaded entities of the given type.
+     *
+     * @param type The entity type
+     * @return The loaded entities of the type
+     */
+    public Collection<Entity> get(EntityType type) {
+        final Set<Entity> entities = this.entitiesByType.get(type);
+        return entities == null ? Collections.emptySet() : Collections.unmodifiableSet(entities);
+    }
+
+}
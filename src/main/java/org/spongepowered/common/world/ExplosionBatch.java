@@ -0,0 +1,299 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.common.world;
+
+import it.unimi.dsi.fastutil.ints.IntArrayList;
+import it.unimi.dsi.fastutil.ints.IntList;
+import it.unimi.dsi.fastutil.longs.Long2ObjectLinkedOpenHashMap;
+import it.unimi.dsi.fastutil.longs.Long2ObjectMap;
+import it.unimi.dsi.fastutil.longs.Long2ObjectOpenHashMap;
+import it.unimi.dsi.fastutil.longs.LongOpenHashSet;
+import it.unimi.dsi.fastutil.longs.LongSet;
+import net.minecraft.block.Block;
+import net.minecraft.block.material.Material;
+import net.minecraft.block.state.IBlockState;
+import net.minecraft.init.Blocks;
+import net.minecraft.util.math.BlockPos;
+import net.minecraft.util.math.ChunkPos;
+import net.minecraft.util.math.MathHelper;
+import net.minecraft.world.Explosion;
+import net.minecraft.world.WorldServer;
+import org.spongepowered.api.event.SpongeEventFactory;
+import org.spongepowered.api.event.cause.Cause;
+import org.spongepowered.api.event.cause.NamedCause;
+import org.spongepowered.api.event.world.ExplosionEvent;
+import org.spongepowered.api.world.Location;
+import org.spongepowered.api.world.World;
+import org.spongepowered.common.SpongeImpl;
+import org.spongepowered.common.event.InternalNamedCauses;
+import org.spongepowered.common.event.tracking.CauseTracker;
+import org.spongepowered.common.event.tracking.PhaseContext;
+import org.spongepowered.common.event.tracking.phase.GeneralPhase;
+import org.spongepowered.common.interfaces.world.IMixinWorldServer;
+import org.spongepowered.common.util.VecHelper;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Collects the explosions of a world during a tick and removes the blocks
+ * they destroy together at the end of the tick.
+ *
+ * <p>Explosions whose affected blocks overlap are merged into one cluster.
+ * Each cluster fires a single {@link ExplosionEvent.Detonate} for all of
+ * its blocks, with the first explosion of the cluster as the source, and
+ * every block is only removed once no matter how many of the explosions
+ * reached it. The blocks are removed in the {@link GeneralPhase.State#EXPLOSION}
+ * phase, so block changes, drops and spawns are processed like those of
+ * unbatched explosions. The batch must only be accessed from the main
+ * thread.</p>
+ *
+ * <p>The blocks pending removal are air to the rays of later explosions in
+ * the same tick, as they would be if each explosion removed its blocks at
+ * once.</p>
+ */
+public final class ExplosionBatch {
+
+    private final WorldServer world;
+    private final ExplosionRayCaster rayCaster;
+    private final List<PendingExplosion> explosions = new ArrayList<>();
+    private final LongSet claimed = new LongOpenHashSet();
+
+    public ExplosionBatch(WorldServer world) {
+        this.world = world;
+        this.rayCaster = new ExplosionRayCaster(world, this.claimed);
+    }
+
+    public ExplosionRayCaster getRayCaster() {
+        return this.rayCaster;
+    }
+
+    /**
+     * Adds an explosion whose blocks should be removed at the end of the
+     * tick. The affected positions are copied, later changes to those of the
+     * explosion are not seen by the batch.
+     *
+     * @param explosion The explosion
+     */
+    public void add(Explosion explosion) {
+        final List<BlockPos> affected = explosion.getAffectedBlockPositions();
+        final long[] positions = new long[affected.size()];
+        for (int i = 0; i < positions.length; i++) {
+            positions[i] = affected.get(i).toLong();
+            if (explosion.isSmoking) {
+                this.claimed.add(positions[i]);
+            }
+        }
+        this.explosions.add(new PendingExplosion(explosion, positions));
+    }
+
+    public boolean isEmpty() {
+        return this.explosions.isEmpty();
+    }
+
+    public int size() {
+        return this.explosions.size();
+    }
+
+    /**
+     * Removes the blocks of every explosion added since the last call.
+     *
+     * @return The number of blocks removed
+     */
+    public int process() {
+        final List<PendingExplosion> explosions = new ArrayList<>(this.explosions);
+        this.explosions.clear();
+        this.claimed.clear();
+        int removed = 0;
+        for (List<PendingExplosion> cluster : cluster(explosions)) {
+            removed += detonate(cluster);
+        }
+        return removed;
+    }
+
+    static List<List<PendingExplosion>> cluster(List<PendingExplosion> explosions) {
+        final int size = explosions.size();
+        final int[] bounds = new int[size * 6];
+        final int[] parents = new int[size];
+        // Only explosions reaching into the same chunk can overlap
+        final Long2ObjectMap<IntList> chunks = new Long2ObjectOpenHashMap<>();
+        for (int i = 0; i < size; i++) {
+            parents[i] = i;
+            final int offset = i * 6;
+            computeBounds(explosions.get(i), bounds, offset);
+            for (int chunkX = bounds[offset] >> 4; chunkX <= bounds[offset + 3] >> 4; chunkX++) {
+                for (int chunkZ = bounds[offset + 2] >> 4; chunkZ <= bounds[offset + 5] >> 4; chunkZ++) {
+                    IntList others = chunks.get(ChunkPos.chunkXZ2Int(chunkX, chunkZ));
+                    if (others == null) {
+                        others = new IntArrayList(2);
+                        chunks.put(ChunkPos.chunkXZ2Int(chunkX, chunkZ), others);
+                    }
+                    for (int j = 0; j < others.size(); j++) {
+                        final int other = others.getInt(j);
+                        final int root = find(parents, i);
+                        final int otherRoot = find(parents, other);
+                        if (root != otherRoot && intersects(bounds, offset, other * 6)) {
+                            parents[Math.max(root, otherRoot)] = Math.min(root, otherRoot);
+                        }
+                    }
+                    others.add(i);
+                }
+            }
+        }
+        // Roots are always the lowest index of their cluster, so clusters keep the order of their first explosion
+        final List<List<PendingExplosion>> clusters = new ArrayList<>();
+        final int[] clusterIndex = new int[size];
+        for (int i = 0; i < size; i++) {
+            final int root = find(parents, i);
+            if (root == i) {
+                clusterIndex[i] = clusters.size();
+                clusters.add(new ArrayList<>());
+            }
+            clusters.get(clusterIndex[root]).add(explosions.get(i));
+        }
+        return clusters;
+    }
+
+    private static void computeBounds(PendingExplosion pending, int[] bounds, int offset) {
+        final Explosion explosion = pending.explosion;
+        bounds[offset] = bounds[offset + 3] = MathHelper.floor_double(explosion.explosionX);
+        bounds[offset + 1] = bounds[offset + 4] = MathHelper.floor_double(explosion.explosionY);
+        bounds[offset + 2] = bounds[offset + 5] = MathHelper.floor_double(explosion.explosionZ);
+        for (long packed : pending.positions) {
+            final BlockPos pos = BlockPos.fromLong(packed);
+            bounds[offset] = Math.min(bounds[offset], pos.getX());
+            bounds[offset + 1] = Math.min(bounds[offset + 1], pos.getY());
+            bounds[offset + 2] = Math.min(bounds[offset + 2], pos.getZ());
+            bounds[offset + 3] = Math.max(bounds[offset + 3], pos.getX());
+            bounds[offset + 4] = Math.max(bounds[offset + 4], pos.getY());
+            bounds[offset + 5] = Math.max(bounds[offset + 5], pos.getZ());
+        }
+    }
+
+    private static boolean intersects(int[] bounds, int a, int b) {
+        return bounds[a] <= bounds[b + 3] && bounds[a + 3] >= bounds[b]
+                && bounds[a + 1] <= bounds[b + 4] && bounds[a + 4] >= bounds[b + 1]
+                && bounds[a + 2] <= bounds[b + 5] && bounds[a + 5] >= bounds[b + 2];
+    }
+
+    private static int find(int[] parents, int index) {
+        while (parents[index] != index) {
+            parents[index] = parents[parents[index]];
+            index = parents[index];
+        }
+        return index;
+    }
+
+    private int detonate(List<PendingExplosion> cluster) {
+        // The first explosion to reach a block is the one that destroys it
+        final Long2ObjectLinkedOpenHashMap<Explosion> owners = new Long2ObjectLinkedOpenHashMap<>();
+        for (PendingExplosion pending : cluster) {
+            for (long key : pending.positions) {
+                if (!owners.containsKey(key)) {
+                    owners.put(key, pending.explosion);
+                }
+            }
+        }
+        final List<Location<World>> locations = new ArrayList<>(owners.size());
+        for (Long2ObjectMap.Entry<Explosion> entry : owners.long2ObjectEntrySet()) {
+            if (entry.getValue().isSmoking) {
+                locations.add(new Location<>((World) this.world, VecHelper.toVector3i(BlockPos.fromLong(entry.getLongKey()))));
+            }
+        }
+
+        final Explosion source = cluster.get(0).explosion;
+        final Cause.Builder cause = Cause.source(source);
+        if (source.exploder != null) {
+            cause.named(NamedCause.of(InternalNamedCauses.General.EXPLODER, source.exploder));
+        }
+        final ExplosionEvent.Detonate event = SpongeEventFactory.createExplosionEventDetonate(cause.build(), locations,
+                Collections.emptyList(), (org.spongepowered.api.world.explosion.Explosion) source, (World) this.world);
+        if (SpongeImpl.postEvent(event)) {
+            return 0;
+        }
+
+        // The block changes, drops and spawns are captured and get the explosion as their cause, like unbatched explosions
+        final CauseTracker causeTracker = ((IMixinWorldServer) this.world).getCauseTracker();
+        causeTracker.switchToPhase(GeneralPhase.State.EXPLOSION, PhaseContext.start()
+                .add(NamedCause.source(source))
+                .add(source.exploder == null ? null : NamedCause.of(InternalNamedCauses.General.EXPLODER, source.exploder))
+                .addCaptures()
+                .complete());
+        try {
+            return this.removeBlocks(event, owners, source);
+        } finally {
+            causeTracker.completePhase();
+        }
+    }
+
+    private int removeBlocks(ExplosionEvent.Detonate event, Long2ObjectMap<Explosion> owners, Explosion source) {
+        int removed = 0;
+        for (Location<World> location : event.getAffectedLocations()) {
+            final BlockPos pos = VecHelper.toBlockPos(location);
+            final IBlockState state = this.world.getBlockState(pos);
+            if (state.getMaterial() == Material.AIR) {
+                continue;
+            }
+            Explosion explosion = owners.get(pos.toLong());
+            if (explosion == null) {
+                // Added by a plugin
+                explosion = source;
+            }
+            final Block block = state.getBlock();
+            if (block.canDropFromExplosion(explosion)) {
+                block.dropBlockAsItemWithChance(this.world, pos, state, 1.0F / explosion.explosionSize, 0);
+            }
+            this.world.setBlockState(pos, Blocks.AIR.getDefaultState(), 2);
+            block.onBlockDestroyedByExplosion(this.world, pos, explosion);
+            removed++;
+        }
+
+        for (Long2ObjectMap.Entry<Explosion> entry : owners.long2ObjectEntrySet()) {
+            if (!entry.getValue().isFlaming) {
+                continue;
+            }
+            final BlockPos pos = BlockPos.fromLong(entry.getLongKey());
+            if (this.world.getBlockState(pos).getMaterial() == Material.AIR && this.world.getBlockState(pos.down()).isFullBlock()
+                    && this.world.rand.nextInt(3) == 0) {
+                this.world.setBlockState(pos, Blocks.FIRE.getDefaultState());
+            }
+        }
+        return removed;
+    }
+
+    static final class PendingExplosion {
+
+        final Explosion explosion;
+        final long[] positions;
+
+        PendingExplosion(Explosion explosion, long[] positions) {
+            this.explosion = explosion;
+            this.positions = positions;
+        }
+
+    }
+
+}
@@ -0,0 +1,187 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.common.world;
+
+import it.unimi.dsi.fastutil.longs.Long2FloatOpenHashMap;
+import it.unimi.dsi.fastutil.longs.LongIterator;
+import it.unimi.dsi.fastutil.longs.LongLinkedOpenHashSet;
+import it.unimi.dsi.fastutil.longs.LongSet;
+import net.minecraft.block.material.Material;
+import net.minecraft.block.state.IBlockState;
+import net.minecraft.entity.Entity;
+import net.minecraft.init.Blocks;
+import net.minecraft.util.math.BlockPos;
+import net.minecraft.util.math.MathHelper;
+import net.minecraft.world.Explosion;
+import net.minecraft.world.WorldServer;
+import net.minecraft.world.chunk.Chunk;
+import net.minecraft.world.chunk.storage.ExtendedBlockStorage;
+
+import java.util.Collection;
+
+import javax.annotation.Nullable;
+
+/**
+ * Casts the rays of an explosion the same way vanilla does, but reads the
+ * blocks straight from the chunk sections and only works out the explosion
+ * resistance of each position once per explosion.
+ *
+ * <p>Neighbouring rays pass through mostly the same blocks, so an explosion
+ * looks up far fewer blocks than it takes ray steps. Chunks that are not
+ * loaded are read through the world as vanilla does. Positions claimed by
+ * explosions earlier in the tick whose blocks are not removed yet are read
+ * as air. The caster keeps its buffers between explosions and must only be
+ * used from the main thread.</p>
+ */
+public final class ExplosionRayCaster {
+
+    private static final int RAYS_PER_AXIS = 16;
+    private static final double STEP = 0.30000001192092896D;
+    private static final float AIR = -1.0F;
+
+    private final WorldServer world;
+    private final LongSet claimed;
+    private final Long2FloatOpenHashMap resistance = new Long2FloatOpenHashMap();
+    private final LongLinkedOpenHashSet affected = new LongLinkedOpenHashSet();
+    private final BlockPos.MutableBlockPos pos = new BlockPos.MutableBlockPos();
+    @Nullable private Chunk chunk;
+
+    /**
+     * Creates a ray caster for the world.
+     *
+     * @param world The world
+     * @param claimed The positions whose blocks are about to be removed
+     */
+    public ExplosionRayCaster(WorldServer world, LongSet claimed) {
+        this.world = world;
+        this.claimed = claimed;
+        this.resistance.defaultReturnValue(Float.NaN);
+    }
+
+    /**
+     * Casts the rays of an explosion and adds the positions they destroy.
+     *
+     * @param explosion The explosion
+     * @param positions The collection to add the affected positions to
+     */
+    public void cast(Explosion explosion, Collection<BlockPos> positions) {
+        final Entity exploder = explosion.exploder;
+        try {
+            for (int i = 0; i < RAYS_PER_AXIS; i++) {
+                for (int j = 0; j < RAYS_PER_AXIS; j++) {
+                    for (int k = 0; k < RAYS_PER_AXIS; k++) {
+                        if (i == 0 || i == RAYS_PER_AXIS - 1 || j == 0 || j == RAYS_PER_AXIS - 1 || k == 0 || k == RAYS_PER_AXIS - 1) {
+                            castRay(explosion, exploder, i, j, k);
+                        }
+                    }
+                }
+            }
+            for (LongIterator it = this.affected.iterator(); it.hasNext();) {
+                positions.add(BlockPos.fromLong(it.nextLong()));
+            }
+        } finally {
+            this.affected.clear();
+            this.resistance.clear();
+            this.chunk = null;
+        }
+    }
+
+    private void castRay(Explosion explosion, @Nullable Entity exploder, int i, int j, int k) {
+        double dx = (double) ((float) i / 15.0F * 2.0F - 1.0F);
+        double dy = (double) ((float) j / 15.0F * 2.0F - 1.0F);
+        double dz = (double) ((float) k / 15.0F * 2.0F - 1.0F);
+        final double length = Math.sqrt(dx * dx + dy * dy + dz * dz);
+        dx = dx / length;
+        dy = dy / length;
+        dz = dz / length;
+        float strength = explosion.explosionSize * (0.7F + this.world.rand.nextFloat() * 0.6F);
+        double x = explosion.explosionX;
+        double y = explosion.explosionY;
+        double z = explosion.explosionZ;
+
+        for (; strength > 0.0F; strength -= 0.22500001F) {
+            this.pos.setPos(MathHelper.floor_double(x), MathHelper.floor_double(y), MathHelper.floor_double(z));
+            final long key = this.pos.toLong();
+            float resistance = this.resistance.get(key);
+            IBlockState state = null;
+            if (Float.isNaN(resistance)) {
+                if (this.claimed.contains(key)) {
+                    resistance = AIR;
+                } else {
+                    state = getBlockState(this.pos);
+                    if (state.getMaterial() == Material.AIR) {
+                        resistance = AIR;
+                    } else if (exploder != null) {
+                        resistance = exploder.getExplosionResistance(explosion, this.world, this.pos, state);
+                    } else {
+                        resistance = state.getBlock().getExplosionResistance(null);
+                    }
+                }
+                this.resistance.put(key, resistance);
+            }
+            if (resistance != AIR) {
+                strength -= (resistance + 0.3F) * 0.3F;
+            }
+            if (strength > 0.0F && !this.affected.contains(key)) {
+                if (exploder == null) {
+                    this.affected.add(key);
+                } else {
+                    if (state == null) {
+                        state = this.claimed.contains(key) ? Blocks.AIR.getDefaultState() : getBlockState(this.pos);
+                    }
+                    if (exploder.verifyExplosion(explosion, this.world, this.pos, state, strength)) {
+                        this.affected.add(key);
+                    }
+                }
+            }
+            x += dx * STEP;
+            y += dy * STEP;
+            z += dz * STEP;
+        }
+    }
+
+    private IBlockState getBlockState(BlockPos pos) {
+        final int y = pos.getY();
+        if (y < 0 || y >= 256) {
+            return Blocks.AIR.getDefaultState();
+        }
+        final int chunkX = pos.getX() >> 4;
+        final int chunkZ = pos.getZ() >> 4;
+        Chunk chunk = this.chunk;
+        if (chunk == null || chunk.xPosition != chunkX || chunk.zPosition != chunkZ) {
+            chunk = this.world.getChunkProvider().getLoadedChunk(chunkX, chunkZ);
+            if (chunk == null) {
+                return this.world.getBlockState(pos);
+            }
+            this.chunk = chunk;
+        }
+        final ExtendedBlockStorage storage = chunk.getBlockStorageArray()[y >> 4];
+        if (storage == Chunk.NULL_BLOCK_STORAGE) {
+            return Blocks.AIR.getDefaultState();
+        }
+        return storage.get(pos.getX() & 15, y & 15, pos.getZ() & 15);
+    }
+
+}
@@ -0,0 +1,170 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.common.world;
+
+import it.unimi.dsi.fastutil.ints.IntArrayList;
+import it.unimi.dsi.fastutil.longs.Long2ObjectMap;
+import it.unimi.dsi.fastutil.longs.Long2ObjectOpenHashMap;
+import net.minecraft.entity.Entity;
+import net.minecraft.entity.item.EntityItem;
+import net.minecraft.util.math.AxisAlignedBB;
+import net.minecraft.util.math.MathHelper;
+import org.spongepowered.common.interfaces.entity.IMixinEntityItem;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Merges the item entities of a world in a single pass, instead of every
+ * item searching the world for nearby items on its own.
+ *
+ * <p>Items are bucketed by a spatial hash with cells as large as the merge
+ * reach, combined with a hash of the item, damage and NBT. An item only has
+ * to look at the buckets of its own and the surrounding cells with the same
+ * merge key. The merge key of each item is computed once per pass, so
+ * changes made to a stack in place are seen by the next pass. Bucket
+ * collisions are harmless since every candidate still goes through the
+ * vanilla merge checks.</p>
+ *
+ * <p>Only items which ticked and would have searched in vanilla, because
+ * they moved to another block or every 25 ticks, search for others. Ticks
+ * in which no item wants to search skip the pass. Every loaded item can be
+ * merged into, like the items vanilla finds in its search box.</p>
+ */
+public final class ItemMergePass {
+
+    private static final double ITEM_WIDTH = 0.25D;
+
+    private final List<EntityItem> items = new ArrayList<>();
+    private final IntArrayList mergeKeys = new IntArrayList();
+    // Indices of the items which want to search
+    private final IntArrayList searchers = new IntArrayList();
+    private final Long2ObjectMap<List<EntityItem>> buckets = new Long2ObjectOpenHashMap<>();
+    // Cleared bucket lists, reused for the next pass
+    private final List<List<EntityItem>> freeBuckets = new ArrayList<>();
+
+    /**
+     * Merges the items which want to search with nearby items.
+     *
+     * @param entities The loaded entities of the world
+     * @param mergeRadius The horizontal distance items merge across
+     * @return The number of merges
+     */
+    public int run(List<Entity> entities, double mergeRadius) {
+        for (int i = 0; i < entities.size(); i++) {
+            final Entity entity = entities.get(i);
+            if (entity instanceof EntityItem && !entity.isDead) {
+                if (((IMixinEntityItem) entity).pollMergeSearch()) {
+                    this.searchers.add(this.items.size());
+                }
+                this.items.add((EntityItem) entity);
+            }
+        }
+        if (this.searchers.isEmpty() || this.items.size() < 2) {
+            this.items.clear();
+            this.searchers.clear();
+            return 0;
+        }
+
+        final double cellSize = mergeRadius + ITEM_WIDTH;
+        int merges = 0;
+        try {
+            for (int i = 0; i < this.items.size(); i++) {
+                final EntityItem item = this.items.get(i);
+                final int mergeKey = ((IMixinEntityItem) item).getMergeKey();
+                this.mergeKeys.add(mergeKey);
+                final long bucketKey = getBucketKey(getCell(item.posX, cellSize), getCell(item.posZ, cellSize), mergeKey);
+                List<EntityItem> bucket = this.buckets.get(bucketKey);
+                if (bucket == null) {
+                    bucket = this.freeBuckets.isEmpty() ? new ArrayList<>(4) : this.freeBuckets.remove(this.freeBuckets.size() - 1);
+                    this.buckets.put(bucketKey, bucket);
+                }
+                bucket.add(item);
+            }
+
+            for (int i = 0; i < this.searchers.size(); i++) {
+                final int index = this.searchers.getInt(i);
+                final EntityItem item = this.items.get(index);
+                if (item.isDead) {
+                    continue;
+                }
+                final int mergeKey = this.mergeKeys.getInt(index);
+                final int cellX = getCell(item.posX, cellSize);
+                final int cellZ = getCell(item.posZ, cellSize);
+                search:
+                for (int x = cellX - 1; x <= cellX + 1; x++) {
+                    for (int z = cellZ - 1; z <= cellZ + 1; z++) {
+                        final List<EntityItem> bucket = this.buckets.get(getBucketKey(x, z, mergeKey));
+                        if (bucket == null) {
+                            continue;
+                        }
+                        for (int j = 0; j < bucket.size(); j++) {
+                            final EntityItem other = bucket.get(j);
+                            if (other == item || other.isDead || !isInReach(item, other, mergeRadius)) {
+                                continue;
+                            }
+                            if (((IMixinEntityItem) item).combineWith(other)) {
+                                merges++;
+                            }
+                            if (item.isDead) {
+                                break search;
+                            }
+                        }
+                    }
+                }
+            }
+        } finally {
+            for (List<EntityItem> bucket : this.buckets.values()) {
+                bucket.clear();
+                this.freeBuckets.add(bucket);
+            }
+            this.buckets.clear();
+            this.items.clear();
+            this.mergeKeys.clear();
+            this.searchers.clear();
+        }
+        return merges;
+    }
+
+    // Mirrors the box vanilla searches, which is the item's box grown horizontally by the merge radius
+    private static boolean isInReach(EntityItem item, EntityItem other, double mergeRadius) {
+        final AxisAlignedBB box = item.getEntityBoundingBox();
+        final AxisAlignedBB otherBox = other.getEntityBoundingBox();
+        return otherBox.maxX > box.minX - mergeRadius && otherBox.minX < box.maxX + mergeRadius
+                && otherBox.maxY > box.minY && otherBox.minY < box.maxY
+                && otherBox.maxZ > box.minZ - mergeRadius && otherBox.minZ < box.maxZ + mergeRadius;
+    }
+
+    private static int getCell(double position, double cellSize) {
+        return MathHelper.floor_double(position / cellSize);
+    }
+
+    private static long getBucketKey(int cellX, int cellZ, int mergeKey) {
+        long key = cellX * 0x9E3779B97F4A7C15L;
+        key = (key ^ cellZ) * 0xC2B2AE3D27D4EB4FL;
+        return key ^ mergeKey;
+    }
+
+}
@@ -0,0 +1,237 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.common.world;
+
+import it.unimi.dsi.fastutil.longs.Long2ObjectLinkedOpenHashMap;
+import it.unimi.dsi.fastutil.longs.LongLinkedOpenHashSet;
+import net.minecraft.util.math.BlockPos;
+import net.minecraft.util.math.ChunkPos;
+import net.minecraft.world.EnumSkyBlock;
+import net.minecraft.world.WorldServer;
+
+import java.util.concurrent.TimeUnit;
+
+import javax.annotation.Nullable;
+
+/**
+ * Collects the light checks of a world, bucketed by chunk section, so that
+ * they can be processed together instead of each block change flood filling
+ * the light on its own.
+ *
+ * <p>Checking the same position more than once before the queue is
+ * processed only checks it once. Chunks are processed in the order they
+ * first received a check. The queue must only be accessed from the main
+ * thread.</p>
+ */
+public final class LightingQueue {
+
+    // How many checks are processed between looking at the clock
+    private static final int CHECKS_PER_TIME_CHECK = 32;
+
+    private final WorldServer world;
+    private final Long2ObjectLinkedOpenHashMap<ChunkQueue> chunks = new Long2ObjectLinkedOpenHashMap<>();
+    private boolean processing;
+    private int size;
+    private long processedLastTick;
+    private long totalProcessed;
+
+    public LightingQueue(WorldServer world) {
+        this.world = world;
+    }
+
+    /**
+     * Gets whether light checks should currently run immediately, because
+     * the queue itself is performing them.
+     *
+     * @return Whether the queue is being processed
+     */
+    public boolean isProcessing() {
+        return this.processing;
+    }
+
+    public boolean isEmpty() {
+        return this.size == 0;
+    }
+
+    public int size() {
+        return this.size;
+    }
+
+    public long getProcessedLastTick() {
+        return this.processedLastTick;
+    }
+
+    public long getTotalProcessed() {
+        return this.totalProcessed;
+    }
+
+    /**
+     * Performs the queued light checks that can change the light of a chunk,
+     * those of the chunk itself and of the chunks around it.
+     *
+     * @param chunkX The x coordinate of the chunk
+     * @param chunkZ The z coordinate of the chunk
+     */
+    public void processChunk(int chunkX, int chunkZ) {
+        if (this.size == 0) {
+            return;
+        }
+        this.processing = true;
+        try {
+            // Light spreads up to 15 blocks, so only the neighbouring chunks can reach into this one
+            for (int x = chunkX - 1; x <= chunkX + 1; x++) {
+                for (int z = chunkZ - 1; z <= chunkZ + 1; z++) {
+                    final ChunkQueue chunk = this.chunks.remove(ChunkPos.chunkXZ2Int(x, z));
+                    if (chunk == null) {
+                        continue;
+                    }
+                    while (!chunk.isEmpty()) {
+                        chunk.checkNext(this.world);
+                        this.size--;
+                        this.totalProcessed++;
+                    }
+                }
+            }
+        } finally {
+            this.processing = false;
+        }
+    }
+
+    /**
+     * Queues a light check.
+     *
+     * @param lightType The type of light to check
+     * @param pos The position to check, within the height of the world
+     */
+    public void add(EnumSkyBlock lightType, BlockPos pos) {
+        final long chunkKey = ChunkPos.chunkXZ2Int(pos.getX() >> 4, pos.getZ() >> 4);
+        ChunkQueue chunk = this.chunks.get(chunkKey);
+        if (chunk == null) {
+            chunk = new ChunkQueue(this.world.getHeight() >> 4);
+            this.chunks.put(chunkKey, chunk);
+        }
+        if (chunk.add(lightType, pos)) {
+            this.size++;
+        }
+    }
+
+    /**
+     * Performs queued light checks.
+     *
+     * @param budget The time in milliseconds to spend, or 0 to perform all
+     *     queued checks
+     */
+    public void process(long budget) {
+        this.processedLastTick = 0;
+        if (this.size == 0) {
+            return;
+        }
+        final long deadline = budget > 0 ? System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(budget) : Long.MAX_VALUE;
+        this.processing = true;
+        try {
+            while (!this.chunks.isEmpty()) {
+                final ChunkQueue chunk = this.chunks.get(this.chunks.firstLongKey());
+                while (!chunk.isEmpty()) {
+                    if (this.processedLastTick % CHECKS_PER_TIME_CHECK == 0 && this.processedLastTick != 0 && System.nanoTime() > deadline) {
+                        return;
+                    }
+                    chunk.checkNext(this.world);
+                    this.size--;
+                    this.processedLastTick++;
+                }
+                this.chunks.removeFirst();
+            }
+        } finally {
+            this.processing = false;
+            this.totalProcessed += this.processedLastTick;
+        }
+    }
+
+    /**
+     * The queued checks of a single chunk, by section and light type.
+     */
+    private static final class ChunkQueue {
+
+        private final LongLinkedOpenHashSet[] skyLight;
+        private final LongLinkedOpenHashSet[] blockLight;
+        private int size;
+        private int section;
+
+        ChunkQueue(int sections) {
+            this.skyLight = new LongLinkedOpenHashSet[sections];
+            this.blockLight = new LongLinkedOpenHashSet[sections];
+        }
+
+        boolean isEmpty() {
+            return this.size == 0;
+        }
+
+        boolean add(EnumSkyBlock lightType, BlockPos pos) {
+            final LongLinkedOpenHashSet[] sections = lightType == EnumSkyBlock.SKY ? this.skyLight : this.blockLight;
+            final int sectionY = pos.getY() >> 4;
+            LongLinkedOpenHashSet positions = sections[sectionY];
+            if (positions == null) {
+                positions = new LongLinkedOpenHashSet();
+                sections[sectionY] = positions;
+            }
+            if (positions.add(pos.toLong())) {
+                this.size++;
+                return true;
+            }
+            return false;
+        }
+
+        /**
+         * Performs the next check of this chunk, going through the sections
+         * from bottom to top with the sky light of a section before its
+         * block light. Must only be called while the chunk is not empty.
+         */
+        void checkNext(WorldServer world) {
+            while (true) {
+                final LongLinkedOpenHashSet skyLight = this.skyLight[this.section];
+                if (isNotEmpty(skyLight)) {
+                    this.size--;
+                    world.checkLightFor(EnumSkyBlock.SKY, BlockPos.fromLong(skyLight.removeFirstLong()));
+                    return;
+                }
+                final LongLinkedOpenHashSet blockLight = this.blockLight[this.section];
+                if (isNotEmpty(blockLight)) {
+                    this.size--;
+                    world.checkLightFor(EnumSkyBlock.BLOCK, BlockPos.fromLong(blockLight.removeFirstLong()));
+                    return;
+                }
+                // Checks may have been queued in lower sections since the
+                // chunk was last processed, so wrap around
+                this.section = (this.section + 1) % this.skyLight.length;
+            }
+        }
+
+        private static boolean isNotEmpty(@Nullable LongLinkedOpenHashSet positions) {
+            return positions != null && !positions.isEmpty();
+        }
+
+    }
+
+}
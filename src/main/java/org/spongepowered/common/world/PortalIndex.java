@@ -0,0 +1,179 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.common.world;
+
+import it.unimi.dsi.fastutil.longs.Long2ObjectMap;
+import it.unimi.dsi.fastutil.longs.Long2ObjectOpenHashMap;
+import it.unimi.dsi.fastutil.longs.LongIterator;
+import it.unimi.dsi.fastutil.longs.LongOpenHashSet;
+import it.unimi.dsi.fastutil.longs.LongSet;
+import it.unimi.dsi.fastutil.longs.LongSets;
+import net.minecraft.init.Blocks;
+import net.minecraft.nbt.NBTTagCompound;
+import net.minecraft.util.math.BlockPos;
+import net.minecraft.util.math.ChunkPos;
+import net.minecraft.world.chunk.Chunk;
+import net.minecraft.world.chunk.storage.ExtendedBlockStorage;
+import net.minecraft.world.storage.WorldSavedData;
+
+/**
+ * Remembers the positions of the nether portal blocks of a world, bucketed
+ * by chunk, so that portal searches only have to look at the chunks they
+ * cover instead of reading every block in range.
+ *
+ * <p>A chunk is only trusted once it has been indexed, either by scanning it
+ * or because the index saw it from the start. Searches fall back to scanning
+ * chunks that are not indexed yet. The index is saved with the other per
+ * world data and must only be accessed from the main thread.</p>
+ */
+public final class PortalIndex extends WorldSavedData {
+
+    public static final String NAME = "SpongePortals";
+
+    private static final String INDEXED_CHUNKS = "IndexedChunks";
+    private static final String PORTALS = "Portals";
+
+    private final Long2ObjectMap<LongSet> portalsByChunk = new Long2ObjectOpenHashMap<>();
+    private final LongSet indexedChunks = new LongOpenHashSet();
+
+    public PortalIndex(String name) {
+        super(name);
+    }
+
+    public boolean isIndexed(int chunkX, int chunkZ) {
+        return this.indexedChunks.contains(ChunkPos.chunkXZ2Int(chunkX, chunkZ));
+    }
+
+    /**
+     * Gets the packed positions of the portal blocks in a chunk.
+     *
+     * @param chunkX The chunk x coordinate
+     * @param chunkZ The chunk z coordinate
+     * @return The portal block positions, see {@link BlockPos#fromLong(long)}
+     */
+    public LongSet getPortals(int chunkX, int chunkZ) {
+        final LongSet portals = this.portalsByChunk.get(ChunkPos.chunkXZ2Int(chunkX, chunkZ));
+        return portals == null ? LongSets.EMPTY_SET : LongSets.unmodifiable(portals);
+    }
+
+    public void add(BlockPos pos) {
+        final long chunkKey = getChunkKey(pos);
+        LongSet portals = this.portalsByChunk.get(chunkKey);
+        if (portals == null) {
+            portals = new LongOpenHashSet();
+            this.portalsByChunk.put(chunkKey, portals);
+        }
+        if (portals.add(pos.toLong())) {
+            markDirty();
+        }
+    }
+
+    public void remove(BlockPos pos) {
+        final long chunkKey = getChunkKey(pos);
+        final LongSet portals = this.portalsByChunk.get(chunkKey);
+        if (portals != null && portals.remove(pos.toLong())) {
+            if (portals.isEmpty()) {
+                this.portalsByChunk.remove(chunkKey);
+            }
+            markDirty();
+        }
+    }
+
+    /**
+     * Reads every portal block of a chunk into the index and marks the chunk
+     * as indexed. This is only needed once per chunk, afterwards the index is
+     * kept up to date by block changes.
+     *
+     * @param chunk The chunk to scan
+     */
+    public void indexChunk(Chunk chunk) {
+        final long chunkKey = ChunkPos.chunkXZ2Int(chunk.xPosition, chunk.zPosition);
+        this.portalsByChunk.remove(chunkKey);
+        for (ExtendedBlockStorage storage : chunk.getBlockStorageArray()) {
+            if (storage == Chunk.NULL_BLOCK_STORAGE || storage.isEmpty()) {
+                continue;
+            }
+            for (int y = 0; y < 16; y++) {
+                for (int z = 0; z < 16; z++) {
+                    for (int x = 0; x < 16; x++) {
+                        if (storage.get(x, y, z).getBlock() == Blocks.PORTAL) {
+                            add(new BlockPos((chunk.xPosition << 4) + x, storage.getYLocation() + y, (chunk.zPosition << 4) + z));
+                        }
+                    }
+                }
+            }
+        }
+        this.indexedChunks.add(chunkKey);
+        markDirty();
+    }
+
+    private static long getChunkKey(BlockPos pos) {
+        return ChunkPos.chunkXZ2Int(pos.getX() >> 4, pos.getZ() >> 4);
+    }
+
+    @Override
+    public void readFromNBT(NBTTagCompound compound) {
+        this.indexedChunks.clear();
+        this.portalsByChunk.clear();
+        final int[] indexedChunks = compound.getIntArray(INDEXED_CHUNKS);
+        for (int i = 0; i + 1 < indexedChunks.length; i += 2) {
+            this.indexedChunks.add(ChunkPos.chunkXZ2Int(indexedChunks[i], indexedChunks[i + 1]));
+        }
+        final int[] portals = compound.getIntArray(PORTALS);
+        for (int i = 0; i + 2 < portals.length; i += 3) {
+            add(new BlockPos(portals[i], portals[i + 1], portals[i + 2]));
+        }
+    }
+
+    @Override
+    public NBTTagCompound writeToNBT(NBTTagCompound compound) {
+        final int[] indexedChunks = new int[this.indexedChunks.size() * 2];
+        int index = 0;
+        for (LongIterator it = this.indexedChunks.iterator(); it.hasNext(); ) {
+            final long chunkKey = it.nextLong();
+            indexedChunks[index++] = (int) chunkKey;
+            indexedChunks[index++] = (int) (chunkKey >>> 32);
+        }
+        compound.setIntArray(INDEXED_CHUNKS, indexedChunks);
+
+        int portalCount = 0;
+        for (LongSet portals : this.portalsByChunk.values()) {
+            portalCount += portals.size();
+        }
+        final int[] portals = new int[portalCount * 3];
+        index = 0;
+        for (LongSet chunkPortals : this.portalsByChunk.values()) {
+            for (LongIterator it = chunkPortals.iterator(); it.hasNext(); ) {
+                final BlockPos pos = BlockPos.fromLong(it.nextLong());
+                portals[index++] = pos.getX();
+                portals[index++] = pos.getY();
+                portals[index++] = pos.getZ();
+            }
+        }
+        compound.setIntArray(PORTALS, portals);
+        return compound;
+    }
+
+}
@@ -100,6 +100,7 @@
 import java.util.UUID;
 import java.util.concurrent.Callable;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.stream.Collectors;
 
 import javax.annotation.Nullable;
@@ -114,8 +115,9 @@ public final class WorldManager {
     private static final IntSet unregisterableDimensions = new IntOpenHashSet(3);
     private static final Int2ObjectMap<Path> dimensionPathByDimensionId = new Int2ObjectOpenHashMap<>(3);
     private static final Int2ObjectOpenHashMap<WorldServer> worldByDimensionId = new Int2ObjectOpenHashMap<>(3);
-    private static final Map<String, WorldProperties> worldPropertiesByFolderName = new HashMap<>(3);
-    private static final Map<UUID, WorldProperties> worldPropertiesByWorldUuid =  new HashMap<>(3);
+    // Concurrent, as the world argument of commands is completed off the main thread
+    private static final Map<String, WorldProperties> worldPropertiesByFolderName = new ConcurrentHashMap<>(3);
+    private static final Map<UUID, WorldProperties> worldPropertiesByWorldUuid =  new ConcurrentHashMap<>(3);
     private static final BiMap<String, UUID> worldUuidByFolderName =  HashBiMap.create(3);
     private static final BitSet dimensionBits = new BitSet(Long.SIZE << 4);
     private static final Map<WorldServer, WorldServer> weakWorldByWorld = new MapMaker().weakKeys().weakValues().concurrencyLevel(1).makeMap();
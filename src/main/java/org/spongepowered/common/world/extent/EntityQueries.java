@@ -0,0 +1,237 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.common.world.extent;
+
+import com.flowpowered.math.vector.Vector3d;
+import net.minecraft.util.ClassInheritanceMultiMap;
+import net.minecraft.util.math.MathHelper;
+import net.minecraft.world.World;
+import net.minecraft.world.chunk.Chunk;
+import org.spongepowered.api.entity.Entity;
+import org.spongepowered.api.entity.EntityType;
+import org.spongepowered.common.interfaces.world.IMixinWorldServer;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+import java.util.Objects;
+import java.util.function.Consumer;
+import java.util.function.Predicate;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+/**
+ * Entity queries which walk the entity lists of a world or chunk directly,
+ * instead of copying the loaded entity list first.
+ *
+ * <p>The visitors and streams are backed by the live entity lists, so they
+ * must be used from the main thread and must not spawn or unload entities
+ * while iterating. Use the collecting methods when that is needed.</p>
+ */
+public final class EntityQueries {
+
+    /**
+     * Entities are moved between chunks once per tick, so an entity may still
+     * be stored in a neighbouring chunk of the one its position is in.
+     */
+    private static final double CHUNK_MARGIN = 2.0D;
+
+    private EntityQueries() {
+    }
+
+    @SuppressWarnings("unchecked")
+    public static void forEachEntity(World world, Consumer<? super Entity> visitor) {
+        final List<net.minecraft.entity.Entity> entities = world.loadedEntityList;
+        for (int i = 0; i < entities.size(); i++) {
+            visitor.accept((Entity) entities.get(i));
+        }
+    }
+
+    public static void forEachEntityOfType(World world, EntityType type, Consumer<? super Entity> visitor) {
+        if (world instanceof IMixinWorldServer) {
+            for (net.minecraft.entity.Entity entity : ((IMixinWorldServer) world).getEntityTypeIndex().get(type)) {
+                visitor.accept((Entity) entity);
+            }
+            return;
+        }
+        forEachEntity(world, entity -> {
+            if (entity.getType() == type) {
+                visitor.accept(entity);
+            }
+        });
+    }
+
+    public static void forEachEntityInChunk(Chunk chunk, Consumer<? super Entity> visitor) {
+        for (ClassInheritanceMultiMap<net.minecraft.entity.Entity> entityList : chunk.getEntityLists()) {
+            for (net.minecraft.entity.Entity entity : entityList) {
+                visitor.accept((Entity) entity);
+            }
+        }
+    }
+
+    /**
+     * Visits the entities whose position is within the given box, bounds
+     * included, by walking the entity lists of the loaded chunks overlapping
+     * the box. Falls back to the loaded entity list when the box covers more
+     * chunks than there are loaded entities.
+     *
+     * @param world The world to query
+     * @param min The minimum position of the box
+     * @param max The maximum position of the box
+     * @param visitor The visitor
+     */
+    public static void forEachEntityInBox(World world, Vector3d min, Vector3d max, Consumer<? super Entity> visitor) {
+        final Consumer<net.minecraft.entity.Entity> boxVisitor = entity -> {
+            if (isInBox(entity, min, max)) {
+                visitor.accept((Entity) entity);
+            }
+        };
+        if (!isChunkBounded(world, min, max)) {
+            final List<net.minecraft.entity.Entity> entities = world.loadedEntityList;
+            for (int i = 0; i < entities.size(); i++) {
+                boxVisitor.accept(entities.get(i));
+            }
+            return;
+        }
+        final int minChunkX = MathHelper.floor_double(min.getX() - CHUNK_MARGIN) >> 4;
+        final int maxChunkX = MathHelper.floor_double(max.getX() + CHUNK_MARGIN) >> 4;
+        final int minChunkZ = MathHelper.floor_double(min.getZ() - CHUNK_MARGIN) >> 4;
+        final int maxChunkZ = MathHelper.floor_double(max.getZ() + CHUNK_MARGIN) >> 4;
+        for (int chunkX = minChunkX; chunkX <= maxChunkX; chunkX++) {
+            for (int chunkZ = minChunkZ; chunkZ <= maxChunkZ; chunkZ++) {
+                final Chunk chunk = world.getChunkProvider().getLoadedChunk(chunkX, chunkZ);
+                if (chunk == null) {
+                    continue;
+                }
+                final ClassInheritanceMultiMap<net.minecraft.entity.Entity>[] entityLists = chunk.getEntityLists();
+                final int maxSection = getSection(max.getY() + CHUNK_MARGIN, entityLists.length);
+                for (int section = getSection(min.getY() - CHUNK_MARGIN, entityLists.length); section <= maxSection; section++) {
+                    for (net.minecraft.entity.Entity entity : entityLists[section]) {
+                        boxVisitor.accept(entity);
+                    }
+                }
+            }
+        }
+    }
+
+    /**
+     * Visits the entities whose position is within the given distance of the
+     * center.
+     *
+     * @param world The world to query
+     * @param center The center of the sphere
+     * @param radius The radius of the sphere
+     * @param visitor The visitor
+     */
+    public static void forEachEntityInRadius(World world, Vector3d center, double radius, Consumer<? super Entity> visitor) {
+        final double radiusSquared = radius * radius;
+        final Vector3d offset = new Vector3d(radius, radius, radius);
+        forEachEntityInBox(world, center.sub(offset), center.add(offset), entity -> {
+            final net.minecraft.entity.Entity mcEntity = (net.minecraft.entity.Entity) entity;
+            if (mcEntity.getDistanceSq(center.getX(), center.getY(), center.getZ()) <= radiusSquared) {
+                visitor.accept(entity);
+            }
+        });
+    }
+
+    /**
+     * Gets a lazy stream of the entities whose position is within the given
+     * box, bounds included.
+     *
+     * @param world The world to query
+     * @param min The minimum position of the box
+     * @param max The maximum position of the box
+     * @return The stream of entities
+     */
+    @SuppressWarnings("unchecked")
+    public static Stream<Entity> streamEntitiesInBox(World world, Vector3d min, Vector3d max) {
+        if (!isChunkBounded(world, min, max)) {
+            return world.loadedEntityList.stream()
+                    .filter(entity -> isInBox(entity, min, max))
+                    .map(entity -> (Entity) entity);
+        }
+        final int minChunkZ = MathHelper.floor_double(min.getZ() - CHUNK_MARGIN) >> 4;
+        final int maxChunkZ = MathHelper.floor_double(max.getZ() + CHUNK_MARGIN) >> 4;
+        return IntStream.rangeClosed(MathHelper.floor_double(min.getX() - CHUNK_MARGIN) >> 4, MathHelper.floor_double(max.getX() + CHUNK_MARGIN) >> 4)
+                .boxed()
+                .flatMap(chunkX -> IntStream.rangeClosed(minChunkZ, maxChunkZ)
+                        .mapToObj(chunkZ -> world.getChunkProvider().getLoadedChunk(chunkX, chunkZ)))
+                .filter(Objects::nonNull)
+                .flatMap(chunk -> {
+                    final ClassInheritanceMultiMap<net.minecraft.entity.Entity>[] entityLists = chunk.getEntityLists();
+                    return Arrays.stream(entityLists, getSection(min.getY() - CHUNK_MARGIN, entityLists.length),
+                            getSection(max.getY() + CHUNK_MARGIN, entityLists.length) + 1);
+                })
+                .flatMap(Collection::stream)
+                .filter(entity -> isInBox(entity, min, max))
+                .map(entity -> (Entity) entity);
+    }
+
+    /**
+     * Collects the entities within the given box which match the filter.
+     * The returned list is a new copy and can be freely modified.
+     *
+     * @param world The world to query
+     * @param min The minimum position of the box
+     * @param max The maximum position of the box
+     * @param filter The filter
+     * @return The matching entities
+     */
+    public static List<Entity> getEntitiesInBox(World world, Vector3d min, Vector3d max, Predicate<? super Entity> filter) {
+        final List<Entity> entities = new ArrayList<>();
+        forEachEntityInBox(world, min, max, entity -> {
+            if (filter.test(entity)) {
+                entities.add(entity);
+            }
+        });
+        return entities;
+    }
+
+    private static boolean isChunkBounded(World world, Vector3d min, Vector3d max) {
+        final double chunksX = Math.floor((max.getX() - min.getX()) / 16) + 2;
+        final double chunksZ = Math.floor((max.getZ() - min.getZ()) / 16) + 2;
+        return chunksX * chunksZ <= world.loadedEntityList.size();
+    }
+
+    // Entities outside of the build height are stored in the bottom or top section.
+    // The bounds are checked before flooring, so unbounded Y values can't overflow
+    private static int getSection(double y, int sections) {
+        if (y < 0) {
+            return 0;
+        }
+        if (y >= sections << 4) {
+            return sections - 1;
+        }
+        return MathHelper.floor_double(y) >> 4;
+    }
+
+    private static boolean isInBox(net.minecraft.entity.Entity entity, Vector3d min, Vector3d max) {
+        return entity.posX >= min.getX() && entity.posX <= max.getX()
+                && entity.posY >= min.getY() && entity.posY <= max.getY()
+                && entity.posZ >= min.getZ() && entity.posZ <= max.getZ();
+    }
+
+}
@@ -434,6 +434,10 @@ public Optional<Entity> getEntity(UUID uuid) {
 
     @Override
     public Collection<Entity> getEntities() {
+        if (this.extent instanceof net.minecraft.world.World) {
+            return EntityQueries.getEntitiesInBox((net.minecraft.world.World) this.extent, this.blockMin.toDouble(), this.blockMax.toDouble(),
+                    entity -> true);
+        }
         final Collection<Entity> entities = this.extent.getEntities();
         for (Iterator<Entity> iterator = entities.iterator(); iterator.hasNext(); ) {
             final Entity tileEntity = iterator.next();
@@ -447,6 +451,10 @@ public Collection<Entity> getEntities() {
 
     @Override
     public Collection<Entity> getEntities(Predicate<Entity> filter) {
+        if (this.extent instanceof net.minecraft.world.World) {
+            return EntityQueries.getEntitiesInBox((net.minecraft.world.World) this.extent, this.blockMin.toDouble(), this.blockMax.toDouble(),
+                    filter);
+        }
         // Order matters! Bounds filter before the argument filter so it doesn't see out of bounds entities
         return this.extent.getEntities(Functional.predicateAnd(input -> {
             final Location<World> block = input.getLocation();
@@ -0,0 +1,167 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.common.world.storage;
+
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import net.minecraft.nbt.NBTTagCompound;
+import net.minecraft.util.math.ChunkPos;
+import org.spongepowered.common.config.category.WorldCategory;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import javax.annotation.Nullable;
+
+/**
+ * A short-lived cache of chunks that were recently unloaded from a world.
+ *
+ * <p>Players moving along chunk borders will cause the same chunks to be
+ * unloaded and loaded again repeatedly. This cache keeps the serialized
+ * chunk data written on unload for a limited time so that a reload can skip
+ * reading the region file. The data is handed out only once, as the chunk
+ * will be serialized again the next time it is unloaded.</p>
+ *
+ * <p>Regardless of whether chunk data is cached, every unload is remembered
+ * for the configured reload window so that the number of reloads can be
+ * reported, which helps with tuning view distance and unload settings.</p>
+ */
+public final class UnloadedChunkCache {
+
+    // Upper bound for the number of unload timestamps that are remembered
+    private static final int MAX_TRACKED_UNLOADS = 1 << 16;
+
+    @Nullable private final Cache<Long, NBTTagCompound> chunkData;
+    private final Cache<Long, Long> unloadTimes;
+    private final int reloadWindow;
+
+    private final AtomicLong unloads = new AtomicLong();
+    private final AtomicLong reloads = new AtomicLong();
+    private final AtomicLong hits = new AtomicLong();
+
+    public static UnloadedChunkCache of(WorldCategory category) {
+        return new UnloadedChunkCache(category.getChunkUnloadCacheSize(), category.getChunkUnloadCacheExpiry(),
+                category.getChunkReloadWindow());
+    }
+
+    public UnloadedChunkCache(int maxChunks, int expireSeconds, int reloadWindowSeconds) {
+        if (maxChunks > 0 && expireSeconds > 0) {
+            this.chunkData = CacheBuilder.newBuilder()
+                    .maximumSize(maxChunks)
+                    .expireAfterWrite(expireSeconds, TimeUnit.SECONDS)
+                    .build();
+        } else {
+            this.chunkData = null;
+        }
+        this.reloadWindow = Math.max(1, reloadWindowSeconds);
+        this.unloadTimes = CacheBuilder.newBuilder()
+                .maximumSize(MAX_TRACKED_UNLOADS)
+                .expireAfterWrite(this.reloadWindow, TimeUnit.SECONDS)
+                .build();
+    }
+
+    /**
+     * Records that the chunk at the given position was unloaded and
+     * serialized to the given compound.
+     *
+     * @param pos The chunk position
+     * @param compound The serialized chunk, or null if it is unavailable
+     */
+    public void onChunkUnload(ChunkPos pos, @Nullable NBTTagCompound compound) {
+        final Long key = ChunkPos.chunkXZ2Int(pos.chunkXPos, pos.chunkZPos);
+        this.unloads.incrementAndGet();
+        this.unloadTimes.put(key, System.currentTimeMillis());
+        if (this.chunkData != null) {
+            if (compound == null) {
+                this.chunkData.invalidate(key);
+            } else {
+                this.chunkData.put(key, compound);
+            }
+        }
+    }
+
+    /**
+     * Records that the chunk at the given position is being loaded and
+     * returns the cached serialized chunk, if one is still available.
+     *
+     * @param pos The chunk position
+     * @return The cached chunk data, or null if it needs to be read from disk
+     */
+    @Nullable
+    public NBTTagCompound onChunkLoad(ChunkPos pos) {
+        final Long key = ChunkPos.chunkXZ2Int(pos.chunkXPos, pos.chunkZPos);
+        if (this.unloadTimes.getIfPresent(key) != null) {
+            this.unloadTimes.invalidate(key);
+            this.reloads.incrementAndGet();
+        }
+        if (this.chunkData == null) {
+            return null;
+        }
+        final NBTTagCompound compound = this.chunkData.getIfPresent(key);
+        if (compound != null) {
+            this.chunkData.invalidate(key);
+            this.hits.incrementAndGet();
+        }
+        return compound;
+    }
+
+    public boolean isCachingChunkData() {
+        return this.chunkData != null;
+    }
+
+    public long getCachedChunkCount() {
+        return this.chunkData == null ? 0 : this.chunkData.size();
+    }
+
+    public int getReloadWindow() {
+        return this.reloadWindow;
+    }
+
+    public long getUnloadCount() {
+        return this.unloads.get();
+    }
+
+    /**
+     * Gets the number of chunks that were loaded again within the reload
+     * window after being unloaded.
+     *
+     * @return The reload count
+     */
+    public long getReloadCount() {
+        return this.reloads.get();
+    }
+
+    public long getHitCount() {
+        return this.hits.get();
+    }
+
+    public void invalidateAll() {
+        if (this.chunkData != null) {
+            this.chunkData.invalidateAll();
+        }
+        this.unloadTimes.invalidateAll();
+    }
+
+}
@@ -0,0 +1,112 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.common.data.persistence;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import org.junit.Test;
+import org.spongepowered.api.data.DataContainer;
+import org.spongepowered.api.data.DataQuery;
+import org.spongepowered.api.data.MemoryDataContainer;
+import org.spongepowered.api.data.persistence.InvalidDataFormatException;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.Arrays;
+
+public class BinaryDataFormatTest {
+
+    private final BinaryDataFormat format = new BinaryDataFormat("binary");
+
+    @Test
+    public void testRoundTrip() throws IOException {
+        final DataContainer container = new MemoryDataContainer()
+                .set(DataQuery.of("string"), "foo")
+                .set(DataQuery.of("flag"), true)
+                .set(DataQuery.of("byte"), (byte) 3)
+                .set(DataQuery.of("int"), -42)
+                .set(DataQuery.of("long"), Long.MIN_VALUE)
+                .set(DataQuery.of("double"), 2.5D)
+                .set(DataQuery.of("nested", "int"), Integer.MAX_VALUE)
+                .set(DataQuery.of("nested", "deeper", "string"), "bar")
+                .set(DataQuery.of("list"), Arrays.asList("a", "b", "c"));
+
+        final DataContainer read = roundTrip(container);
+        assertTrue(container.equals(read));
+    }
+
+    @Test
+    public void testPrimitiveArrays() throws IOException {
+        final DataContainer container = new MemoryDataContainer()
+                .set(DataQuery.of("bytes"), new byte[] {1, 2, 3})
+                .set(DataQuery.of("ints"), new int[] {-1, 0, 1})
+                .set(DataQuery.of("longs"), new long[] {Long.MAX_VALUE, 7L});
+
+        final DataContainer read = roundTrip(container);
+        assertArrayEquals(new byte[] {1, 2, 3}, (byte[]) read.get(DataQuery.of("bytes")).get());
+        assertArrayEquals(new int[] {-1, 0, 1}, (int[]) read.get(DataQuery.of("ints")).get());
+        assertArrayEquals(new long[] {Long.MAX_VALUE, 7L}, (long[]) read.get(DataQuery.of("longs")).get());
+    }
+
+    @Test
+    public void testSequentialViews() throws IOException {
+        final ByteArrayOutputStream output = new ByteArrayOutputStream();
+        for (int i = 0; i < 3; i++) {
+            this.format.writeTo(output, new MemoryDataContainer().set(DataQuery.of("index"), i));
+        }
+        final InputStream input = new ByteArrayInputStream(output.toByteArray());
+        for (int i = 0; i < 3; i++) {
+            assertEquals(i, (int) this.format.readFrom(input).getInt(DataQuery.of("index")).get());
+        }
+    }
+
+    @Test
+    public void testInternedKeysAreSmaller() throws IOException {
+        final DataContainer container = new MemoryDataContainer();
+        for (int i = 0; i < 10; i++) {
+            container.set(DataQuery.of("entry" + i, "some_long_key_name"), i);
+        }
+        final ByteArrayOutputStream output = new ByteArrayOutputStream();
+        this.format.writeTo(output, container);
+        // The repeated key is only written in full once
+        assertTrue(output.size() < 10 * "some_long_key_name".length());
+    }
+
+    @Test(expected = InvalidDataFormatException.class)
+    public void testInvalidMagic() throws IOException {
+        this.format.readFrom(new ByteArrayInputStream(new byte[] {0, 1, 2, 3, 4}));
+    }
+
+    private DataContainer roundTrip(DataContainer container) throws IOException {
+        final ByteArrayOutputStream output = new ByteArrayOutputStream();
+        this.format.writeTo(output, container);
+        return this.format.readFrom(new ByteArrayInputStream(output.toByteArray()));
+    }
+
+}
@@ -0,0 +1,72 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.common.event.tracking.phase;
+
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertSame;
+import static org.mockito.Mockito.mock;
+
+import net.minecraft.world.Explosion;
+import org.junit.Test;
+import org.spongepowered.api.entity.Entity;
+import org.spongepowered.api.event.cause.Cause;
+import org.spongepowered.api.event.cause.NamedCause;
+import org.spongepowered.common.event.InternalNamedCauses;
+import org.spongepowered.common.event.tracking.PhaseContext;
+
+public class GeneralPhaseTest {
+
+    @Test
+    public void testExplosionBlockDropsCarryTheExplosion() {
+        final Explosion explosion = mock(Explosion.class);
+        final Entity exploder = mock(Entity.class);
+        final PhaseContext context = PhaseContext.start()
+                .add(NamedCause.source(explosion))
+                .add(NamedCause.of(InternalNamedCauses.General.EXPLODER, exploder))
+                .addCaptures()
+                .complete();
+
+        final Cause.Builder builder = Cause.source("drop");
+        TrackingPhases.GENERAL.appendBlockDropCauses(builder, GeneralPhase.State.EXPLOSION, context);
+        final Cause cause = builder.build();
+
+        assertSame(explosion, cause.getNamedCauses().get(InternalNamedCauses.General.EXPLOSION));
+        assertSame(exploder, cause.getNamedCauses().get(InternalNamedCauses.General.EXPLODER));
+    }
+
+    @Test
+    public void testOtherBlockDropsDoNotCarryAnExplosion() {
+        final PhaseContext context = PhaseContext.start()
+                .add(NamedCause.source(mock(Explosion.class)))
+                .addCaptures()
+                .complete();
+
+        final Cause.Builder builder = Cause.source("drop");
+        TrackingPhases.GENERAL.appendBlockDropCauses(builder, GeneralPhase.State.COMMAND, context);
+
+        assertFalse(builder.build().getNamedCauses().containsKey(InternalNamedCauses.General.EXPLOSION));
+    }
+
+}
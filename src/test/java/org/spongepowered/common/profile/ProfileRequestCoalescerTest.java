@@ -0,0 +1,195 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.common.profile;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.Matchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.spongepowered.api.profile.GameProfile;
+import org.spongepowered.api.profile.GameProfileCache;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+public class ProfileRequestCoalescerTest {
+
+    private ExecutorService executor;
+    private ScheduledExecutorService timer;
+    private ProfileRequestCoalescer coalescer;
+    private GameProfileCache cache;
+    private final AtomicInteger lookups = new AtomicInteger();
+    private final AtomicInteger lookedUpProfiles = new AtomicInteger();
+    // Lookups wait for this before answering, to keep them running while more requests arrive
+    private volatile CountDownLatch answer = new CountDownLatch(0);
+
+    @Before
+    @SuppressWarnings("unchecked")
+    public void setUp() {
+        this.executor = Executors.newCachedThreadPool();
+        this.timer = Executors.newSingleThreadScheduledExecutor();
+        this.coalescer = new ProfileRequestCoalescer(this.executor, this.timer, 50);
+        // A stand-in for the lookup service, answering every request and
+        // counting how often it has been asked
+        this.cache = mock(GameProfileCache.class);
+        when(this.cache.lookupByIds(any(Iterable.class))).thenAnswer(invocation -> {
+            this.lookups.incrementAndGet();
+            this.answer.await();
+            final Map<UUID, Optional<GameProfile>> result = new HashMap<>();
+            for (UUID uniqueId : (Iterable<UUID>) invocation.getArguments()[0]) {
+                this.lookedUpProfiles.incrementAndGet();
+                result.put(uniqueId, Optional.of(profile(uniqueId, uniqueId.toString())));
+            }
+            return result;
+        });
+        when(this.cache.lookupByNames(any(Iterable.class))).thenAnswer(invocation -> {
+            this.lookups.incrementAndGet();
+            this.answer.await();
+            final Map<String, Optional<GameProfile>> result = new HashMap<>();
+            for (String name : (Iterable<String>) invocation.getArguments()[0]) {
+                this.lookedUpProfiles.incrementAndGet();
+                result.put(name, Optional.of(profile(UUID.randomUUID(), name.toUpperCase())));
+            }
+            return result;
+        });
+    }
+
+    @After
+    public void tearDown() {
+        this.timer.shutdownNow();
+        this.executor.shutdownNow();
+    }
+
+    private static GameProfile profile(UUID uniqueId, String name) {
+        final GameProfile profile = mock(GameProfile.class);
+        when(profile.getUniqueId()).thenReturn(uniqueId);
+        when(profile.getName()).thenReturn(Optional.of(name));
+        return profile;
+    }
+
+    @Test
+    public void testSingleLookupIsNotDelayed() throws Exception {
+        final ProfileRequestCoalescer coalescer = new ProfileRequestCoalescer(this.executor, this.timer, TimeUnit.MINUTES.toMillis(1));
+        final UUID uniqueId = UUID.randomUUID();
+
+        assertEquals(uniqueId, coalescer.get(this.cache, uniqueId, false).get(5, TimeUnit.SECONDS).getUniqueId());
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    public void testConcurrentUniqueIdLookupsAreBatched() {
+        this.answer = new CountDownLatch(1);
+        final CompletableFuture<GameProfile> running = this.coalescer.get(this.cache, UUID.randomUUID(), false);
+        final List<UUID> uniqueIds = new ArrayList<>();
+        for (int i = 0; i < 10; i++) {
+            uniqueIds.add(UUID.randomUUID());
+        }
+        final List<CompletableFuture<GameProfile>> futures = new ArrayList<>();
+        for (int i = 0; i < 100; i++) {
+            futures.add(this.coalescer.get(this.cache, uniqueIds.get(i % uniqueIds.size()), false));
+        }
+        this.answer.countDown();
+        running.join();
+        for (int i = 0; i < futures.size(); i++) {
+            assertEquals(uniqueIds.get(i % uniqueIds.size()), futures.get(i).join().getUniqueId());
+        }
+
+        // The running lookup, then 100 requests for 10 distinct profiles in one batched lookup
+        assertEquals(2, this.lookups.get());
+        assertEquals(uniqueIds.size() + 1, this.lookedUpProfiles.get());
+        verify(this.cache, times(2)).lookupByIds(any(Iterable.class));
+    }
+
+    @Test
+    public void testFullBatchIsNotDelayed() throws Exception {
+        final ProfileRequestCoalescer coalescer = new ProfileRequestCoalescer(this.executor, this.timer, TimeUnit.MINUTES.toMillis(1));
+        this.answer = new CountDownLatch(1);
+        final CompletableFuture<GameProfile> running = coalescer.get(this.cache, UUID.randomUUID(), false);
+        final List<CompletableFuture<GameProfile>> futures = new ArrayList<>();
+        for (int i = 0; i < ProfileRequestCoalescer.MAX_BATCH_SIZE; i++) {
+            futures.add(coalescer.get(this.cache, UUID.randomUUID(), false));
+        }
+        this.answer.countDown();
+        running.get(5, TimeUnit.SECONDS);
+        for (CompletableFuture<GameProfile> future : futures) {
+            assertTrue(future.get(5, TimeUnit.SECONDS).getName().isPresent());
+        }
+        assertEquals(2, this.lookups.get());
+    }
+
+    @Test
+    public void testConcurrentNameLookupsAreShared() {
+        this.answer = new CountDownLatch(1);
+        final CompletableFuture<GameProfile> first = this.coalescer.get(this.cache, "Notch", false);
+        final CompletableFuture<GameProfile> second = this.coalescer.get(this.cache, "notch", false);
+        final CompletableFuture<GameProfile> other = this.coalescer.get(this.cache, "jeb_", false);
+        this.answer.countDown();
+
+        assertSame(first.join(), second.join());
+        assertEquals("JEB_", other.join().getName().get());
+        // The first lookup runs at once, the other one is batched while it runs
+        assertEquals(2, this.lookups.get());
+        assertEquals(2, this.lookedUpProfiles.get());
+    }
+
+    @Test
+    public void testLaterLookupsAreNotShared() {
+        final UUID uniqueId = UUID.randomUUID();
+        this.coalescer.get(this.cache, uniqueId, false).join();
+        this.coalescer.get(this.cache, uniqueId, false).join();
+
+        assertEquals(2, this.lookups.get());
+    }
+
+    @Test
+    public void testCancellingDoesNotAffectOtherCallers() {
+        final UUID uniqueId = UUID.randomUUID();
+        final CompletableFuture<GameProfile> first = this.coalescer.get(this.cache, uniqueId, false);
+        final CompletableFuture<GameProfile> second = this.coalescer.get(this.cache, uniqueId, false);
+        first.cancel(false);
+
+        assertEquals(uniqueId, second.join().getUniqueId());
+    }
+
+}
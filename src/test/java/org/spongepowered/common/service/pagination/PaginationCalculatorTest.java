@@ -55,4 +55,11 @@ public void linesTest() throws Exception {
         verifyZeroInteractions(src);
     }
 
+    @Test
+    public void codePointWidthTest() throws Exception {
+        assertEquals("Space should be 4 wide", 4, pc.getWidth(' ', false));
+        assertEquals("Bold space should be 5 wide", 5, pc.getWidth(' ', true));
+        assertEquals("Code points without a glyph should have no width", 0, pc.getWidth(Character.MAX_CODE_POINT, true));
+    }
+
 }
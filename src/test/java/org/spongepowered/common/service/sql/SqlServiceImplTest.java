@@ -25,11 +25,23 @@
 package org.spongepowered.common.service.sql;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotSame;
 import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
 
 import org.junit.Test;
+import org.spongepowered.common.config.category.SqlPoolCategory;
 
+import java.sql.Connection;
+import java.sql.ResultSet;
 import java.sql.SQLException;
+import java.sql.SQLTransientConnectionException;
+import java.sql.Statement;
+import java.util.concurrent.TimeUnit;
+
+import javax.sql.DataSource;
 
 public class SqlServiceImplTest {
     @Test
@@ -64,4 +76,119 @@ public void testSqliteConnectionInfo() throws SQLException {
         assertEquals(jdbcUrl, subject.getAuthlessUrl());
         assertEquals("org.sqlite.JDBC", subject.getDriverClassName());
     }
+
+    @Test
+    public void testPoolsAreSharedBetweenPlugins() throws Exception {
+        final SqlServiceImpl service = new SqlServiceImpl();
+        try {
+            final SqlServiceImpl.ConnectionInfo info = SqlServiceImpl.ConnectionInfo.fromUrl(null, "jdbc:h2:mem:shared;DB_CLOSE_DELAY=-1");
+            final SqlPoolCategory settings = new SqlPoolCategory();
+            final DataSource first = service.getDataSource("first", info, settings, null);
+            final DataSource second = service.getDataSource("second", info, settings, null);
+
+            assertNotSame(first, second);
+            assertSame(first, service.getDataSource("first", info, settings, null));
+            try (Connection connection = first.getConnection(); Statement statement = connection.createStatement()) {
+                statement.execute("CREATE TABLE shared (id INT)");
+                statement.execute("INSERT INTO shared VALUES (1)");
+            }
+            try (Connection connection = second.getConnection(); Statement statement = connection.createStatement();
+                    ResultSet result = statement.executeQuery("SELECT COUNT(*) FROM shared")) {
+                assertTrue(result.next());
+                assertEquals(1, result.getInt(1));
+            }
+
+            assertEquals(1, service.getPools().size());
+            final SqlPoolMXBean pool = service.getPools().iterator().next();
+            assertEquals(2, pool.getConnectionRequests());
+            assertEquals(0, pool.getActiveConnections());
+        } finally {
+            service.close();
+        }
+    }
+
+    @Test
+    public void testPluginConnectionLimit() throws Exception {
+        final SqlServiceImpl service = new SqlServiceImpl();
+        try {
+            final SqlServiceImpl.ConnectionInfo info = SqlServiceImpl.ConnectionInfo.fromUrl(null, "jdbc:sqlite::memory:");
+            final SqlPoolCategory settings = new SqlPoolCategory();
+            settings.setPluginConnectionLimit(1);
+            settings.setConnectionTimeout(250);
+            final DataSource limited = service.getDataSource("limited", info, settings, null);
+            final DataSource other = service.getDataSource("other", info, settings, null);
+
+            final Connection connection = limited.getConnection();
+            try {
+                limited.getConnection().close();
+                throw new AssertionError("The plugin's connection limit was not applied");
+            } catch (SQLTransientConnectionException expected) {
+                // The only connection allowed is in use
+            }
+            // Other plugins have their own share of the pool
+            other.getConnection().close();
+            assertEquals(1, service.getPools().iterator().next().getActiveConnections());
+
+            connection.close();
+            assertTrue(connection.isClosed());
+            limited.getConnection().close();
+        } finally {
+            service.close();
+        }
+    }
+
+    @Test
+    public void testChildConnectionsReleaseThePluginShare() throws Exception {
+        final SqlServiceImpl service = new SqlServiceImpl();
+        try {
+            final SqlServiceImpl.ConnectionInfo info = SqlServiceImpl.ConnectionInfo.fromUrl(null, "jdbc:h2:mem:children");
+            final SqlPoolCategory settings = new SqlPoolCategory();
+            settings.setPluginConnectionLimit(1);
+            settings.setConnectionTimeout(250);
+            final DataSource dataSource = service.getDataSource("plugin", info, settings, null);
+
+            final Connection connection = dataSource.getConnection();
+            final Statement statement = connection.createStatement();
+            assertSame(connection, statement.getConnection());
+            assertSame(connection, statement.executeQuery("SELECT 1").getStatement().getConnection());
+            assertSame(connection, connection.getMetaData().getConnection());
+
+            // Closing the connection of a statement gives the plugin's connection back
+            statement.getConnection().close();
+            assertTrue(connection.isClosed());
+            dataSource.getConnection().close();
+            assertEquals(0, service.getPools().iterator().next().getActiveConnections());
+        } finally {
+            service.close();
+        }
+    }
+
+    @Test
+    public void testIdlePoolsAreEvicted() throws Exception {
+        final SqlServiceImpl service = new SqlServiceImpl();
+        try {
+            final SqlServiceImpl.ConnectionInfo info = SqlServiceImpl.ConnectionInfo.fromUrl(null, "jdbc:h2:mem:evicted");
+            final SqlPoolCategory settings = new SqlPoolCategory();
+            settings.setIdlePoolTimeout(1);
+            final DataSource dataSource = service.getDataSource("plugin", info, settings, null);
+
+            final long idle = TimeUnit.SECONDS.toNanos(2);
+            final Connection connection = dataSource.getConnection();
+            service.evictIdlePools(System.nanoTime() + idle);
+            // Pools with borrowed connections are kept open
+            assertEquals(1, service.getPools().size());
+
+            connection.close();
+            service.evictIdlePools(System.nanoTime() + idle);
+            assertTrue(service.getPools().isEmpty());
+
+            // The pool is opened again when it is next used
+            try (Connection reopened = dataSource.getConnection()) {
+                assertFalse(reopened.isClosed());
+            }
+            assertEquals(1, service.getPools().size());
+        } finally {
+            service.close();
+        }
+    }
 }
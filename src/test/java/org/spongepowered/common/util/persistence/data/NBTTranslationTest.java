@@ -24,8 +24,10 @@
  */
 package org.spongepowered.common.util.persistence.data;
 
+import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertTrue;
 
+import net.minecraft.nbt.CompressedStreamTools;
 import net.minecraft.nbt.NBTTagCompound;
 import org.junit.Test;
 import org.mockito.Mockito;
@@ -37,6 +39,12 @@
 import org.spongepowered.common.data.persistence.NbtTranslator;
 import org.spongepowered.api.data.DataManager;
 
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.util.Arrays;
 import java.util.Optional;
 
 public class NBTTranslationTest {
@@ -63,4 +71,26 @@ public void testDotContainerKeys() {
         assertTrue(container.equals(translatedContainer));
     }
 
+    @Test
+    public void testStreamingTranslation() throws IOException {
+        final DataContainer container = new MemoryDataContainer()
+                .set(DataQuery.of("foo"), "bar")
+                .set(DataQuery.of("flag"), true)
+                .set(DataQuery.of("my.key.to.data"), 1)
+                .set(DataQuery.of("nested", "value"), 10.0D)
+                .set(DataQuery.of("list"), Arrays.asList("a", "b", "c"));
+
+        // Streamed output must be readable as regular NBT
+        final ByteArrayOutputStream streamed = new ByteArrayOutputStream();
+        NbtTranslator.getInstance().write(new DataOutputStream(streamed), container);
+        final NBTTagCompound compound = CompressedStreamTools.read(new DataInputStream(new ByteArrayInputStream(streamed.toByteArray())));
+        assertEquals(NbtTranslator.getInstance().translateData(container), compound);
+
+        // Regular NBT output must be readable by the streaming reader
+        final ByteArrayOutputStream written = new ByteArrayOutputStream();
+        CompressedStreamTools.write(compound, new DataOutputStream(written));
+        final DataView read = NbtTranslator.getInstance().read(new DataInputStream(new ByteArrayInputStream(written.toByteArray())));
+        assertTrue(container.equals(read));
+    }
+
 }
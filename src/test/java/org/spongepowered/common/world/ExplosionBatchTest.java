@@ -0,0 +1,98 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.common.world;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+
+import net.minecraft.util.math.BlockPos;
+import net.minecraft.world.Explosion;
+import org.junit.Test;
+
+import java.util.Arrays;
+import java.util.List;
+
+public class ExplosionBatchTest {
+
+    @Test
+    public void testOverlappingExplosionsFormOneCluster() {
+        final ExplosionBatch.PendingExplosion first = createExplosion(4, 64, 4, 2);
+        final ExplosionBatch.PendingExplosion second = createExplosion(6, 64, 4, 2);
+
+        final List<List<ExplosionBatch.PendingExplosion>> clusters = ExplosionBatch.cluster(Arrays.asList(first, second));
+        assertEquals(1, clusters.size());
+        assertEquals(Arrays.asList(first, second), clusters.get(0));
+    }
+
+    @Test
+    public void testSeparateExplosionsInOneChunkFormSeparateClusters() {
+        final ExplosionBatch.PendingExplosion first = createExplosion(2, 64, 2, 1);
+        final ExplosionBatch.PendingExplosion second = createExplosion(12, 64, 12, 1);
+        final ExplosionBatch.PendingExplosion third = createExplosion(2, 100, 2, 1);
+
+        final List<List<ExplosionBatch.PendingExplosion>> clusters = ExplosionBatch.cluster(Arrays.asList(first, second, third));
+        assertEquals(3, clusters.size());
+        assertSame(first, clusters.get(0).get(0));
+        assertSame(second, clusters.get(1).get(0));
+        assertSame(third, clusters.get(2).get(0));
+    }
+
+    @Test
+    public void testExplosionsOverlappingAcrossAChunkBorderFormOneCluster() {
+        final ExplosionBatch.PendingExplosion first = createExplosion(14, 64, 8, 3);
+        final ExplosionBatch.PendingExplosion second = createExplosion(18, 64, 8, 3);
+
+        assertEquals(1, ExplosionBatch.cluster(Arrays.asList(first, second)).size());
+    }
+
+    @Test
+    public void testExplosionsChainedThroughAnotherFormOneClusterInOrder() {
+        final ExplosionBatch.PendingExplosion first = createExplosion(0, 64, 0, 2);
+        final ExplosionBatch.PendingExplosion far = createExplosion(100, 64, 100, 2);
+        final ExplosionBatch.PendingExplosion last = createExplosion(8, 64, 0, 2);
+        final ExplosionBatch.PendingExplosion middle = createExplosion(4, 64, 0, 2);
+
+        final List<List<ExplosionBatch.PendingExplosion>> clusters = ExplosionBatch.cluster(Arrays.asList(first, far, last, middle));
+        assertEquals(2, clusters.size());
+        assertEquals(Arrays.asList(first, last, middle), clusters.get(0));
+        assertEquals(Arrays.asList(far), clusters.get(1));
+    }
+
+    // Affects every position within the radius on the x and z axes
+    private static ExplosionBatch.PendingExplosion createExplosion(int x, int y, int z, int radius) {
+        final long[] positions = new long[radius * 4 + 1];
+        int i = 0;
+        positions[i++] = new BlockPos(x, y, z).toLong();
+        for (int offset = 1; offset <= radius; offset++) {
+            positions[i++] = new BlockPos(x + offset, y, z).toLong();
+            positions[i++] = new BlockPos(x - offset, y, z).toLong();
+            positions[i++] = new BlockPos(x, y, z + offset).toLong();
+            positions[i++] = new BlockPos(x, y, z - offset).toLong();
+        }
+        final Explosion explosion = new Explosion(null, null, x + 0.5, y + 0.5, z + 0.5, radius, false, true);
+        return new ExplosionBatch.PendingExplosion(explosion, positions);
+    }
+
+}
@@ -0,0 +1,111 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.common.world;
+
+import static org.junit.Assert.assertTrue;
+import static org.mockito.Matchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import net.minecraft.block.Block;
+import net.minecraft.block.material.Material;
+import net.minecraft.block.state.IBlockState;
+import net.minecraft.util.math.BlockPos;
+import net.minecraft.world.Explosion;
+import net.minecraft.world.World;
+import net.minecraft.world.WorldServer;
+import net.minecraft.world.gen.ChunkProviderServer;
+import org.junit.Test;
+
+import java.lang.reflect.Field;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+public class ExplosionRayCasterTest {
+
+    private static final double X = 8.5;
+    private static final double Y = 128.5;
+    private static final double Z = 8.5;
+
+    @Test
+    public void testCoincidentExplosionsPenetrateFurtherThanOne() throws Exception {
+        final WorldServer world = createStoneWorld();
+        final ExplosionBatch batch = new ExplosionBatch(world);
+
+        final Explosion first = new Explosion(world, null, X, Y, Z, 4.0F, false, true);
+        final List<BlockPos> firstPositions = new ArrayList<>();
+        batch.getRayCaster().cast(first, firstPositions);
+        first.getAffectedBlockPositions().addAll(firstPositions);
+        batch.add(first);
+
+        final Explosion second = new Explosion(world, null, X, Y, Z, 4.0F, false, true);
+        final List<BlockPos> secondPositions = new ArrayList<>();
+        batch.getRayCaster().cast(second, secondPositions);
+
+        assertTrue(secondPositions.containsAll(firstPositions));
+        assertTrue(getReach(secondPositions) > getReach(firstPositions));
+    }
+
+    @Test
+    public void testUnclaimedPositionsAreReadFromTheWorld() throws Exception {
+        final WorldServer world = createStoneWorld();
+        final ExplosionBatch batch = new ExplosionBatch(world);
+
+        final List<BlockPos> firstPositions = new ArrayList<>();
+        batch.getRayCaster().cast(new Explosion(world, null, X, Y, Z, 4.0F, false, true), firstPositions);
+        // Not added to the batch, so its blocks are still there for the next explosion
+        final List<BlockPos> secondPositions = new ArrayList<>();
+        batch.getRayCaster().cast(new Explosion(world, null, X, Y, Z, 4.0F, false, true), secondPositions);
+
+        assertTrue(getReach(secondPositions) <= getReach(firstPositions) + 1);
+    }
+
+    private static double getReach(List<BlockPos> positions) {
+        double reach = 0;
+        for (BlockPos pos : positions) {
+            reach = Math.max(reach, pos.distanceSqToCenter(X, Y, Z));
+        }
+        return Math.sqrt(reach);
+    }
+
+    private static WorldServer createStoneWorld() throws Exception {
+        final Block block = mock(Block.class);
+        when(block.getExplosionResistance(null)).thenReturn(6.0F);
+        final IBlockState stone = mock(IBlockState.class);
+        when(stone.getMaterial()).thenReturn(Material.ROCK);
+        when(stone.getBlock()).thenReturn(block);
+
+        final WorldServer world = mock(WorldServer.class);
+        // No chunk is loaded, so every block is read through the world
+        when(world.getChunkProvider()).thenReturn(mock(ChunkProviderServer.class));
+        when(world.getBlockState(any(BlockPos.class))).thenReturn(stone);
+        final Field rand = World.class.getDeclaredField("rand");
+        rand.setAccessible(true);
+        rand.set(world, new Random(0));
+        return world;
+    }
+
+}
@@ -0,0 +1,110 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.common.world.extent;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+import static org.mockito.Mockito.withSettings;
+
+import com.flowpowered.math.vector.Vector3d;
+import net.minecraft.entity.Entity;
+import net.minecraft.util.ClassInheritanceMultiMap;
+import net.minecraft.world.World;
+import net.minecraft.world.chunk.Chunk;
+import net.minecraft.world.chunk.IChunkProvider;
+import org.junit.Test;
+
+import java.lang.reflect.Field;
+import java.util.ArrayList;
+import java.util.List;
+
+public class EntityQueriesTest {
+
+    private static final Vector3d MIN = new Vector3d(0, Double.NEGATIVE_INFINITY, 0);
+    private static final Vector3d MAX = new Vector3d(4, Double.POSITIVE_INFINITY, 4);
+
+    @Test
+    public void testUnboundedYFindsEntitiesOutsideTheBuildHeightInChunks() throws Exception {
+        final Entity above = createEntity(2, 300, 2);
+        final Entity below = createEntity(2, -20, 2);
+        final Entity outside = createEntity(10, 64, 2);
+        final List<Entity> loaded = new ArrayList<>();
+        for (int i = 0; i < 8; i++) {
+            loaded.add(createEntity(100, 64, 100));
+        }
+        final World world = createWorld(loaded, above, below, outside);
+
+        final List<org.spongepowered.api.entity.Entity> entities = EntityQueries.getEntitiesInBox(world, MIN, MAX, entity -> true);
+        assertEquals(2, entities.size());
+        assertTrue(entities.contains(above));
+        assertTrue(entities.contains(below));
+    }
+
+    @Test
+    public void testUnboundedYFindsEntitiesOutsideTheBuildHeightInLoadedList() throws Exception {
+        final Entity above = createEntity(2, 300, 2);
+        final Entity below = createEntity(2, -20, 2);
+        final List<Entity> loaded = new ArrayList<>();
+        loaded.add(above);
+        loaded.add(below);
+        final World world = createWorld(loaded);
+
+        final List<org.spongepowered.api.entity.Entity> entities = EntityQueries.getEntitiesInBox(world, MIN, MAX, entity -> true);
+        assertEquals(2, entities.size());
+    }
+
+    private static Entity createEntity(double x, double y, double z) {
+        final Entity entity = mock(Entity.class, withSettings().extraInterfaces(org.spongepowered.api.entity.Entity.class));
+        entity.posX = x;
+        entity.posY = y;
+        entity.posZ = z;
+        return entity;
+    }
+
+    // Entities outside of the build height are stored in the bottom or top section, like Chunk#addEntity does
+    @SuppressWarnings("unchecked")
+    private static World createWorld(List<Entity> loaded, Entity... chunkEntities) throws Exception {
+        final ClassInheritanceMultiMap<Entity>[] sections = new ClassInheritanceMultiMap[16];
+        for (int i = 0; i < sections.length; i++) {
+            sections[i] = new ClassInheritanceMultiMap<>(Entity.class);
+        }
+        for (Entity entity : chunkEntities) {
+            sections[Math.max(0, Math.min(15, (int) Math.floor(entity.posY) >> 4))].add(entity);
+        }
+        final Chunk chunk = mock(Chunk.class);
+        when(chunk.getEntityLists()).thenReturn(sections);
+        final IChunkProvider chunkProvider = mock(IChunkProvider.class);
+        when(chunkProvider.getLoadedChunk(0, 0)).thenReturn(chunk);
+        final World world = mock(World.class);
+        when(world.getChunkProvider()).thenReturn(chunkProvider);
+        final Field loadedEntityList = World.class.getDeclaredField("loadedEntityList");
+        loadedEntityList.setAccessible(true);
+        loadedEntityList.set(world, loaded);
+        return world;
+    }
+
+}